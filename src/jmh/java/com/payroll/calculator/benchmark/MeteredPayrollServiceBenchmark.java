@@ -0,0 +1,48 @@
+package com.payroll.calculator.benchmark;
+
+import com.payroll.calculator.dto.PayrollRequest;
+import com.payroll.calculator.dto.PayrollResponse;
+import com.payroll.calculator.service.MeteredPayrollService;
+import com.payroll.calculator.service.PayrollService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 지표 기록(MeteredPayrollService) 오버헤드 측정
+ * - 같은 엔진을 그대로 / 지표 기록을 거쳐 호출해 두 결과의 차이를 본다
+ * - 가장 빠른 엔진과 가벼운 근무 패턴에서 오버헤드 비율이 가장 크게 드러난다
+ */
+@State(Scope.Thread)
+public class MeteredPayrollServiceBenchmark {
+
+    @Param({"MAP", "BITSET"})
+    private PayrollEngine engine;
+
+    @Param({"SPARSE_PART_TIME", "DENSE_24_7"})
+    private PayrollWorkload workload;
+
+    private PayrollService plain;
+    private PayrollService metered;
+    private PayrollRequest request;
+
+    @Setup
+    public void setUp() {
+        plain = engine.create();
+        metered = new MeteredPayrollService(engine.create(), engine.name(), new SimpleMeterRegistry());
+        request = workload.request();
+    }
+
+    @Benchmark
+    public PayrollResponse plain() {
+        return plain.calculate(request);
+    }
+
+    @Benchmark
+    public PayrollResponse metered() {
+        return metered.calculate(request);
+    }
+}
@@ -0,0 +1,102 @@
+package com.payroll.calculator.benchmark;
+
+import com.payroll.calculator.money.PayRates;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.SplittableRandom;
+
+/**
+ * 항목별 금액 계산 비용 비교 - 월 급여 하나에 해당하는 항목(기본급, 연장, 야간, 휴일, 주휴 6주) 을 직원 수만큼 계산
+ * - fixedPoint: long 원 단위 + 정수 bp (PayRates, 현재 엔진 방식)
+ * - bigDecimal: 이전 OOP 엔진 방식 (항목마다 BigDecimal 할당)
+ * - floatingPoint: 이전 엔진 방식 (double 곱 후 long 으로 버림)
+ * - -prof gc 로 할당량을 함께 보면 차이가 더 분명하다
+ */
+@State(Scope.Thread)
+public class MoneyBenchmark {
+
+    private static final BigDecimal HALF = BigDecimal.valueOf(0.5);
+    private static final BigDecimal WEEKLY_LIMIT = BigDecimal.valueOf(40);
+
+    @Param({"1000"})
+    private int employees;
+
+    private final PayRates rates = PayRates.standard();
+
+    private int[] wages;
+    private int[] hours;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        wages = new int[employees];
+        hours = new int[employees * 5];
+        for (int e = 0; e < employees; e++) {
+            wages[e] = random.nextInt(10_030, 50_000);
+            for (int i = 0; i < 5; i++) {
+                hours[e * 5 + i] = random.nextInt(0, 200);
+            }
+        }
+    }
+
+    @Benchmark
+    public long fixedPoint() {
+        long sum = 0;
+        for (int e = 0; e < employees; e++) {
+            int wage = wages[e];
+            int h = e * 5;
+            sum += rates.pay(hours[h], wage, PayRates.BASE)
+                    + rates.pay(hours[h + 1], wage, PayRates.OVERTIME)
+                    + rates.pay(hours[h + 2], wage, PayRates.NIGHT)
+                    + rates.pay(hours[h + 3], wage, PayRates.HOLIDAY)
+                    + rates.pay(hours[h + 4], wage, PayRates.HOLIDAY_OVERTIME);
+            for (int week = 0; week < 6; week++) {
+                sum += rates.pay(Math.min(hours[h] / 5 + week, 40), wage, PayRates.WEEKLY_HOLIDAY);
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long bigDecimal() {
+        long sum = 0;
+        for (int e = 0; e < employees; e++) {
+            BigDecimal wage = BigDecimal.valueOf(wages[e]);
+            int h = e * 5;
+            sum += wage.multiply(BigDecimal.valueOf(hours[h])).longValue()
+                    + wage.multiply(BigDecimal.valueOf(hours[h + 1])).multiply(HALF).longValue()
+                    + wage.multiply(BigDecimal.valueOf(hours[h + 2])).multiply(HALF).longValue()
+                    + wage.multiply(BigDecimal.valueOf(hours[h + 3])).multiply(HALF).longValue()
+                    + wage.multiply(BigDecimal.valueOf(hours[h + 4])).longValue();
+            for (int week = 0; week < 6; week++) {
+                sum += wage.multiply(BigDecimal.valueOf(Math.min(hours[h] / 5 + week, 40) * 8L))
+                        .divide(WEEKLY_LIMIT, 0, RoundingMode.DOWN).longValue();
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long floatingPoint() {
+        long sum = 0;
+        for (int e = 0; e < employees; e++) {
+            int wage = wages[e];
+            int h = e * 5;
+            sum += (long) hours[h] * wage
+                    + (long) (hours[h + 1] * (double) wage * 0.5)
+                    + (long) (hours[h + 2] * (double) wage * 0.5)
+                    + (long) (hours[h + 3] * (double) wage * 0.5)
+                    + (long) (hours[h + 4] * (double) wage * 1.0);
+            for (int week = 0; week < 6; week++) {
+                sum += (long) ((Math.min(hours[h] / 5 + week, 40) / (double) 40) * 8 * wage);
+            }
+        }
+        return sum;
+    }
+}
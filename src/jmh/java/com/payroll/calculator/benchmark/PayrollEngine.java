@@ -0,0 +1,37 @@
+package com.payroll.calculator.benchmark;
+
+import com.payroll.calculator.service.OopPayrollService;
+import com.payroll.calculator.service.PayrollService;
+import com.payroll.calculator.service.PayrollServiceBitsetImpl;
+import com.payroll.calculator.service.PayrollServiceImpl;
+import com.payroll.calculator.service.PayrollServiceIntervalImpl;
+import com.payroll.calculator.service.PayrollServiceLegacyImpl;
+import com.payroll.calculator.service.PayrollServicePrimitiveImpl;
+import com.payroll.calculator.service.PayrollServiceTimelineImpl;
+
+import java.util.function.Supplier;
+
+/**
+ * 벤치마크 대상 PayrollService 구현체
+ */
+public enum PayrollEngine {
+
+    MAP(PayrollServiceImpl::new),
+    LEGACY(PayrollServiceLegacyImpl::new),
+    TIMELINE(PayrollServiceTimelineImpl::new),
+    OOP(OopPayrollService::new),
+    OOP_FUSED(() -> new OopPayrollService(OopPayrollService.EvaluationMode.FUSED)),
+    PRIMITIVE(PayrollServicePrimitiveImpl::new),
+    BITSET(PayrollServiceBitsetImpl::new),
+    INTERVAL(PayrollServiceIntervalImpl::new);
+
+    private final Supplier<PayrollService> factory;
+
+    PayrollEngine(Supplier<PayrollService> factory) {
+        this.factory = factory;
+    }
+
+    public PayrollService create() {
+        return factory.get();
+    }
+}
@@ -0,0 +1,48 @@
+package com.payroll.calculator.benchmark;
+
+import com.payroll.calculator.dto.PackedPayrollRequest;
+import com.payroll.calculator.dto.PayrollRequest;
+import com.payroll.calculator.dto.PayrollResponse;
+import com.payroll.calculator.service.PayrollService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * PayrollService 구현체별 처리량/평균 시간/할당량 비교
+ * - 모드와 GC 프로파일러는 build.gradle 의 jmh 블록에서 지정
+ * - 구현체마다 인스턴스 상태가 있을 수 있어 스레드별로 생성
+ * - calculate 는 DTO → 오프셋 배열 변환을 포함, calculatePacked 는 엔진 계산만 측정
+ */
+@State(Scope.Thread)
+public class PayrollServiceBenchmark {
+
+    @Param
+    private PayrollEngine engine;
+
+    @Param
+    private PayrollWorkload workload;
+
+    private PayrollService service;
+    private PayrollRequest request;
+    private PackedPayrollRequest packed;
+
+    @Setup
+    public void setUp() {
+        service = engine.create();
+        request = workload.request();
+        packed = PackedPayrollRequest.from(request);
+    }
+
+    @Benchmark
+    public PayrollResponse calculate() {
+        return service.calculate(request);
+    }
+
+    @Benchmark
+    public PayrollResponse calculatePacked() {
+        return service.calculate(packed);
+    }
+}
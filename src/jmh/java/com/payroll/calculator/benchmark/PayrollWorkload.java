@@ -0,0 +1,88 @@
+package com.payroll.calculator.benchmark;
+
+import com.payroll.calculator.dto.PayrollRequest;
+import com.payroll.calculator.dto.WorkRecordRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크용 대표 근무 패턴 (2025년 1월, 31일)
+ */
+public enum PayrollWorkload {
+
+    /** 파트타이머 - 월/수/금 18~22시 4시간 */
+    SPARSE_PART_TIME {
+        @Override
+        List<WorkRecordRequest> records() {
+            List<WorkRecordRequest> records = new ArrayList<>();
+            for (int day = 1; day <= 31; day++) {
+                int dayOfWeek = (day + 1) % 7; // 2025-01-01 = 수요일, 0 = 월요일
+                if (dayOfWeek == 0 || dayOfWeek == 2 || dayOfWeek == 4) {
+                    records.add(record(day, 18, day, 22));
+                }
+            }
+            return records;
+        }
+    },
+
+    /** 24시간 교대 - 매일 08~20시 주간조 + 20~익일 08시 야간조 */
+    DENSE_24_7 {
+        @Override
+        List<WorkRecordRequest> records() {
+            List<WorkRecordRequest> records = new ArrayList<>();
+            for (int day = 1; day < 31; day++) {
+                records.add(record(day, 8, day, 20));
+                records.add(record(day, 20, day + 1, 8));
+            }
+            records.add(record(31, 8, 31, 20));
+            return records;
+        }
+    },
+
+    /** 잘게 쪼갠 기록 - 매일 09~17시를 1시간짜리 기록 8개로 제출 */
+    MANY_TINY {
+        @Override
+        List<WorkRecordRequest> records() {
+            List<WorkRecordRequest> records = new ArrayList<>();
+            for (int day = 1; day <= 31; day++) {
+                for (int hour = 9; hour < 17; hour++) {
+                    records.add(record(day, hour, day, hour + 1));
+                }
+            }
+            return records;
+        }
+    },
+
+    /** 월 전체를 덮는 단일 기록 - 1일 00시 ~ 31일 23시 */
+    MONTH_SPANNING {
+        @Override
+        List<WorkRecordRequest> records() {
+            return List.of(record(1, 0, 31, 23));
+        }
+    };
+
+    public static final int YEAR = 2025;
+    public static final int MONTH = 1;
+    public static final int WAGE = 10030;
+
+    abstract List<WorkRecordRequest> records();
+
+    public PayrollRequest request() {
+        PayrollRequest request = new PayrollRequest();
+        request.setRecords(records());
+        request.setWage(WAGE);
+        request.setYear(YEAR);
+        request.setMonth(MONTH);
+        return request;
+    }
+
+    static WorkRecordRequest record(int startDay, int startHour, int endDay, int endHour) {
+        WorkRecordRequest record = new WorkRecordRequest();
+        record.setStartDay(startDay);
+        record.setStartHour(startHour);
+        record.setEndDay(endDay);
+        record.setEndHour(endHour);
+        return record;
+    }
+}
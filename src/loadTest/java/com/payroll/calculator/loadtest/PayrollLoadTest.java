@@ -0,0 +1,179 @@
+package com.payroll.calculator.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 실행 중인 서버에 고정 동시성으로 요청을 보내 처리량과 지연 시간 분위수를 측정
+ * - 클라이언트 쪽이 병목이 되지 않도록 동시 사용자마다 가상 스레드 하나
+ * - 워밍업 구간의 결과는 버리고 측정 구간의 지연 시간만 정렬해 p50/p99/p99.9 를 계산
+ *
+ * 플랫폼/가상 스레드 비교는 서버를 각 설정으로 띄운 뒤 같은 옵션으로 두 번 실행한다.
+ * <pre>
+ * ./gradlew bootRun --args='--spring.threads.virtual.enabled=false'
+ * ./gradlew loadTest -Pload.label=platform
+ * ./gradlew bootRun --args='--spring.threads.virtual.enabled=true --payroll.batch.executor=VIRTUAL'
+ * ./gradlew loadTest -Pload.label=virtual
+ * </pre>
+ */
+public class PayrollLoadTest {
+
+    public static void main(String[] args) throws Exception {
+        String url = System.getProperty("load.url", "http://localhost:8080");
+        int concurrency = Integer.getInteger("load.concurrency", 200);
+        Duration warmup = Duration.parse("PT" + System.getProperty("load.warmup", "10s"));
+        Duration duration = Duration.parse("PT" + System.getProperty("load.duration", "30s"));
+        int batchSize = Integer.getInteger("load.batch-size", 0);
+        String label = System.getProperty("load.label", "run");
+
+        String path = batchSize > 0 ? "/api/v1/payroll/calculate/batch" : "/api/v1/payroll/calculate";
+        String body = batchSize > 0 ? batchBody(batchSize) : requestBody(0);
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+
+        System.out.printf("부하 테스트 [%s] %s%s - 동시 %d, 워밍업 %ds, 측정 %ds%n",
+                label, url, path, concurrency, warmup.toSeconds(), duration.toSeconds());
+
+        Result result;
+        try (HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build()) {
+            run(client, request, concurrency, warmup);
+            result = run(client, request, concurrency, duration);
+        }
+
+        String summary = result.summary(label, concurrency, batchSize);
+        System.out.println(summary);
+        Path output = Path.of("build", "results", "loadtest", label + ".json");
+        Files.createDirectories(output.getParent());
+        Files.writeString(output, summary + System.lineSeparator());
+    }
+
+    private static Result run(HttpClient client, HttpRequest request, int concurrency, Duration duration)
+            throws Exception {
+        AtomicBoolean running = new AtomicBoolean(true);
+        List<Future<Recorder>> futures = new ArrayList<>(concurrency);
+        long start = System.nanoTime();
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                futures.add(users.submit(() -> {
+                    Recorder recorder = new Recorder();
+                    while (running.get()) {
+                        long sent = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            recorder.record(System.nanoTime() - sent, response.statusCode() == 200);
+                        } catch (IOException e) {
+                            recorder.record(System.nanoTime() - sent, false);
+                        }
+                    }
+                    return recorder;
+                }));
+            }
+            Thread.sleep(duration.toMillis());
+            running.set(false);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        Recorder total = new Recorder();
+        for (Future<Recorder> future : futures) {
+            total.merge(future.get());
+        }
+        return new Result(total, elapsed);
+    }
+
+    private static String batchBody(int size) {
+        StringBuilder body = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) body.append(',');
+            body.append(requestBody(i));
+        }
+        return body.append(']').toString();
+    }
+
+    /**
+     * 평일 09~18시 근무 + 직원마다 다른 야간 근무 하루 (2025년 1월)
+     */
+    private static String requestBody(int employee) {
+        StringBuilder records = new StringBuilder();
+        for (int day = 1; day <= 31; day++) {
+            int dayOfWeek = (day + 1) % 7; // 2025-01-01 = 수요일, 0 = 월요일
+            if (dayOfWeek >= 5) continue;
+            if (!records.isEmpty()) records.append(',');
+            records.append(record(day, 9, day, 18));
+        }
+        int nightDay = 1 + employee % 30;
+        records.append(',').append(record(nightDay, 22, nightDay + 1, 6));
+        return "{\"records\":[" + records + "],\"wage\":" + (10030 + employee) + ",\"year\":2025,\"month\":1}";
+    }
+
+    private static String record(int startDay, int startHour, int endDay, int endHour) {
+        return "{\"startDay\":" + startDay + ",\"startHour\":" + startHour
+                + ",\"endDay\":" + endDay + ",\"endHour\":" + endHour + "}";
+    }
+
+    /**
+     * 사용자(스레드)별 지연 시간 기록 - 측정 중에는 공유 상태가 없다
+     */
+    private static final class Recorder {
+        private long[] latencies = new long[1024];
+        private int count;
+        private long errors;
+
+        void record(long nanos, boolean ok) {
+            if (!ok) errors++;
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+        }
+
+        void merge(Recorder other) {
+            if (count + other.count > latencies.length) {
+                latencies = Arrays.copyOf(latencies, count + other.count);
+            }
+            System.arraycopy(other.latencies, 0, latencies, count, other.count);
+            count += other.count;
+            errors += other.errors;
+        }
+    }
+
+    private record Result(Recorder recorder, long elapsedNanos) {
+
+        String summary(String label, int concurrency, int batchSize) {
+            long[] sorted = Arrays.copyOf(recorder.latencies, recorder.count);
+            Arrays.sort(sorted);
+            double seconds = elapsedNanos / 1e9;
+            return String.format(Locale.ROOT,
+                    "{\"label\":\"%s\",\"concurrency\":%d,\"batchSize\":%d,\"requests\":%d,\"errors\":%d,"
+                            + "\"throughputPerSec\":%.1f,\"p50Ms\":%.3f,\"p99Ms\":%.3f,\"p999Ms\":%.3f,\"maxMs\":%.3f}",
+                    label, concurrency, batchSize, sorted.length, recorder.errors,
+                    sorted.length / seconds,
+                    percentile(sorted, 0.50), percentile(sorted, 0.99), percentile(sorted, 0.999),
+                    sorted.length == 0 ? 0.0 : sorted[sorted.length - 1] / 1e6);
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) return 0.0;
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(0, index)] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.payroll.calculator.audit;
+
+import com.payroll.calculator.dto.PackedPayrollRequest;
+import com.payroll.calculator.dto.PayrollResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 급여 계산 감사 로그
+ * - payroll.audit 로거로 한 줄짜리 key=value 레코드를 남긴다 (logback-spring.xml 의 비동기 appender 로 전달)
+ * - 기록 여부는 계산 전에 결정하므로 샘플링되지 않은 요청은 문자열/배열 할당이 없다
+ */
+public class PayrollAuditLogger {
+
+    /**
+     * OFF: 기록 안 함, SAMPLED: samplingRate 비율만 기록, FULL: 모든 요청 기록 (감사 대응용)
+     */
+    public enum Mode {
+        OFF, SAMPLED, FULL
+    }
+
+    private static final Logger AUDIT = LoggerFactory.getLogger("payroll.audit");
+
+    private final Mode mode;
+    private final double samplingRate;
+
+    public PayrollAuditLogger(Mode mode, double samplingRate) {
+        if (samplingRate < 0.0 || samplingRate > 1.0) {
+            throw new IllegalArgumentException("samplingRate must be between 0 and 1: " + samplingRate);
+        }
+        this.mode = mode;
+        this.samplingRate = samplingRate;
+    }
+
+    public boolean shouldRecord() {
+        return switch (mode) {
+            case OFF -> false;
+            case FULL -> AUDIT.isInfoEnabled();
+            case SAMPLED -> ThreadLocalRandom.current().nextDouble() < samplingRate && AUDIT.isInfoEnabled();
+        };
+    }
+
+    public void calculated(String engine, PackedPayrollRequest request, PayrollResponse response, long elapsedNanos) {
+        AUDIT.info("calc engine={} ym={}-{} wage={} records={} hours={} total={} us={}",
+                engine, request.getYear(), request.getMonth(), request.getWage(), request.recordCount(),
+                response.getTotalWorkHours(), response.getTotalPay(), elapsedNanos / 1_000);
+    }
+
+    public void failed(String engine, PackedPayrollRequest request, int status, long elapsedNanos) {
+        AUDIT.info("fail engine={} ym={}-{} wage={} records={} status={} us={}",
+                engine, request.getYear(), request.getMonth(), request.getWage(), request.recordCount(),
+                status, elapsedNanos / 1_000);
+    }
+}
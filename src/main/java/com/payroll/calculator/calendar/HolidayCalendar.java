@@ -0,0 +1,77 @@
+package com.payroll.calculator.calendar;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 날짜 목록으로 만든 휴일 제공자 (불변)
+ * - 로딩 시 (년, 월)별 일 마스크로 미리 컴파일해 두고 조회는 Map 조회 한 번
+ *
+ * 파일 형식 (UTF-8, 한 줄에 하나)
+ * <pre>
+ * # 주석
+ * 2025-01-01 신정
+ * 2025-03-01 삼일절
+ * </pre>
+ * 날짜 뒤의 이름은 무시한다.
+ */
+public final class HolidayCalendar implements HolidayProvider {
+
+    private final Map<Integer, Integer> masks;
+
+    private HolidayCalendar(Map<Integer, Integer> masks) {
+        this.masks = Map.copyOf(masks);
+    }
+
+    public static HolidayCalendar of(Collection<LocalDate> holidays) {
+        Map<Integer, Integer> masks = new HashMap<>();
+        for (LocalDate date : holidays) {
+            masks.merge(key(date.getYear(), date.getMonthValue()), 1 << (date.getDayOfMonth() - 1), (a, b) -> a | b);
+        }
+        return new HolidayCalendar(masks);
+    }
+
+    public static HolidayCalendar load(InputStream in, String source) throws IOException {
+        Map<Integer, Integer> masks = new HashMap<>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            String trimmed = line.strip();
+            if (trimmed.isEmpty() || trimmed.startsWith("#")) continue;
+
+            int end = trimmed.indexOf(' ');
+            String token = end < 0 ? trimmed : trimmed.substring(0, end);
+            LocalDate date;
+            try {
+                date = LocalDate.parse(token);
+            } catch (DateTimeException e) {
+                throw new IllegalArgumentException("잘못된 휴일 형식입니다: " + source + ":" + lineNumber + " " + trimmed, e);
+            }
+            masks.merge(key(date.getYear(), date.getMonthValue()), 1 << (date.getDayOfMonth() - 1), (a, b) -> a | b);
+        }
+        return new HolidayCalendar(masks);
+    }
+
+    @Override
+    public int holidayMask(int year, int month) {
+        return masks.getOrDefault(key(year, month), 0);
+    }
+
+    public int size() {
+        return masks.values().stream().mapToInt(Integer::bitCount).sum();
+    }
+
+    private static int key(int year, int month) {
+        return year * 12 + (month - 1);
+    }
+}
@@ -0,0 +1,21 @@
+package com.payroll.calculator.calendar;
+
+/**
+ * 일요일 외 휴일(공휴일, 회사 지정 휴무일) 제공자
+ * - 월 단위로 (day - 1) 번째 비트가 켜진 일 마스크를 돌려준다
+ * - 결과는 {@link MonthCalendar} 에 한 번 합쳐지므로 시간 단위 휴일 판단 비용은 휴일 수와 무관하다
+ */
+@FunctionalInterface
+public interface HolidayProvider {
+
+    HolidayProvider NONE = (year, month) -> 0;
+
+    int holidayMask(int year, int month);
+
+    /**
+     * 두 제공자의 휴일을 합친다 (공휴일 + 회사 휴무일 등)
+     */
+    default HolidayProvider and(HolidayProvider other) {
+        return (year, month) -> holidayMask(year, month) | other.holidayMask(year, month);
+    }
+}
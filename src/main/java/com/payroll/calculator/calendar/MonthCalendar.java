@@ -0,0 +1,190 @@
+package com.payroll.calculator.calendar;
+
+import com.payroll.calculator.exception.PayrollException;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+/**
+ * 한 달의 달력 정보 (불변)
+ * - 월 길이, 일별 요일, 월요일 시작 주차 경계, 일요일/휴일 일 마스크
+ * - 휴일 = 일요일 + {@link HolidayProvider} 가 준 공휴일/회사 휴무일
+ * - 비트셋 엔진용 시간 단위 휴일/야간 마스크(long 12개, 월 시작부터의 시간 오프셋)
+ * - 같은 (년, 월) 요청끼리 공유하도록 {@link MonthCalendarCache} 로 얻는다
+ */
+public final class MonthCalendar {
+
+    public static final int HOURS_PER_DAY = 24;
+    public static final int DAYS_PER_WEEK = 7;
+    public static final int MAX_DAYS = 31;
+    public static final int MAX_WEEKS = 6;
+    public static final int HOUR_WORDS = (MAX_DAYS * HOURS_PER_DAY + 63) / 64;
+
+    // 야간(22:00 ~ 06:00)에 해당하는 시(hour) 비트
+    public static final int NIGHT_HOUR_MASK = 0b1100_0000_0000_0000_0011_1111;
+
+    private final int year;
+    private final int month;
+    private final int lengthOfMonth;
+    private final int firstDayOfWeek;   // 1일의 요일, 월요일 = 0
+    private final int weekCount;
+    private final int[] weekStartDays;  // 주차별 시작일 (1부터), 마지막 원소는 lengthOfMonth + 1
+    private final int sundayMask;       // (day - 1) 번째 비트
+    private final int holidayMask;
+    private final long[] holidayHourWords;
+    private final long[] nightHourWords;
+
+    MonthCalendar(int year, int month) {
+        this(year, month, HolidayProvider.NONE);
+    }
+
+    MonthCalendar(int year, int month, HolidayProvider holidays) {
+        LocalDate firstDay = LocalDate.of(year, month, 1);
+        this.year = year;
+        this.month = month;
+        this.lengthOfMonth = firstDay.lengthOfMonth();
+        this.firstDayOfWeek = firstDay.getDayOfWeek().getValue() - 1;
+        this.weekCount = (lengthOfMonth + firstDayOfWeek + DAYS_PER_WEEK - 1) / DAYS_PER_WEEK;
+
+        this.weekStartDays = new int[weekCount + 1];
+        for (int week = 0; week < weekCount; week++) {
+            weekStartDays[week] = Math.max(1, week * DAYS_PER_WEEK - firstDayOfWeek + 1);
+        }
+        weekStartDays[weekCount] = lengthOfMonth + 1;
+
+        int sundays = 0;
+        for (int day = 1; day <= lengthOfMonth; day++) {
+            if (dayOfWeekIndex(day) == DayOfWeek.SUNDAY.ordinal()) {
+                sundays |= 1 << (day - 1);
+            }
+        }
+        int monthMask = (1 << lengthOfMonth) - 1;
+        this.sundayMask = sundays;
+        this.holidayMask = (sundays | holidays.holidayMask(year, month)) & monthMask;
+
+        this.holidayHourWords = new long[HOUR_WORDS];
+        this.nightHourWords = new long[HOUR_WORDS];
+        for (int day = 1; day <= lengthOfMonth; day++) {
+            int base = (day - 1) * HOURS_PER_DAY;
+            if (isHoliday(day)) {
+                fill(holidayHourWords, base, base + HOURS_PER_DAY);
+            }
+            fill(nightHourWords, base, base + 6);
+            fill(nightHourWords, base + 22, base + HOURS_PER_DAY);
+        }
+    }
+
+    public int year() {
+        return year;
+    }
+
+    public int month() {
+        return month;
+    }
+
+    public int lengthOfMonth() {
+        return lengthOfMonth;
+    }
+
+    public int monthHours() {
+        return lengthOfMonth * HOURS_PER_DAY;
+    }
+
+    /**
+     * 1일의 요일 (월요일 = 0 ~ 일요일 = 6)
+     */
+    public int firstDayOfWeek() {
+        return firstDayOfWeek;
+    }
+
+    public DayOfWeek dayOfWeek(int day) {
+        return DayOfWeek.of(dayOfWeekIndex(day) + 1);
+    }
+
+    /**
+     * 월요일 시작 주차 (0부터). 월의 첫 주는 1일이 속한 주
+     */
+    public int weekOf(int day) {
+        return (day - 1 + firstDayOfWeek) / DAYS_PER_WEEK;
+    }
+
+    public int weekCount() {
+        return weekCount;
+    }
+
+    /**
+     * 주차의 시작일 (1부터, 해당 월 안으로 잘림)
+     */
+    public int weekStartDay(int week) {
+        return weekStartDays[week];
+    }
+
+    /**
+     * 주차의 다음 주 시작일 (해당 월 안에서는 마지막 날 + 1)
+     */
+    public int weekEndDay(int week) {
+        return weekStartDays[week + 1];
+    }
+
+    public boolean isSunday(int day) {
+        return (sundayMask >>> (day - 1) & 1) != 0;
+    }
+
+    public boolean isHoliday(int day) {
+        return (holidayMask >>> (day - 1) & 1) != 0;
+    }
+
+    public int sundayMask() {
+        return sundayMask;
+    }
+
+    public int holidayMask() {
+        return holidayMask;
+    }
+
+    public long holidayHourWord(int word) {
+        return holidayHourWords[word];
+    }
+
+    public long nightHourWord(int word) {
+        return nightHourWords[word];
+    }
+
+    public static boolean isNightHour(int hour) {
+        return (NIGHT_HOUR_MASK >>> hour & 1) != 0;
+    }
+
+    /**
+     * (일, 시) → 월 시작부터의 시간 오프셋. 해당 월에 없는 날짜면 예외
+     */
+    public int hourOffset(int day, int hour) {
+        if (day < 1) {
+            throw nonexistentDay(day);
+        }
+        return checkHourOffset((day - 1) * HOURS_PER_DAY + hour);
+    }
+
+    /**
+     * 이미 계산된 시간 오프셋이 해당 월 안(월말 24시 포함)인지 확인
+     */
+    public int checkHourOffset(int offset) {
+        if (offset < 0 || offset > monthHours()) {
+            throw nonexistentDay(offset / HOURS_PER_DAY + 1);
+        }
+        return offset;
+    }
+
+    private PayrollException nonexistentDay(int day) {
+        return new PayrollException(400, "존재하지 않는 날짜입니다: " + year + "-" + month + "-" + day);
+    }
+
+    private int dayOfWeekIndex(int day) {
+        return (day - 1 + firstDayOfWeek) % DAYS_PER_WEEK;
+    }
+
+    private static void fill(long[] bits, int from, int to) {
+        for (int i = from; i < to; i++) {
+            bits[i >>> 6] |= 1L << i;
+        }
+    }
+}
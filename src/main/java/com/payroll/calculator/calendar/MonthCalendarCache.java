@@ -0,0 +1,105 @@
+package com.payroll.calculator.calendar;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * (년, 월) 단위 달력 캐시
+ * - 급여 주기마다 대부분의 요청이 같은 월을 쓰므로 직전 조회 결과를 먼저 확인 (할당 없음)
+ * - 그 외에는 ConcurrentHashMap 조회, 최대 크기를 넘으면 먼저 들어온 달력부터 제거
+ * - 조회/적중/제거 횟수와 크기를 {@link #stats()} 로 노출
+ * - 휴일 제공자는 달력을 만들 때 한 번만 조회된다
+ */
+public class MonthCalendarCache {
+
+    public static final int DEFAULT_MAX_SIZE = 240;
+
+    private static final MonthCalendarCache SHARED = new MonthCalendarCache(DEFAULT_MAX_SIZE);
+
+    private final int maxSize;
+    private final HolidayProvider holidays;
+    private final Map<Long, MonthCalendar> calendars = new ConcurrentHashMap<>();
+    private final Queue<Long> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private volatile MonthCalendar recent;
+
+    public MonthCalendarCache(int maxSize) {
+        this(maxSize, HolidayProvider.NONE);
+    }
+
+    public MonthCalendarCache(int maxSize, HolidayProvider holidays) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.holidays = holidays;
+    }
+
+    /**
+     * 테스트/벤치마크용 공유 캐시 - 휴일 제공자가 없어 일요일만 휴일이다 (payroll.calendar.holidays 미적용)
+     * 운영 코드는 설정된 휴일로 만든 캐시 빈을 주입받아 쓴다
+     */
+    public static MonthCalendarCache shared() {
+        return SHARED;
+    }
+
+    public MonthCalendar get(int year, int month) {
+        MonthCalendar last = recent;
+        if (last != null && last.year() == year && last.month() == month) {
+            hits.increment();
+            return last;
+        }
+
+        // 년, 월을 그대로 나눠 담아 어떤 (년, 월) 조합도 키가 겹치지 않는다 (year * 12 + month 는 int 넘침으로 충돌)
+        Long key = (long) year << 32 | (month & 0xFFFF_FFFFL);
+        MonthCalendar calendar = calendars.get(key);
+        if (calendar != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+            calendar = load(key, year, month);
+        }
+        recent = calendar;
+        return calendar;
+    }
+
+    private MonthCalendar load(Long key, int year, int month) {
+        MonthCalendar created = new MonthCalendar(year, month, holidays);
+        MonthCalendar existing = calendars.putIfAbsent(key, created);
+        if (existing != null) {
+            return existing;
+        }
+
+        insertionOrder.add(key);
+        while (calendars.size() > maxSize) {
+            Long eldest = insertionOrder.poll();
+            if (eldest == null) break;
+            if (calendars.remove(eldest) != null) {
+                evictions.increment();
+            }
+        }
+        return created;
+    }
+
+    public void clear() {
+        calendars.clear();
+        insertionOrder.clear();
+        recent = null;
+    }
+
+    public Stats stats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long requests = hitCount + missCount;
+        double hitRate = requests == 0 ? 0.0 : (double) hitCount / requests;
+        return new Stats(hitCount, missCount, evictions.sum(), calendars.size(), maxSize, hitRate);
+    }
+
+    public record Stats(long hits, long misses, long evictions, int size, int maxSize, double hitRate) {
+    }
+}
@@ -0,0 +1,18 @@
+package com.payroll.calculator.config;
+
+import com.payroll.calculator.audit.PayrollAuditLogger;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 감사 로그 설정 (appender 큐 크기/파일 위치는 logback-spring.xml 에서 같은 접두사로 읽는다)
+ *
+ * @param mode         OFF, SAMPLED, FULL
+ * @param samplingRate SAMPLED 모드에서 기록할 요청 비율 (0 ~ 1)
+ */
+@ConfigurationProperties(prefix = "payroll.audit")
+public record PayrollAuditProperties(
+        @DefaultValue("SAMPLED") PayrollAuditLogger.Mode mode,
+        @DefaultValue("0.01") double samplingRate
+) {
+}
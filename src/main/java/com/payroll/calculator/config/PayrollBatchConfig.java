@@ -0,0 +1,23 @@
+package com.payroll.calculator.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+@EnableConfigurationProperties(PayrollBatchProperties.class)
+public class PayrollBatchConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService payrollBatchExecutor(PayrollBatchProperties properties) {
+        return switch (properties.executor()) {
+            case PLATFORM -> Executors.newFixedThreadPool(properties.effectiveParallelism(),
+                    Thread.ofPlatform().name("payroll-batch-", 0).daemon(true).factory());
+            case VIRTUAL -> Executors.newThreadPerTaskExecutor(
+                    Thread.ofVirtual().name("payroll-batch-", 0).factory());
+        };
+    }
+}
@@ -0,0 +1,31 @@
+package com.payroll.calculator.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 일괄 계산 설정
+ *
+ * @param maxSize     한 번에 받을 수 있는 최대 요청 수
+ * @param parallelism 동시 계산 작업 수 (0 이하면 CPU 코어 수)
+ * @param executor    계산 작업을 실행할 스레드 종류
+ */
+@ConfigurationProperties(prefix = "payroll.batch")
+public record PayrollBatchProperties(
+        @DefaultValue("50000") int maxSize,
+        @DefaultValue("0") int parallelism,
+        @DefaultValue("PLATFORM") ExecutorType executor
+) {
+
+    /**
+     * PLATFORM: parallelism 크기의 고정 플랫폼 스레드 풀
+     * VIRTUAL: 작업마다 가상 스레드 (동시 작업 수는 parallelism 으로 나눈 구간 수로 제한된다)
+     */
+    public enum ExecutorType {
+        PLATFORM, VIRTUAL
+    }
+
+    public int effectiveParallelism() {
+        return parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+}
@@ -0,0 +1,21 @@
+package com.payroll.calculator.config;
+
+import com.payroll.calculator.service.PayrollResultCache;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 결과 캐시 - 켜져 있으면 {@link PayrollServiceConfig} 가 PayrollService 를 캐시로 감싼다
+ */
+@Configuration
+@EnableConfigurationProperties(PayrollCacheProperties.class)
+@ConditionalOnProperty(prefix = "payroll.cache", name = "enabled", havingValue = "true")
+public class PayrollCacheConfig {
+
+    @Bean
+    public PayrollResultCache payrollResultCache(PayrollCacheProperties properties) {
+        return new PayrollResultCache(properties.maxSize(), properties.ttl());
+    }
+}
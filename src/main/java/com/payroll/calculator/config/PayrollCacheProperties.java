@@ -0,0 +1,21 @@
+package com.payroll.calculator.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 급여 결과 캐시 설정
+ *
+ * @param enabled 결과 캐시 사용 여부 (기본 꺼짐)
+ * @param maxSize 보관할 결과 최대 개수
+ * @param ttl     결과 보관 시간
+ */
+@ConfigurationProperties(prefix = "payroll.cache")
+public record PayrollCacheProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("10000") int maxSize,
+        @DefaultValue("10m") Duration ttl
+) {
+}
@@ -0,0 +1,40 @@
+package com.payroll.calculator.config;
+
+import com.payroll.calculator.calendar.HolidayCalendar;
+import com.payroll.calculator.calendar.HolidayProvider;
+import com.payroll.calculator.calendar.MonthCalendarCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(PayrollCalendarProperties.class)
+public class PayrollCalendarConfig {
+
+    @Bean
+    public HolidayProvider holidayProvider(PayrollCalendarProperties properties, ResourceLoader resourceLoader)
+            throws IOException {
+        HolidayProvider provider = HolidayProvider.NONE;
+        for (String location : properties.holidays()) {
+            Resource resource = resourceLoader.getResource(location);
+            try (InputStream in = resource.getInputStream()) {
+                HolidayCalendar holidays = HolidayCalendar.load(in, location);
+                log.info("휴일 달력 로드 - location: {}, days: {}", location, holidays.size());
+                provider = provider.and(holidays);
+            }
+        }
+        return provider;
+    }
+
+    @Bean
+    public MonthCalendarCache monthCalendarCache(PayrollCalendarProperties properties, HolidayProvider holidayProvider) {
+        return new MonthCalendarCache(properties.cacheSize(), holidayProvider);
+    }
+}
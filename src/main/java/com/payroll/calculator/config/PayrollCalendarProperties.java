@@ -0,0 +1,19 @@
+package com.payroll.calculator.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+/**
+ * 월 달력 캐시 설정
+ *
+ * @param cacheSize 보관할 (년, 월) 달력 최대 개수
+ * @param holidays  일요일 외 휴일 파일 위치 목록 (classpath:, file: 지원). 비어 있으면 일요일만 휴일
+ */
+@ConfigurationProperties(prefix = "payroll.calendar")
+public record PayrollCalendarProperties(
+        @DefaultValue("240") int cacheSize,
+        @DefaultValue List<String> holidays
+) {
+}
@@ -0,0 +1,122 @@
+package com.payroll.calculator.config;
+
+import com.payroll.calculator.calendar.MonthCalendarCache;
+import com.payroll.calculator.money.PayRates;
+import com.payroll.calculator.service.OopPayrollService;
+import com.payroll.calculator.service.PayrollEngineRegistry;
+import com.payroll.calculator.service.PayrollService;
+import com.payroll.calculator.service.PayrollServiceBitsetImpl;
+import com.payroll.calculator.service.PayrollServiceImpl;
+import com.payroll.calculator.service.PayrollServiceIntervalImpl;
+import com.payroll.calculator.service.PayrollServiceLegacyImpl;
+import com.payroll.calculator.service.PayrollServicePrimitiveImpl;
+import com.payroll.calculator.service.PayrollServiceTimelineImpl;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 모든 계산 엔진을 빈으로 등록하고 이름으로 묶는다
+ * - 엔진은 모두 공유 월 달력 캐시(휴일 포함)와 같은 금액 계산 규칙(payroll.pay)을 쓴다
+ * - 구조상 겹친 시간을 한 번만 세는 엔진(timeline, bitset, interval)은 겹침 정책을 받아 COUNT 일 때 중복 집계한다
+ * - 어떤 엔진으로 응답할지는 {@link PayrollServiceConfig} 가 payroll.engine 설정으로 정한다
+ */
+@Configuration
+@EnableConfigurationProperties({PayrollEngineProperties.class, PayrollPayProperties.class, PayrollOverlapProperties.class})
+public class PayrollEngineConfig {
+
+    @Bean
+    public PayRates payRates(PayrollPayProperties properties) {
+        return new PayRates(properties.rounding());
+    }
+
+    @Bean
+    public PayrollServiceImpl payrollServiceImpl(MonthCalendarCache monthCalendarCache, PayRates payRates) {
+        return new PayrollServiceImpl(monthCalendarCache, payRates);
+    }
+
+    @Bean
+    public PayrollServiceLegacyImpl payrollServiceLegacyImpl(MonthCalendarCache monthCalendarCache, PayRates payRates) {
+        return new PayrollServiceLegacyImpl(monthCalendarCache, payRates);
+    }
+
+    @Bean
+    public PayrollServiceTimelineImpl payrollServiceTimelineImpl(MonthCalendarCache monthCalendarCache, PayRates payRates,
+                                                                 PayrollOverlapProperties overlapProperties) {
+        return new PayrollServiceTimelineImpl(monthCalendarCache, payRates, overlapProperties.overlapPolicy());
+    }
+
+    @Bean
+    public OopPayrollService oopPayrollService(MonthCalendarCache monthCalendarCache, PayRates payRates) {
+        return new OopPayrollService(OopPayrollService.EvaluationMode.PER_POLICY, monthCalendarCache, payRates);
+    }
+
+    @Bean
+    public OopPayrollService fusedOopPayrollService(MonthCalendarCache monthCalendarCache, PayRates payRates) {
+        return new OopPayrollService(OopPayrollService.EvaluationMode.FUSED, monthCalendarCache, payRates);
+    }
+
+    @Bean
+    public PayrollServicePrimitiveImpl payrollServicePrimitiveImpl(MonthCalendarCache monthCalendarCache, PayRates payRates) {
+        return new PayrollServicePrimitiveImpl(monthCalendarCache, payRates);
+    }
+
+    @Bean
+    public PayrollServiceBitsetImpl payrollServiceBitsetImpl(MonthCalendarCache monthCalendarCache, PayRates payRates,
+                                                             PayrollOverlapProperties overlapProperties) {
+        return new PayrollServiceBitsetImpl(monthCalendarCache, payRates, overlapProperties.overlapPolicy());
+    }
+
+    @Bean
+    public PayrollServiceIntervalImpl payrollServiceIntervalImpl(MonthCalendarCache monthCalendarCache, PayRates payRates,
+                                                                 PayrollOverlapProperties overlapProperties) {
+        return new PayrollServiceIntervalImpl(monthCalendarCache, payRates, overlapProperties.overlapPolicy());
+    }
+
+    /**
+     * 엔진 이름은 지표/감사 로그의 engine 태그, X-Payroll-Engine 헤더 값으로 쓴다
+     */
+    @Bean
+    public PayrollEngineRegistry payrollEngineRegistry(PayrollServiceImpl payrollServiceImpl,
+                                                       PayrollServiceLegacyImpl payrollServiceLegacyImpl,
+                                                       PayrollServiceTimelineImpl payrollServiceTimelineImpl,
+                                                       @Qualifier("oopPayrollService") OopPayrollService oopPayrollService,
+                                                       @Qualifier("fusedOopPayrollService") OopPayrollService fusedOopPayrollService,
+                                                       PayrollServicePrimitiveImpl payrollServicePrimitiveImpl,
+                                                       PayrollServiceBitsetImpl payrollServiceBitsetImpl,
+                                                       PayrollServiceIntervalImpl payrollServiceIntervalImpl,
+                                                       PayrollEngineProperties properties) {
+        Map<String, PayrollService> engines = new LinkedHashMap<>();
+        engines.put("map", payrollServiceImpl);
+        engines.put("legacy", payrollServiceLegacyImpl);
+        engines.put("timeline", payrollServiceTimelineImpl);
+        engines.put("oop", oopPayrollService);
+        engines.put("oop-fused", fusedOopPayrollService);
+        engines.put("primitive", payrollServicePrimitiveImpl);
+        engines.put("bitset", payrollServiceBitsetImpl);
+        engines.put("interval", payrollServiceIntervalImpl);
+        return new PayrollEngineRegistry(engines, properties.defaultEngine());
+    }
+
+    /**
+     * 섀도 비교 전용 스레드 풀 - 큐가 가득 차면 거부해 요청 스레드가 기다리지 않게 한다
+     */
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnProperty(prefix = "payroll.engine.shadow", name = "engine")
+    public ExecutorService payrollShadowExecutor(PayrollEngineProperties properties) {
+        PayrollEngineProperties.Shadow shadow = properties.shadow();
+        return new ThreadPoolExecutor(shadow.threads(), shadow.threads(), 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(shadow.queueSize()),
+                Thread.ofPlatform().name("payroll-shadow-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+}
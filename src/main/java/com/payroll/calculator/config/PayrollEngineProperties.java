@@ -0,0 +1,36 @@
+package com.payroll.calculator.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.boot.context.properties.bind.Name;
+
+/**
+ * 계산 엔진 선택 설정
+ *
+ * @param defaultEngine 기본 엔진 이름 (payroll.engine.default)
+ * @param shadow        섀도 비교 설정
+ */
+@ConfigurationProperties(prefix = "payroll.engine")
+public record PayrollEngineProperties(
+        @Name("default") @DefaultValue("map") String defaultEngine,
+        @DefaultValue Shadow shadow
+) {
+
+    /**
+     * @param engine       기본 엔진과 비교할 후보 엔진 (비우면 섀도 모드를 쓰지 않음)
+     * @param samplingRate 후보 엔진으로도 계산할 요청 비율 (0 ~ 1)
+     * @param threads      후보 엔진 계산 스레드 수
+     * @param queueSize    대기 중인 비교 작업 최대 수 (넘치면 비교를 건너뜀)
+     */
+    public record Shadow(
+            String engine,
+            @DefaultValue("1.0") double samplingRate,
+            @DefaultValue("1") int threads,
+            @DefaultValue("1000") int queueSize
+    ) {
+
+        public boolean enabled() {
+            return engine != null && !engine.isBlank();
+        }
+    }
+}
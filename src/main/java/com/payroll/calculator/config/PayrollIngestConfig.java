@@ -0,0 +1,35 @@
+package com.payroll.calculator.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.payroll.calculator.calendar.MonthCalendarCache;
+import com.payroll.calculator.ingest.PunchAccrualStore;
+import com.payroll.calculator.ingest.PunchIngestionPipeline;
+import com.payroll.calculator.ingest.PunchLogReader;
+import com.payroll.calculator.money.PayRates;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 출퇴근 로그 수집 - 켜져 있으면 기동 시 수집 스레드를 시작하고 종료 시 큐에 남은 이벤트까지 반영한다
+ */
+@Configuration
+@EnableConfigurationProperties(PayrollIngestProperties.class)
+@ConditionalOnProperty(prefix = "payroll.ingest", name = "enabled", havingValue = "true")
+public class PayrollIngestConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public PunchIngestionPipeline punchIngestionPipeline(PayrollIngestProperties properties,
+                                                         PayrollOverlapProperties overlapProperties,
+                                                         MonthCalendarCache monthCalendarCache,
+                                                         PayRates payRates,
+                                                         ObjectMapper objectMapper) {
+        PunchLogReader reader = new PunchLogReader(properties.logFile(), properties.startOffset(),
+                objectMapper, properties.bufferSize());
+        PunchAccrualStore store = new PunchAccrualStore(monthCalendarCache, overlapProperties.overlapPolicy(),
+                payRates, properties.defaultWage(), properties.maxShiftHours(), properties.retainedMonths());
+        return new PunchIngestionPipeline(reader, store, properties.queueSize(), properties.batchSize(),
+                properties.pollInterval());
+    }
+}
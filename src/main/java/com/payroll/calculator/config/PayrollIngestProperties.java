@@ -0,0 +1,36 @@
+package com.payroll.calculator.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 출퇴근 로그 수집 설정
+ *
+ * @param enabled        수집 사용 여부 (기본 꺼짐)
+ * @param logFile        추가 전용 출퇴근 로그 파일 (한 줄에 이벤트 하나, NDJSON)
+ * @param startOffset    시작 바이트 오프셋 - 재시작 시 이 위치부터 다시 읽어 누적 결과를 복원 (줄 경계여야 함)
+ * @param queueSize      읽기 → 반영 사이 큐 크기 (가득 차면 읽기가 기다린다)
+ * @param batchSize      반영 스레드가 한 번에 꺼내는 최대 이벤트 수
+ * @param pollInterval   새 줄이 없을 때 다시 읽기까지 대기 시간
+ * @param bufferSize     한 번에 읽는 바이트 수 (한 줄 최대 길이)
+ * @param defaultWage    이벤트에 시급이 없고 이전에 받은 적도 없는 직원의 시급
+ * @param maxShiftHours  이보다 긴 근무(퇴근 누락 의심)는 반영하지 않는다
+ * @param retainedMonths 직원별로 보관하는 최근 월 수
+ */
+@ConfigurationProperties(prefix = "payroll.ingest")
+public record PayrollIngestProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("data/punches.ndjson") Path logFile,
+        @DefaultValue("0") long startOffset,
+        @DefaultValue("10000") int queueSize,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("200ms") Duration pollInterval,
+        @DefaultValue("65536") int bufferSize,
+        @DefaultValue("10030") int defaultWage,
+        @DefaultValue("24") int maxShiftHours,
+        @DefaultValue("2") int retainedMonths
+) {
+}
@@ -0,0 +1,16 @@
+package com.payroll.calculator.config;
+
+import com.payroll.calculator.service.OverlapPolicy;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 겹치는 근무 기록 처리 설정 (payroll.overlap-policy)
+ *
+ * @param overlapPolicy MERGE(기본), REJECT, COUNT
+ */
+@ConfigurationProperties(prefix = "payroll")
+public record PayrollOverlapProperties(
+        @DefaultValue("MERGE") OverlapPolicy overlapPolicy
+) {
+}
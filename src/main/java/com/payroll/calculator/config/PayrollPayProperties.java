@@ -0,0 +1,17 @@
+package com.payroll.calculator.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.math.RoundingMode;
+
+/**
+ * 급여 금액 계산 설정
+ *
+ * @param rounding 항목별 원 미만 처리 (기본 DOWN = 버림, HALF_UP = 반올림, UP = 올림 등 RoundingMode 이름)
+ */
+@ConfigurationProperties(prefix = "payroll.pay")
+public record PayrollPayProperties(
+        @DefaultValue("DOWN") RoundingMode rounding
+) {
+}
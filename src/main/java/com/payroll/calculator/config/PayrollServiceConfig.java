@@ -0,0 +1,110 @@
+package com.payroll.calculator.config;
+
+import com.payroll.calculator.audit.PayrollAuditLogger;
+import com.payroll.calculator.calendar.MonthCalendarCache;
+import com.payroll.calculator.money.PayRates;
+import com.payroll.calculator.service.AuditedPayrollService;
+import com.payroll.calculator.service.CachingPayrollService;
+import com.payroll.calculator.service.MeteredPayrollService;
+import com.payroll.calculator.service.MinuteResolutionPayrollService;
+import com.payroll.calculator.service.NormalizingPayrollService;
+import com.payroll.calculator.service.PayPeriodService;
+import com.payroll.calculator.service.PayrollEngineRegistry;
+import com.payroll.calculator.service.PayrollEngineRouter;
+import com.payroll.calculator.service.PayrollResultCache;
+import com.payroll.calculator.service.PayrollService;
+import com.payroll.calculator.service.PayrollSessionService;
+import com.payroll.calculator.service.ShadowPayrollService;
+import com.payroll.calculator.validation.PayrollRequestValidator;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 컨트롤러/일괄 계산이 주입받는 PayrollService 조립
+ * - 엔진 → 지표 기록 → (선택) 결과 캐시 → (선택) 섀도 비교 → 분 단위 분기 → 겹침 정규화 → 감사 로그 순으로 감싼다
+ * - 분 단위 요청은 어느 엔진을 골랐든 구간 산술 엔진(interval)이 계산한다 (캐시/섀도 비교 제외)
+ * - 캐시 적중은 엔진 지연 시간에 섞이지 않도록 지표 바깥에서 처리
+ * - 겹침 정규화는 캐시 앞에서 한 번만 해 모든 엔진과 캐시 키가 같은 구간을 본다
+ * - 감사 로그는 캐시 적중을 포함해 응답한 모든 요청을 대상으로 한다
+ * - 결과 캐시와 섀도 비교는 기본 엔진(payroll.engine.default)에만 두고, 나머지 엔진은 헤더로 고를 때 쓴다
+ */
+@Configuration
+@EnableConfigurationProperties({PayrollAuditProperties.class, PayrollOverlapProperties.class, PayrollSessionProperties.class})
+public class PayrollServiceConfig {
+
+    @Bean
+    public PayrollAuditLogger payrollAuditLogger(PayrollAuditProperties properties) {
+        return new PayrollAuditLogger(properties.mode(), properties.samplingRate());
+    }
+
+    @Bean
+    public PayrollEngineRouter payrollEngineRouter(PayrollEngineRegistry engines,
+                                                   MeterRegistry meterRegistry,
+                                                   ObjectProvider<PayrollResultCache> payrollResultCache,
+                                                   PayrollAuditLogger payrollAuditLogger,
+                                                   PayrollOverlapProperties overlapProperties,
+                                                   PayrollEngineProperties engineProperties,
+                                                   @Qualifier("payrollShadowExecutor") ObjectProvider<ExecutorService> payrollShadowExecutor) {
+        // 섀도 비교의 후보 엔진도 같은 지표를 쓰도록 엔진별 지표 기록은 한 번만 만든다
+        Map<String, PayrollService> metered = new LinkedHashMap<>();
+        for (String engine : engines.names()) {
+            metered.put(engine, new MeteredPayrollService(engines.get(engine), engine, meterRegistry));
+        }
+
+        PayrollService minuteEngine = metered.get("interval");
+
+        Map<String, PayrollService> pipelines = new LinkedHashMap<>();
+        for (Map.Entry<String, PayrollService> entry : metered.entrySet()) {
+            String engine = entry.getKey();
+            PayrollService service = entry.getValue();
+            if (engine.equals(engines.defaultEngine())) {
+                PayrollResultCache cache = payrollResultCache.getIfAvailable();
+                if (cache != null) {
+                    service = new CachingPayrollService(service, cache);
+                }
+                PayrollEngineProperties.Shadow shadow = engineProperties.shadow();
+                if (shadow.enabled()) {
+                    engines.get(shadow.engine()); // 모르는 후보 엔진이면 기동 실패
+                    service = new ShadowPayrollService(service, metered.get(shadow.engine()), shadow.engine(),
+                            shadow.samplingRate(), payrollShadowExecutor.getObject(), meterRegistry);
+                }
+            }
+            service = new MinuteResolutionPayrollService(service, minuteEngine);
+            service = new NormalizingPayrollService(service, overlapProperties.overlapPolicy());
+            pipelines.put(engine, new AuditedPayrollService(service, engine, payrollAuditLogger));
+        }
+        return new PayrollEngineRouter(pipelines, engines.defaultEngine());
+    }
+
+    @Bean
+    @Primary
+    public PayrollService payrollService(PayrollEngineRouter payrollEngineRouter) {
+        return payrollEngineRouter.route(null);
+    }
+
+    @Bean
+    public PayPeriodService payPeriodService(MonthCalendarCache monthCalendarCache,
+                                             PayrollOverlapProperties overlapProperties,
+                                             PayRates payRates) {
+        return new PayPeriodService(monthCalendarCache, overlapProperties.overlapPolicy(), payRates);
+    }
+
+    @Bean
+    public PayrollSessionService payrollSessionService(MonthCalendarCache monthCalendarCache,
+                                                       PayrollRequestValidator payrollRequestValidator,
+                                                       PayrollOverlapProperties overlapProperties,
+                                                       PayrollSessionProperties sessionProperties,
+                                                       PayRates payRates) {
+        return new PayrollSessionService(monthCalendarCache, payrollRequestValidator, overlapProperties.overlapPolicy(),
+                payRates, sessionProperties.maxSessions(), sessionProperties.ttl());
+    }
+}
@@ -0,0 +1,19 @@
+package com.payroll.calculator.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 급여 세션(증분 재계산) 설정
+ *
+ * @param maxSessions 메모리에 둘 (직원, 월) 세션 최대 개수
+ * @param ttl         마지막 사용 후 세션 보관 시간
+ */
+@ConfigurationProperties(prefix = "payroll.session")
+public record PayrollSessionProperties(
+        @DefaultValue("10000") int maxSessions,
+        @DefaultValue("30m") Duration ttl
+) {
+}
@@ -0,0 +1,16 @@
+package com.payroll.calculator.config;
+
+import com.payroll.calculator.validation.PayrollRequestValidator;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(PayrollOverlapProperties.class)
+public class PayrollValidationConfig {
+
+    @Bean
+    public PayrollRequestValidator payrollRequestValidator(PayrollOverlapProperties properties) {
+        return new PayrollRequestValidator(properties.overlapPolicy());
+    }
+}
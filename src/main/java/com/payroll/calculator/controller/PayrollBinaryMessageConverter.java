@@ -0,0 +1,61 @@
+package com.payroll.calculator.controller;
+
+import com.payroll.calculator.dto.PackedPayrollRequest;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+
+/**
+ * application/x-payroll-binary 요청 본문 → {@link PackedPayrollRequest}
+ * - Jackson/Bean Validation 을 거치지 않고 바이트를 int 배열로 바로 읽는다
+ * - 응답은 기존 JSON 그대로이므로 읽기만 지원
+ */
+@Component
+public class PayrollBinaryMessageConverter extends AbstractHttpMessageConverter<PackedPayrollRequest> {
+
+    public static final String PAYROLL_BINARY_VALUE = "application/x-payroll-binary";
+    public static final MediaType PAYROLL_BINARY = MediaType.parseMediaType(PAYROLL_BINARY_VALUE);
+
+    public PayrollBinaryMessageConverter() {
+        super(PAYROLL_BINARY);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return PackedPayrollRequest.class == clazz;
+    }
+
+    @Override
+    protected boolean canWrite(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected PackedPayrollRequest readInternal(Class<? extends PackedPayrollRequest> clazz,
+                                                HttpInputMessage inputMessage) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(inputMessage.getBody()));
+        try {
+            PackedPayrollRequest request = PackedPayrollRequest.read(in);
+            if (in.read() != -1) {
+                throw new HttpMessageNotReadableException("근무 기록 수보다 본문이 깁니다.", inputMessage);
+            }
+            return request;
+        } catch (EOFException e) {
+            throw new HttpMessageNotReadableException("본문이 근무 기록 수보다 짧습니다.", e, inputMessage);
+        }
+    }
+
+    @Override
+    protected void writeInternal(PackedPayrollRequest request, HttpOutputMessage outputMessage) {
+        throw new HttpMessageNotWritableException("바이너리 응답은 지원하지 않습니다.");
+    }
+}
@@ -1,36 +1,174 @@
 package com.payroll.calculator.controller;
 
+import com.payroll.calculator.calendar.MonthCalendarCache;
 import com.payroll.calculator.dto.ApiResponse;
+import com.payroll.calculator.dto.PackedPayrollRequest;
+import com.payroll.calculator.dto.PayPeriodRequest;
+import com.payroll.calculator.dto.PayPeriodResponse;
+import com.payroll.calculator.dto.PayrollBatchResponse;
 import com.payroll.calculator.dto.PayrollRequest;
 import com.payroll.calculator.dto.PayrollResponse;
+import com.payroll.calculator.dto.PayrollSessionPatchRequest;
+import com.payroll.calculator.dto.PayrollSessionRequest;
+import com.payroll.calculator.exception.PayrollException;
+import com.payroll.calculator.service.PayPeriodService;
+import com.payroll.calculator.service.PayrollBatchService;
+import com.payroll.calculator.service.PayrollEngineRouter;
+import com.payroll.calculator.service.PayrollResultCache;
 import com.payroll.calculator.service.PayrollService;
+import com.payroll.calculator.service.PayrollSessionService;
+import com.payroll.calculator.service.PayrollStreamService;
+import com.payroll.calculator.validation.FastPayrollValidation;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
 @Slf4j
 @RestController
 @RequestMapping("/api/v1/payroll")
 @RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class PayrollController {
 
     private final PayrollService payrollService;
+    private final PayrollEngineRouter payrollEngineRouter;
+    private final PayrollBatchService payrollBatchService;
+    private final PayrollStreamService payrollStreamService;
+    private final PayPeriodService payPeriodService;
+    private final PayrollSessionService payrollSessionService;
+    private final MonthCalendarCache monthCalendarCache;
+    private final ObjectProvider<PayrollResultCache> payrollResultCache;
 
+    /**
+     * 근무 기록이 수천 건이어도 검증 비용이 계산보다 커지지 않도록 빠른 검증 경로 사용
+     * - X-Payroll-Engine 헤더가 있으면 기본 엔진 대신 해당 엔진으로 계산 (카나리 비교용)
+     */
     @PostMapping("/calculate")
-    public ResponseEntity<ApiResponse<PayrollResponse>> calculate(@Valid @RequestBody PayrollRequest request) {
-        log.info("급여 계산 요청 - records: {}, wage: {}, year: {}, month: {}",
-                request.getRecords().size(), request.getWage(), request.getYear(), request.getMonth());
+    public ResponseEntity<ApiResponse<PayrollResponse>> calculate(
+            @FastPayrollValidation @RequestBody PayrollRequest request,
+            @RequestHeader(value = PayrollEngineRouter.ENGINE_HEADER, required = false) String engine) {
+        // 요청별 기록은 PayrollService 의 감사 로그(payroll.audit)가 비동기로 남긴다
+        PayrollResponse response = engine(engine).calculate(request);
+        return ResponseEntity.ok(ApiResponse.ok(response));
+    }
 
-        PayrollResponse response = payrollService.calculate(request);
+    /**
+     * 같은 경로의 바이너리 요청 (Content-Type: application/x-payroll-binary)
+     * - 범위 검사는 {@link PayrollBinaryMessageConverter} 가 본문을 읽으면서, 월 길이/겹침은 빠른 검증이 확인
+     */
+    @PostMapping(value = "/calculate", consumes = PayrollBinaryMessageConverter.PAYROLL_BINARY_VALUE)
+    public ResponseEntity<ApiResponse<PayrollResponse>> calculateBinary(
+            @FastPayrollValidation @RequestBody PackedPayrollRequest request,
+            @RequestHeader(value = PayrollEngineRouter.ENGINE_HEADER, required = false) String engine) {
+        PayrollResponse response = engine(engine).calculate(request);
+        return ResponseEntity.ok(ApiResponse.ok(response));
+    }
 
-        log.info("급여 계산 완료 - totalPay: {}", response.getTotalPay());
+    /**
+     * 임의 급여 기간 계산 (격주, 4-4-5, 월 경계를 넘는 주) - 근무 기록은 실제 일시로 받는다
+     */
+    @PostMapping("/calculate/period")
+    public ResponseEntity<ApiResponse<PayPeriodResponse>> calculatePeriod(@Valid @RequestBody PayPeriodRequest request) {
+        PayPeriodResponse response = payPeriodService.calculate(request);
         return ResponseEntity.ok(ApiResponse.ok(response));
     }
 
+    @PostMapping("/calculate/batch")
+    public ResponseEntity<ApiResponse<PayrollBatchResponse>> calculateBatch(@RequestBody List<PayrollRequest> requests) {
+        PayrollBatchResponse response = payrollBatchService.calculateAll(requests);
+
+        log.debug("급여 일괄 계산 완료 - size: {}, success: {}, failure: {}", requests.size(),
+                response.getSuccessCount(), response.getFailureCount());
+        return ResponseEntity.ok(ApiResponse.ok(response));
+    }
+
+    /**
+     * NDJSON 스트리밍 계산 - 한 줄 입력마다 한 줄 결과를 즉시 내보낸다
+     */
+    @PostMapping(value = "/calculate/stream",
+            consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void calculateStream(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        int count = payrollStreamService.calculate(request.getInputStream(), response.getOutputStream());
+
+        log.debug("급여 스트리밍 계산 완료 - count: {}", count);
+    }
+
+    /**
+     * 급여 세션 생성/교체 - 해당 월(yyyy-MM)의 전체 근무 기록을 등록하고 현재 결과를 돌려준다
+     */
+    @PutMapping("/{employeeId}/{period}/records")
+    public ResponseEntity<ApiResponse<PayrollResponse>> putSession(
+            @PathVariable String employeeId, @PathVariable String period,
+            @Valid @RequestBody PayrollSessionRequest request) {
+        PayrollResponse response = payrollSessionService.put(employeeId, period, request);
+        return ResponseEntity.ok(ApiResponse.ok(response));
+    }
+
+    /**
+     * 급여 세션 증분 수정 - 추가/삭제된 근무 기록만 보내면 바뀐 일/주차만 다시 계산
+     */
+    @PatchMapping("/{employeeId}/{period}/records")
+    public ResponseEntity<ApiResponse<PayrollResponse>> patchSession(
+            @PathVariable String employeeId, @PathVariable String period,
+            @Valid @RequestBody PayrollSessionPatchRequest request) {
+        PayrollResponse response = payrollSessionService.patch(employeeId, period, request);
+        return ResponseEntity.ok(ApiResponse.ok(response));
+    }
+
+    @GetMapping("/{employeeId}/{period}")
+    public ResponseEntity<ApiResponse<PayrollResponse>> getSession(
+            @PathVariable String employeeId, @PathVariable String period) {
+        return ResponseEntity.ok(ApiResponse.ok(payrollSessionService.get(employeeId, period)));
+    }
+
+    @DeleteMapping("/{employeeId}/{period}")
+    public ResponseEntity<ApiResponse<Void>> deleteSession(
+            @PathVariable String employeeId, @PathVariable String period) {
+        payrollSessionService.delete(employeeId, period);
+        return ResponseEntity.ok(ApiResponse.ok(null));
+    }
+
+    /**
+     * 월 달력 캐시 적중률/크기 조회
+     */
+    @GetMapping("/calendar-cache")
+    public ResponseEntity<ApiResponse<MonthCalendarCache.Stats>> calendarCacheStats() {
+        return ResponseEntity.ok(ApiResponse.ok(monthCalendarCache.stats()));
+    }
+
+    /**
+     * 결과 캐시 적중률/크기 조회 (payroll.cache.enabled=true 일 때만)
+     */
+    @GetMapping("/result-cache")
+    public ResponseEntity<ApiResponse<PayrollResultCache.Stats>> resultCacheStats() {
+        PayrollResultCache cache = payrollResultCache.getIfAvailable();
+        if (cache == null) {
+            throw new PayrollException(404, "결과 캐시가 비활성화되어 있습니다.");
+        }
+        return ResponseEntity.ok(ApiResponse.ok(cache.stats()));
+    }
+
     @GetMapping("/health")
     public ResponseEntity<ApiResponse<String>> health() {
         return ResponseEntity.ok(ApiResponse.ok("OK"));
     }
-}
\ No newline at end of file
+
+    private PayrollService engine(String engine) {
+        return engine == null ? payrollService : payrollEngineRouter.route(engine);
+    }
+}
@@ -0,0 +1,59 @@
+package com.payroll.calculator.controller;
+
+import com.payroll.calculator.dto.ApiResponse;
+import com.payroll.calculator.dto.PunchAccrualResponse;
+import com.payroll.calculator.exception.PayrollException;
+import com.payroll.calculator.ingest.PunchIngestionPipeline;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.YearMonth;
+
+/**
+ * 출퇴근 로그 수집 결과 조회 (payroll.ingest.enabled=true 일 때만)
+ * - /api/v1/payroll/{employeeId}/{period} 세션 API 와 경로가 겹치지 않도록 별도 prefix 사용
+ */
+@RestController
+@RequestMapping("/api/v1/payroll-ingest")
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class PunchIngestController {
+
+    private final ObjectProvider<PunchIngestionPipeline> punchIngestionPipeline;
+
+    /**
+     * 출퇴근 로그로 누적 중인 직원 급여
+     * - period(yyyy-MM)가 없으면 가장 최근 월, 마감된 근무가 없으면 404
+     */
+    @GetMapping("/{employeeId}")
+    public ResponseEntity<ApiResponse<PunchAccrualResponse>> accrued(
+            @PathVariable String employeeId, @RequestParam(required = false) YearMonth period) {
+        PunchIngestionPipeline pipeline = ingestionPipeline();
+        PunchAccrualResponse response = period == null
+                ? pipeline.store().accrued(employeeId)
+                : pipeline.store().accrued(employeeId, period);
+        if (response == null) {
+            throw new PayrollException(404, "누적된 근무가 없습니다: " + employeeId);
+        }
+        return ResponseEntity.ok(ApiResponse.ok(response));
+    }
+
+    /**
+     * 출퇴근 로그 수집 상태 - 읽은/반영 완료 오프셋, 큐 길이, 이벤트 처리 결과 수
+     */
+    @GetMapping("/status")
+    public ResponseEntity<ApiResponse<PunchIngestionPipeline.Stats>> status() {
+        return ResponseEntity.ok(ApiResponse.ok(ingestionPipeline().stats()));
+    }
+
+    private PunchIngestionPipeline ingestionPipeline() {
+        PunchIngestionPipeline pipeline = punchIngestionPipeline.getIfAvailable();
+        if (pipeline == null) {
+            throw new PayrollException(404, "출퇴근 로그 수집이 비활성화되어 있습니다.");
+        }
+        return pipeline;
+    }
+}
@@ -0,0 +1,136 @@
+package com.payroll.calculator.controller;
+
+import com.payroll.calculator.calendar.MonthCalendarCache;
+import com.payroll.calculator.config.PayrollBatchProperties;
+import com.payroll.calculator.dto.ApiResponse;
+import com.payroll.calculator.dto.PayrollBatchItemResponse;
+import com.payroll.calculator.dto.PayrollBatchResponse;
+import com.payroll.calculator.dto.PayrollRequest;
+import com.payroll.calculator.dto.PayrollResponse;
+import com.payroll.calculator.exception.PayrollException;
+import com.payroll.calculator.service.PayrollBatchService;
+import com.payroll.calculator.service.PayrollEngineRouter;
+import com.payroll.calculator.service.PayrollResultCache;
+import com.payroll.calculator.service.PayrollService;
+import com.payroll.calculator.validation.PayrollRequestValidator;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * WebFlux(Netty) 급여 API - reactive 프로필(spring.main.web-application-type=reactive)에서만 등록
+ * - 계산은 이벤트 루프가 아니라 일괄 계산 스레드 풀에서 수행
+ * - 스트리밍은 동시에 계산 중인 건수를 창 크기로 제한하고, 입력은 하위 구독자의 요청만큼만 읽는다
+ */
+@RestController
+@RequestMapping("/api/v1/payroll")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactivePayrollController {
+
+    private final PayrollService payrollService;
+    private final PayrollEngineRouter payrollEngineRouter;
+    private final PayrollBatchService payrollBatchService;
+    private final PayrollRequestValidator payrollRequestValidator;
+    private final MonthCalendarCache monthCalendarCache;
+    private final ObjectProvider<PayrollResultCache> payrollResultCache;
+    private final Scheduler scheduler;
+    private final int window;
+
+    public ReactivePayrollController(PayrollService payrollService,
+                                     PayrollEngineRouter payrollEngineRouter,
+                                     PayrollBatchService payrollBatchService,
+                                     PayrollRequestValidator payrollRequestValidator,
+                                     MonthCalendarCache monthCalendarCache,
+                                     ObjectProvider<PayrollResultCache> payrollResultCache,
+                                     @Qualifier("payrollBatchExecutor") ExecutorService executor,
+                                     PayrollBatchProperties properties) {
+        this.payrollService = payrollService;
+        this.payrollEngineRouter = payrollEngineRouter;
+        this.payrollBatchService = payrollBatchService;
+        this.payrollRequestValidator = payrollRequestValidator;
+        this.monthCalendarCache = monthCalendarCache;
+        this.payrollResultCache = payrollResultCache;
+        this.scheduler = Schedulers.fromExecutorService(executor, "payroll-batch");
+        this.window = properties.effectiveParallelism() * 2;
+    }
+
+    /**
+     * MVC 의 @FastPayrollValidation 과 같이 Bean Validation 대신 {@link PayrollRequestValidator} 로 검증 (계산 스레드에서)
+     */
+    @PostMapping("/calculate")
+    public Mono<ResponseEntity<ApiResponse<PayrollResponse>>> calculate(
+            @RequestBody Mono<PayrollRequest> request,
+            @RequestHeader(value = PayrollEngineRouter.ENGINE_HEADER, required = false) String engine) {
+        PayrollService service = engine == null ? payrollService : payrollEngineRouter.route(engine);
+        return request
+                .publishOn(scheduler)
+                .doOnNext(payrollRequestValidator::validate)
+                .map(service::calculate)
+                .map(response -> ResponseEntity.ok(ApiResponse.ok(response)));
+    }
+
+    /**
+     * 일괄 계산은 내부에서 스레드 풀 작업을 기다리므로 같은 풀이 아닌 boundedElastic 에서 호출
+     */
+    @PostMapping("/calculate/batch")
+    public Mono<ResponseEntity<ApiResponse<PayrollBatchResponse>>> calculateBatch(@RequestBody Mono<List<PayrollRequest>> requests) {
+        return requests
+                .publishOn(Schedulers.boundedElastic())
+                .map(payrollBatchService::calculateAll)
+                .map(response -> ResponseEntity.ok(ApiResponse.ok(response)));
+    }
+
+    /**
+     * NDJSON 스트리밍 계산 - 입력 순서대로 한 줄씩 내보내며, 건별 실패는 실패 줄로 응답한다
+     */
+    @PostMapping(value = "/calculate/stream",
+            consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<ApiResponse<PayrollResponse>> calculateStream(@RequestBody Flux<PayrollRequest> requests) {
+        return requests
+                .index()
+                .flatMapSequential(indexed -> Mono
+                                .fromCallable(() -> payrollBatchService.calculateOne(
+                                        indexed.getT1().intValue(), indexed.getT2()))
+                                .subscribeOn(scheduler),
+                        window, 1)
+                .map(this::toLine);
+    }
+
+    @GetMapping("/calendar-cache")
+    public Mono<ResponseEntity<ApiResponse<MonthCalendarCache.Stats>>> calendarCacheStats() {
+        return Mono.fromSupplier(() -> ResponseEntity.ok(ApiResponse.ok(monthCalendarCache.stats())));
+    }
+
+    @GetMapping("/result-cache")
+    public Mono<ResponseEntity<ApiResponse<PayrollResultCache.Stats>>> resultCacheStats() {
+        return Mono.fromSupplier(() -> {
+            PayrollResultCache cache = payrollResultCache.getIfAvailable();
+            if (cache == null) {
+                throw new PayrollException(404, "결과 캐시가 비활성화되어 있습니다.");
+            }
+            return ResponseEntity.ok(ApiResponse.ok(cache.stats()));
+        });
+    }
+
+    @GetMapping("/health")
+    public Mono<ResponseEntity<ApiResponse<String>>> health() {
+        return Mono.just(ResponseEntity.ok(ApiResponse.ok("OK")));
+    }
+
+    private ApiResponse<PayrollResponse> toLine(PayrollBatchItemResponse item) {
+        return item.isSuccess()
+                ? ApiResponse.ok(item.getResult())
+                : ApiResponse.error(item.getStatus(), item.getMessage());
+    }
+}
@@ -0,0 +1,261 @@
+package com.payroll.calculator.dto;
+
+import com.payroll.calculator.exception.PayrollException;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 엔진 내부 요청 표현 - 근무 기록 하나를 int 하나 (시작 오프셋 << 10 | 종료 오프셋) 로 담는다
+ * - 오프셋은 월 시작부터의 시간 ((일 - 1) * 24 + 시), 최대 743 이라 10비트면 충분
+ * - 분이 있는 요청은 분 단위 오프셋 (시작 << 16 | 종료), 월 최대 44,640분이라 16비트 ({@link #isMinuteResolution()}).
+ *   시간 칸을 도는 엔진은 분 단위를 다룰 수 없으므로 구간 산술 엔진만 계산한다
+ * - JSON 요청은 {@link #from(PayrollRequest)}, 바이너리 요청은 {@link #read(DataInput)} 로 경계에서 한 번만 만든다
+ * - 엔진은 WorkRecordRequest 의 Integer 언박싱이나 기록별 배열 할당 없이 이 배열만 읽는다
+ *
+ * 바이너리 형식 (application/x-payroll-binary, 빅 엔디언)
+ * <pre>
+ * int32 wage | int16 year | int8 month | int32 recordCount | recordCount * (u8 startDay, u8 startHour, u8 endDay, u8 endHour)
+ * </pre>
+ * 바이너리 형식은 시간 단위만 지원한다
+ */
+@Getter
+public final class PackedPayrollRequest {
+
+    public static final int OFFSET_BITS = 10;
+    public static final int OFFSET_MASK = (1 << OFFSET_BITS) - 1;
+    public static final int MINUTE_OFFSET_BITS = 16;
+    public static final int MINUTE_OFFSET_MASK = (1 << MINUTE_OFFSET_BITS) - 1;
+    public static final int MINUTES_PER_HOUR = 60;
+    public static final int HEADER_BYTES = 4 + 2 + 1 + 4;
+    public static final int RECORD_BYTES = 4;
+    public static final int MAX_RECORDS = 100_000;
+
+    private static final int HOURS_PER_DAY = 24;
+
+    private final int wage;
+    private final int year;
+    private final int month;
+    private final boolean minuteResolution;
+
+    @Getter(AccessLevel.NONE)
+    private final int[] intervals;
+
+    private PackedPayrollRequest(int wage, int year, int month, boolean minuteResolution, int[] intervals) {
+        this.wage = wage;
+        this.year = year;
+        this.month = month;
+        this.minuteResolution = minuteResolution;
+        this.intervals = intervals;
+    }
+
+    /**
+     * 검증을 마친 JSON 요청을 오프셋 배열로 옮긴다
+     */
+    public static PackedPayrollRequest from(PayrollRequest request) {
+        List<WorkRecordRequest> records = request.getRecords();
+        boolean minuteResolution = hasMinutes(records);
+        int[] intervals = new int[records.size()];
+        for (int r = 0; r < intervals.length; r++) {
+            WorkRecordRequest record = records.get(r);
+            intervals[r] = minuteResolution
+                    ? encodeMinutes(record.getStartDay(), record.getStartHour(), minuteOf(record.getStartMinute()),
+                    record.getEndDay(), record.getEndHour(), minuteOf(record.getEndMinute()))
+                    : encode(record.getStartDay(), record.getStartHour(), record.getEndDay(), record.getEndHour());
+        }
+        return new PackedPayrollRequest(request.getWage(), request.getYear(), request.getMonth(), minuteResolution, intervals);
+    }
+
+    /**
+     * 0이 아닌 분이 있는 기록이 하나라도 있는지 - 없으면 기존 시간 단위 표현을 그대로 쓴다
+     */
+    public static boolean hasMinutes(List<WorkRecordRequest> records) {
+        for (WorkRecordRequest record : records) {
+            if (record != null && (minuteOf(record.getStartMinute()) != 0 || minuteOf(record.getEndMinute()) != 0)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 바이너리 본문을 읽으며 PayrollRequest 의 Bean Validation 과 같은 범위를 검사한다
+     */
+    public static PackedPayrollRequest read(DataInput in) throws IOException {
+        int wage = in.readInt();
+        int year = in.readShort();
+        int month = in.readUnsignedByte();
+        int count = in.readInt();
+        if (count < 1) {
+            throw new PayrollException(400, "records: 근무 기록은 최소 1개 이상이어야 합니다.");
+        }
+        if (count > MAX_RECORDS) {
+            throw new PayrollException(400, "records: 근무 기록은 " + MAX_RECORDS + "개 이하여야 합니다.");
+        }
+        if (wage < 1) {
+            throw new PayrollException(400, "wage: 시급은 1 이상이어야 합니다.");
+        }
+        if (month < 1 || month > 12) {
+            throw new PayrollException(400, "month: 1 이상 12 이하여야 합니다.");
+        }
+
+        int[] intervals = new int[count];
+        for (int r = 0; r < count; r++) {
+            int startDay = checkRange(in.readUnsignedByte(), 1, 31, r, "startDay");
+            int startHour = checkRange(in.readUnsignedByte(), 0, 23, r, "startHour");
+            int endDay = checkRange(in.readUnsignedByte(), 1, 31, r, "endDay");
+            int endHour = checkRange(in.readUnsignedByte(), 0, 23, r, "endHour");
+            intervals[r] = encode(startDay, startHour, endDay, endHour);
+        }
+        return new PackedPayrollRequest(wage, year, month, false, intervals);
+    }
+
+    public void write(DataOutput out) throws IOException {
+        if (minuteResolution) {
+            throw new IllegalStateException("binary payroll format supports hour resolution only");
+        }
+        out.writeInt(wage);
+        out.writeShort(year);
+        out.writeByte(month);
+        out.writeInt(intervals.length);
+        for (int r = 0; r < intervals.length; r++) {
+            out.writeByte(startDay(r));
+            out.writeByte(startHour(r));
+            out.writeByte(endDay(r));
+            out.writeByte(endHour(r));
+        }
+    }
+
+    public int byteSize() {
+        return HEADER_BYTES + intervals.length * RECORD_BYTES;
+    }
+
+    public int recordCount() {
+        return intervals.length;
+    }
+
+    /**
+     * 기록의 시작 오프셋 (월 시작부터의 시간, 분 단위 요청이면 분)
+     */
+    public int start(int record) {
+        return intervals[record] >>> offsetBits();
+    }
+
+    /**
+     * 기록의 종료 오프셋 (해당 시간은 포함하지 않음). 월 길이 검사는 달력을 가진 엔진이 한다
+     */
+    public int end(int record) {
+        return intervals[record] & offsetMask();
+    }
+
+    /**
+     * 오프셋 한 칸이 1시간이면 1, 1분이면 60
+     */
+    public int unitsPerHour() {
+        return minuteResolution ? MINUTES_PER_HOUR : 1;
+    }
+
+    /**
+     * 구간 인코딩의 종료 오프셋 비트 수 (시간 단위 10, 분 단위 16)
+     */
+    public int offsetBits() {
+        return minuteResolution ? MINUTE_OFFSET_BITS : OFFSET_BITS;
+    }
+
+    public int offsetMask() {
+        return minuteResolution ? MINUTE_OFFSET_MASK : OFFSET_MASK;
+    }
+
+    /**
+     * 기록별 (시작 << offsetBits | 종료) 값의 복사본
+     */
+    public int[] copyIntervals() {
+        return Arrays.copyOf(intervals, intervals.length);
+    }
+
+    /**
+     * 같은 시급/년/월에 구간 배열만 바꾼 요청 (배열은 복사하지 않음)
+     */
+    public PackedPayrollRequest withIntervals(int[] intervals) {
+        return new PackedPayrollRequest(wage, year, month, minuteResolution, intervals);
+    }
+
+    public int startDay(int record) {
+        return start(record) / unitsPerHour() / HOURS_PER_DAY + 1;
+    }
+
+    public int startHour(int record) {
+        return start(record) / unitsPerHour() % HOURS_PER_DAY;
+    }
+
+    public int startMinute(int record) {
+        return start(record) % unitsPerHour();
+    }
+
+    public int endDay(int record) {
+        return end(record) / unitsPerHour() / HOURS_PER_DAY + 1;
+    }
+
+    public int endHour(int record) {
+        return end(record) / unitsPerHour() % HOURS_PER_DAY;
+    }
+
+    public int endMinute(int record) {
+        return end(record) % unitsPerHour();
+    }
+
+    /**
+     * 기록별 객체가 필요한 곳을 위한 역변환
+     */
+    public PayrollRequest toRequest() {
+        List<WorkRecordRequest> records = new ArrayList<>(intervals.length);
+        for (int r = 0; r < intervals.length; r++) {
+            WorkRecordRequest record = new WorkRecordRequest();
+            record.setStartDay(startDay(r));
+            record.setStartHour(startHour(r));
+            record.setEndDay(endDay(r));
+            record.setEndHour(endHour(r));
+            if (minuteResolution) {
+                record.setStartMinute(startMinute(r));
+                record.setEndMinute(endMinute(r));
+            }
+            records.add(record);
+        }
+        PayrollRequest request = new PayrollRequest();
+        request.setRecords(records);
+        request.setWage(wage);
+        request.setYear(year);
+        request.setMonth(month);
+        return request;
+    }
+
+    private static int encode(int startDay, int startHour, int endDay, int endHour) {
+        int start = (startDay - 1) * HOURS_PER_DAY + startHour;
+        int end = (endDay - 1) * HOURS_PER_DAY + endHour;
+        return start << OFFSET_BITS | end;
+    }
+
+    private static int encodeMinutes(int startDay, int startHour, int startMinute, int endDay, int endHour, int endMinute) {
+        int start = ((startDay - 1) * HOURS_PER_DAY + startHour) * MINUTES_PER_HOUR + startMinute;
+        int end = ((endDay - 1) * HOURS_PER_DAY + endHour) * MINUTES_PER_HOUR + endMinute;
+        return start << MINUTE_OFFSET_BITS | end;
+    }
+
+    private static int minuteOf(Integer minute) {
+        return minute == null ? 0 : minute;
+    }
+
+    private static int checkRange(int value, int min, int max, int index, String field) {
+        if (value < min || value > max) {
+            throw new PayrollException(400,
+                    "records[" + index + "]." + field + ": " + min + " 이상 " + max + " 이하여야 합니다.");
+        }
+        return value;
+    }
+}
@@ -0,0 +1,44 @@
+package com.payroll.calculator.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 임의 급여 기간 요청 (격주, 4-4-5 등)
+ * - 기간은 [periodStart, periodEnd] 양 끝 날짜를 포함하고, 근무 기록은 날짜+시각으로 받는다
+ * - carriedWeekHours: periodStart 가 속한 주(월요일 시작)에서 이전 기간에 이미 일한 시간.
+ *   이전 응답의 openWeekHours 를 그대로 넘기면 월/기간 경계에 걸친 주를 나누지 않고 주휴수당을 판단한다
+ * - carriedWeekMinutes: 이월 시간의 분 부분 (이전 응답의 openWeekMinutes)
+ */
+@Data
+@NoArgsConstructor
+public class PayPeriodRequest {
+
+    @NotEmpty(message = "근무 기록은 최소 1개 이상이어야 합니다.")
+    @Valid
+    private List<PeriodWorkRecordRequest> records;
+
+    @NotNull(message = "시급은 필수입니다.")
+    @Min(value = 1, message = "시급은 1 이상이어야 합니다.")
+    private Integer wage;
+
+    @NotNull(message = "기간 시작일은 필수입니다.")
+    private LocalDate periodStart;
+
+    @NotNull(message = "기간 종료일은 필수입니다.")
+    private LocalDate periodEnd;
+
+    @Min(0) @Max(168)
+    private int carriedWeekHours;
+
+    @Min(0) @Max(59)
+    private int carriedWeekMinutes;
+}
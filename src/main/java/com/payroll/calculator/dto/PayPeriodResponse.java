@@ -0,0 +1,24 @@
+package com.payroll.calculator.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 급여 기간 계산 결과
+ * - 주휴수당은 기간 안에서 일요일까지 끝난 주만 포함한다
+ * - 기간 종료일 이후에 끝나는 마지막 주는 openWeekStart/openWeekHours/openWeekMinutes 로 돌려주고,
+ *   다음 기간 요청의 carriedWeekHours/carriedWeekMinutes 로 이어간다
+ */
+@Getter
+@Builder
+public class PayPeriodResponse {
+
+    private LocalDate periodStart;
+    private LocalDate periodEnd;
+    private PayrollResponse payroll;
+    private LocalDate openWeekStart;
+    private int openWeekHours;
+    private int openWeekMinutes;
+}
@@ -0,0 +1,40 @@
+package com.payroll.calculator.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 일괄 계산의 개별 직원 결과
+ * - 실패한 건은 result 없이 status/message 만 채운다
+ */
+@Getter
+@Builder
+public class PayrollBatchItemResponse {
+
+    private int index;
+    private int status;
+    private String message;
+    private PayrollResponse result;
+
+    public static PayrollBatchItemResponse success(int index, PayrollResponse result) {
+        return PayrollBatchItemResponse.builder()
+                .index(index)
+                .status(200)
+                .message("success")
+                .result(result)
+                .build();
+    }
+
+    public static PayrollBatchItemResponse failure(int index, int status, String message) {
+        return PayrollBatchItemResponse.builder()
+                .index(index)
+                .status(status)
+                .message(message)
+                .result(null)
+                .build();
+    }
+
+    public boolean isSuccess() {
+        return status == 200;
+    }
+}
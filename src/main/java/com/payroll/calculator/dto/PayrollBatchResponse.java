@@ -0,0 +1,26 @@
+package com.payroll.calculator.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class PayrollBatchResponse {
+
+    private int totalCount;
+    private int successCount;
+    private int failureCount;
+    private List<PayrollBatchItemResponse> results;
+
+    public static PayrollBatchResponse of(List<PayrollBatchItemResponse> results) {
+        int successCount = (int) results.stream().filter(PayrollBatchItemResponse::isSuccess).count();
+        return PayrollBatchResponse.builder()
+                .totalCount(results.size())
+                .successCount(successCount)
+                .failureCount(results.size() - successCount)
+                .results(results)
+                .build();
+    }
+}
@@ -0,0 +1,28 @@
+package com.payroll.calculator.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 급여 세션 증분 수정 요청
+ * - remove 를 먼저, add 를 나중에 적용하므로 근무 한 건 수정은 (remove 기존 기록, add 새 기록) 으로 보낸다
+ * - wage 가 있으면 시급도 바꾼다 (기존 집계는 그대로 두고 금액만 다시 계산)
+ */
+@Data
+@NoArgsConstructor
+public class PayrollSessionPatchRequest {
+
+    @Valid
+    private List<WorkRecordRequest> add = new ArrayList<>();
+
+    @Valid
+    private List<WorkRecordRequest> remove = new ArrayList<>();
+
+    @Min(value = 1, message = "시급은 1 이상이어야 합니다.")
+    private Integer wage;
+}
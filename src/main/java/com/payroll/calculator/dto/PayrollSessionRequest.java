@@ -0,0 +1,26 @@
+package com.payroll.calculator.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 급여 세션 생성/교체 요청 - 해당 월의 전체 근무 기록 (비어 있으면 빈 세션)
+ */
+@Data
+@NoArgsConstructor
+public class PayrollSessionRequest {
+
+    @NotNull(message = "근무 기록 목록은 필수입니다.")
+    @Valid
+    private List<WorkRecordRequest> records = new ArrayList<>();
+
+    @NotNull(message = "시급은 필수입니다.")
+    @Min(value = 1, message = "시급은 1 이상이어야 합니다.")
+    private Integer wage;
+}
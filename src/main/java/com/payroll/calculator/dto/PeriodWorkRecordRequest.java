@@ -0,0 +1,21 @@
+package com.payroll.calculator.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 급여 기간 요청의 근무 기록 - 정시 단위 [start, end)
+ */
+@Data
+@NoArgsConstructor
+public class PeriodWorkRecordRequest {
+
+    @NotNull(message = "시작 시각은 필수입니다")
+    private LocalDateTime start;
+
+    @NotNull(message = "종료 시각은 필수입니다")
+    private LocalDateTime end;
+}
@@ -0,0 +1,22 @@
+package com.payroll.calculator.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+/**
+ * 출퇴근 이벤트로 누적한 직원별 월 급여
+ * - payroll 은 마감된 근무(퇴근까지 찍힌 근무)만 반영하고, 아직 퇴근 전이면 openSince 에 출근 시각이 온다
+ */
+@Getter
+@Builder
+public class PunchAccrualResponse {
+
+    private String employeeId;
+    private YearMonth period;
+    private PayrollResponse payroll;
+    private int shifts;
+    private LocalDateTime openSince;
+}
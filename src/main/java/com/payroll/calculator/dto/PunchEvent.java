@@ -0,0 +1,25 @@
+package com.payroll.calculator.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 출퇴근 단말기 이벤트 - 수집 로그 파일의 한 줄 (NDJSON)
+ * <pre>{"employeeId":"e1","type":"IN","time":"2025-01-15T09:00","wage":10030}</pre>
+ * - wage 는 선택, 있으면 해당 직원의 시급을 바꾼다
+ */
+@Data
+@NoArgsConstructor
+public class PunchEvent {
+
+    public enum Type {
+        IN, OUT
+    }
+
+    private String employeeId;
+    private Type type;
+    private LocalDateTime time;
+    private Integer wage;
+}
@@ -6,6 +6,10 @@ import jakarta.validation.constraints.NotNull;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+/**
+ * 근무 기록 하나 - 시각은 (일, 시[, 분])
+ * - 분(startMinute/endMinute)은 선택, 없으면 0분. 한 기록이라도 분이 있으면 요청 전체를 분 단위로 계산한다
+ */
 @Data
 @NoArgsConstructor
 public class WorkRecordRequest {
@@ -25,4 +29,10 @@ public class WorkRecordRequest {
     @NotNull(message = "종료시간은 필수입니다")
     @Min(0) @Max(23)
     private Integer endHour;
+
+    @Min(0) @Max(59)
+    private Integer startMinute;
+
+    @Min(0) @Max(59)
+    private Integer endMinute;
 }
\ No newline at end of file
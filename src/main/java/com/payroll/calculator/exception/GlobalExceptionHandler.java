@@ -1,20 +1,41 @@
 package com.payroll.calculator.exception;
 
 import com.payroll.calculator.dto.ApiResponse;
+import com.payroll.calculator.metrics.PayrollMetrics;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ServerWebInputException;
 
 @Slf4j
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    private final PayrollMetrics payrollMetrics;
+
     @ExceptionHandler(PayrollException.class)
     public ResponseEntity<ApiResponse<Void>> handlePayrollException(PayrollException e) {
         log.error("PayrollException: {}", e.getMessage());
+        if (e.getStatus() == HttpStatus.BAD_REQUEST.value()) {
+            payrollMetrics.validationFailed(PayrollMetrics.PAYROLL_RULE);
+        }
+        return ResponseEntity
+                .status(e.getStatus())
+                .body(ApiResponse.error(e.getStatus(), e.getMessage()));
+    }
+
+    @ExceptionHandler(PayrollValidationException.class)
+    public ResponseEntity<ApiResponse<Void>> handlePayrollValidationException(PayrollValidationException e) {
+        log.warn("Validation failed: {}", e.getMessage());
+        payrollMetrics.validationFailed(e.getField());
         return ResponseEntity
                 .status(e.getStatus())
                 .body(ApiResponse.error(e.getStatus(), e.getMessage()));
@@ -22,15 +43,37 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ApiResponse<Void>> handleValidationException(MethodArgumentNotValidException e) {
-        String message = e.getBindingResult().getFieldErrors().stream()
-                .map(error -> error.getField() + ": " + error.getDefaultMessage())
-                .findFirst()
-                .orElse("유효성 검증 실패");
+        return handleBindingResult(e.getBindingResult());
+    }
 
-        log.warn("Validation failed: {}", message);
+    /**
+     * WebFlux(@Valid @RequestBody Mono) 검증 실패
+     */
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ApiResponse<Void>> handleWebExchangeBindException(WebExchangeBindException e) {
+        return handleBindingResult(e.getBindingResult());
+    }
+
+    /**
+     * 요청 본문 해석 실패 (잘못된 JSON, 길이가 맞지 않는 바이너리 본문 등)
+     */
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<ApiResponse<Void>> handleHttpMessageNotReadableException(HttpMessageNotReadableException e) {
+        log.warn("Unreadable request: {}", e.getMessage());
         return ResponseEntity
                 .status(HttpStatus.BAD_REQUEST)
-                .body(ApiResponse.error(400, message));
+                .body(ApiResponse.error(400, "잘못된 요청 형식입니다"));
+    }
+
+    /**
+     * WebFlux 요청 본문 해석 실패 (잘못된 JSON 등)
+     */
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<ApiResponse<Void>> handleServerWebInputException(ServerWebInputException e) {
+        log.warn("Invalid input: {}", e.getReason());
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(ApiResponse.error(400, "잘못된 요청 형식입니다"));
     }
 
     @ExceptionHandler(Exception.class)
@@ -40,4 +83,19 @@ public class GlobalExceptionHandler {
                 .status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(ApiResponse.error(500, "서버 오류가 발생했습니다"));
     }
-}
\ No newline at end of file
+
+    private ResponseEntity<ApiResponse<Void>> handleBindingResult(BindingResult bindingResult) {
+        bindingResult.getFieldErrors()
+                .forEach(error -> payrollMetrics.validationFailed(error.getField()));
+
+        String message = bindingResult.getFieldErrors().stream()
+                .map(error -> error.getField() + ": " + error.getDefaultMessage())
+                .findFirst()
+                .orElse("유효성 검증 실패");
+
+        log.warn("Validation failed: {}", message);
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(ApiResponse.error(400, message));
+    }
+}
@@ -0,0 +1,17 @@
+package com.payroll.calculator.exception;
+
+import lombok.Getter;
+
+/**
+ * 요청 필드 단위 검증 실패 - 메시지는 Bean Validation 응답과 같은 "필드: 사유" 형식
+ */
+@Getter
+public class PayrollValidationException extends PayrollException {
+
+    private final String field;
+
+    public PayrollValidationException(String field, String reason) {
+        super(400, field + ": " + reason);
+        this.field = field;
+    }
+}
@@ -0,0 +1,229 @@
+package com.payroll.calculator.ingest;
+
+import com.payroll.calculator.calendar.MonthCalendarCache;
+import com.payroll.calculator.dto.PackedPayrollRequest;
+import com.payroll.calculator.dto.PayrollResponse;
+import com.payroll.calculator.dto.PunchAccrualResponse;
+import com.payroll.calculator.dto.PunchEvent;
+import com.payroll.calculator.exception.PayrollException;
+import com.payroll.calculator.money.PayRates;
+import com.payroll.calculator.service.OverlapPolicy;
+import com.payroll.calculator.service.PayrollSession;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 출퇴근 이벤트를 근무 구간으로 짝지어 직원별 월 급여를 누적
+ * - 출근(IN) 후 퇴근(OUT)이 오면 근무 하나로 마감하고, 월을 넘는 근무는 월별로 나눠 {@link PayrollSession} 에 증분 반영
+ * - 마감할 때마다 (직원, 월) 결과를 불변 스냅샷으로 바꿔 두므로 조회는 맵 조회 몇 번으로 끝난다
+ * - 시각은 정시 단위로 버림 (09:40 출근 → 09시), 버린 뒤 길이가 0 이거나 maxShiftHours 를 넘는 근무는 버린다
+ * - 직원별로 최근 retainedMonths 개월만 보관하고, 그보다 오래된 월에서 시작하는 근무는 반영하지 않는다 (EXPIRED)
+ * - 반영({@link #apply})은 수집 스레드 하나만 호출하고, 조회는 어느 스레드에서나 가능
+ */
+@Slf4j
+public class PunchAccrualStore {
+
+    /**
+     * OPENED: 출근, CLOSED: 근무 마감, UNPAIRED: 짝이 없는 출근/퇴근, INVALID: 길이가 잘못된 근무, REJECTED: 겹침 정책 위반,
+     * EXPIRED: 보관 기간(retainedMonths)보다 오래된 월에 늦게 도착한 퇴근
+     */
+    public enum Result {
+        OPENED, CLOSED, UNPAIRED, INVALID, REJECTED, EXPIRED
+    }
+
+    private final MonthCalendarCache calendars;
+    private final OverlapPolicy overlapPolicy;
+    private final PayRates rates;
+    private final int defaultWage;
+    private final int maxShiftHours;
+    private final int retainedMonths;
+
+    // 수집 스레드 전용 상태
+    private final Map<String, Integer> wages = new HashMap<>();
+    private final Map<String, TreeMap<YearMonth, PayrollSession>> sessions = new HashMap<>();
+
+    // 조회용 상태
+    private final Map<String, LocalDateTime> openShifts = new ConcurrentHashMap<>();
+    private final Map<String, YearMonth> latestPeriods = new ConcurrentHashMap<>();
+    private final Map<Key, Accrual> accruals = new ConcurrentHashMap<>();
+    private final Map<Result, LongAdder> results = new ConcurrentHashMap<>();
+
+    public PunchAccrualStore(MonthCalendarCache calendars, OverlapPolicy overlapPolicy,
+                             int defaultWage, int maxShiftHours, int retainedMonths) {
+        this(calendars, overlapPolicy, PayRates.standard(), defaultWage, maxShiftHours, retainedMonths);
+    }
+
+    public PunchAccrualStore(MonthCalendarCache calendars, OverlapPolicy overlapPolicy, PayRates rates,
+                             int defaultWage, int maxShiftHours, int retainedMonths) {
+        if (retainedMonths < 1) {
+            throw new IllegalArgumentException("retainedMonths must be positive: " + retainedMonths);
+        }
+        this.calendars = calendars;
+        this.overlapPolicy = overlapPolicy;
+        this.rates = rates;
+        this.defaultWage = defaultWage;
+        this.maxShiftHours = maxShiftHours;
+        this.retainedMonths = retainedMonths;
+        for (Result result : Result.values()) {
+            results.put(result, new LongAdder());
+        }
+    }
+
+    public synchronized Result apply(PunchEvent event) {
+        String employeeId = event.getEmployeeId();
+        if (event.getWage() != null && event.getWage() > 0) {
+            wages.put(employeeId, event.getWage());
+        }
+        Result result = switch (event.getType()) {
+            case IN -> openShifts.put(employeeId, event.getTime()) == null ? Result.OPENED : Result.UNPAIRED;
+            case OUT -> {
+                LocalDateTime in = openShifts.remove(employeeId);
+                yield in == null ? Result.UNPAIRED : close(employeeId, in, event.getTime());
+            }
+        };
+        if (result == Result.UNPAIRED) {
+            log.debug("짝이 없는 출퇴근 이벤트 - employeeId: {}, type: {}, time: {}",
+                    employeeId, event.getType(), event.getTime());
+        }
+        results.get(result).increment();
+        return result;
+    }
+
+    /**
+     * 직원의 가장 최근 월 누적 결과 (근무 마감 이력이 없으면 null)
+     */
+    public PunchAccrualResponse accrued(String employeeId) {
+        YearMonth period = latestPeriods.get(employeeId);
+        return period == null ? null : accrued(employeeId, period);
+    }
+
+    public PunchAccrualResponse accrued(String employeeId, YearMonth period) {
+        Accrual accrual = accruals.get(new Key(employeeId, period));
+        if (accrual == null) {
+            return null;
+        }
+        return PunchAccrualResponse.builder()
+                .employeeId(employeeId)
+                .period(period)
+                .payroll(accrual.payroll())
+                .shifts(accrual.shifts())
+                .openSince(openShifts.get(employeeId))
+                .build();
+    }
+
+    public Map<Result, Long> stats() {
+        Map<Result, Long> counts = new TreeMap<>();
+        results.forEach((result, count) -> counts.put(result, count.sum()));
+        return counts;
+    }
+
+    /**
+     * 근무를 월별 구간으로 나눠 반영. 뒤쪽 월에서 겹침으로 실패하면 앞서 반영한 월을 되돌리고, 이번에 새로 만든 월은 지운다
+     */
+    private Result close(String employeeId, LocalDateTime in, LocalDateTime out) {
+        LocalDateTime start = in.truncatedTo(ChronoUnit.HOURS);
+        LocalDateTime end = out.truncatedTo(ChronoUnit.HOURS);
+        long hours = ChronoUnit.HOURS.between(start, end);
+        if (hours <= 0 || hours > maxShiftHours) {
+            return Result.INVALID;
+        }
+
+        TreeMap<YearMonth, PayrollSession> months = sessions.computeIfAbsent(employeeId, id -> new TreeMap<>());
+        if (months.size() >= retainedMonths && YearMonth.from(start).isBefore(months.firstKey())) {
+            // 이미 제거했거나 보관 범위 밖인 월 - 빈 세션으로 다시 만들면 그 달의 누적 결과를 근무 하나로 덮어쓴다
+            log.warn("보관 기간이 지난 월의 근무 - employeeId: {}, in: {}, out: {}", employeeId, in, out);
+            return Result.EXPIRED;
+        }
+
+        int wage = wages.getOrDefault(employeeId, defaultWage);
+        YearMonth latestBefore = latestPeriods.get(employeeId);
+        Map<YearMonth, Integer> applied = new HashMap<>();
+        Set<YearMonth> created = new HashSet<>();
+        LocalDateTime cursor = start;
+        while (cursor.isBefore(end)) {
+            YearMonth period = YearMonth.from(cursor);
+            LocalDateTime monthStart = period.atDay(1).atStartOfDay();
+            LocalDateTime segmentEnd = end.isBefore(monthStart.plusMonths(1)) ? end : monthStart.plusMonths(1);
+            int interval = (int) ChronoUnit.HOURS.between(monthStart, cursor) << PackedPayrollRequest.OFFSET_BITS
+                    | (int) ChronoUnit.HOURS.between(monthStart, segmentEnd);
+
+            PayrollSession session = months.get(period);
+            if (session == null) {
+                session = PayrollSession.of(calendars.get(period.getYear(), period.getMonthValue()),
+                        overlapPolicy, rates, wage, new int[0]);
+                months.put(period, session);
+                created.add(period);
+            }
+            try {
+                session.apply(new int[0], new int[]{interval}, wage);
+            } catch (PayrollException e) {
+                rollback(employeeId, months, applied, created, latestBefore);
+                log.warn("겹치는 근무 - employeeId: {}, in: {}, out: {}", employeeId, in, out);
+                return Result.REJECTED;
+            }
+            applied.put(period, interval);
+            publish(employeeId, period, session);
+            cursor = segmentEnd;
+        }
+        evictOldMonths(employeeId, months);
+        return Result.CLOSED;
+    }
+
+    /**
+     * 이번 근무로 새로 만든 월은 세션과 누적 결과를 함께 지우고, 기존 월은 반영한 구간만 되돌린다
+     */
+    private void rollback(String employeeId, TreeMap<YearMonth, PayrollSession> months,
+                          Map<YearMonth, Integer> applied, Set<YearMonth> created, YearMonth latestBefore) {
+        for (YearMonth period : created) {
+            months.remove(period);
+            accruals.remove(new Key(employeeId, period));
+        }
+        for (Map.Entry<YearMonth, Integer> segment : applied.entrySet()) {
+            if (created.contains(segment.getKey())) {
+                continue;
+            }
+            PayrollSession previous = months.get(segment.getKey());
+            previous.apply(new int[]{segment.getValue()}, new int[0], null);
+            publish(employeeId, segment.getKey(), previous);
+        }
+        if (latestBefore == null) {
+            latestPeriods.remove(employeeId);
+        } else {
+            latestPeriods.put(employeeId, latestBefore);
+        }
+        if (months.isEmpty()) {
+            sessions.remove(employeeId);
+        }
+    }
+
+    private void publish(String employeeId, YearMonth period, PayrollSession session) {
+        accruals.put(new Key(employeeId, period), new Accrual(session.response(), session.recordCount()));
+        latestPeriods.merge(employeeId, period, (current, next) -> current.isAfter(next) ? current : next);
+    }
+
+    /**
+     * 직원별로 최근 retainedMonths 개월만 남긴다 (늦게 도착한 전월 퇴근 이벤트 대비)
+     */
+    private void evictOldMonths(String employeeId, TreeMap<YearMonth, PayrollSession> months) {
+        while (months.size() > retainedMonths) {
+            YearMonth oldest = months.pollFirstEntry().getKey();
+            accruals.remove(new Key(employeeId, oldest));
+        }
+    }
+
+    private record Key(String employeeId, YearMonth period) {
+    }
+
+    private record Accrual(PayrollResponse payroll, int shifts) {
+    }
+}
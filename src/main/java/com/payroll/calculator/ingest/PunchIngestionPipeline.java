@@ -0,0 +1,142 @@
+package com.payroll.calculator.ingest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.channels.ClosedByInterruptException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 출퇴근 로그 수집 파이프라인
+ * - 읽기 스레드: {@link PunchLogReader} 로 새 줄을 읽어 크기 제한 큐에 넣는다. 큐가 가득 차면 읽기를 멈춰 기다린다 (유실 없음)
+ * - 반영 스레드: 큐에서 최대 batchSize 개씩 꺼내 {@link PunchAccrualStore} 에 순서대로 반영하고, 배치마다 반영 완료 오프셋을 올린다
+ * - 누적 결과는 메모리에만 있으므로 재시작하면 startOffset(기본 0, 로그 처음)부터 다시 읽어 복원한다.
+ *   지난 달 이벤트를 건너뛰려면 그 달 마지막 committedOffset 을 startOffset 으로 준다
+ */
+@Slf4j
+public class PunchIngestionPipeline {
+
+    private final PunchLogReader reader;
+    private final PunchAccrualStore store;
+    private final BlockingQueue<PunchLogReader.Entry> queue;
+    private final int batchSize;
+    private final long pollIntervalMillis;
+    private final LongAdder batches = new LongAdder();
+    private final long startOffset;
+    private volatile long committedOffset;
+    private volatile boolean running;
+    private Thread readerThread;
+    private Thread applierThread;
+
+    public PunchIngestionPipeline(PunchLogReader reader, PunchAccrualStore store,
+                                  int queueSize, int batchSize, Duration pollInterval) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+        }
+        this.reader = reader;
+        this.store = store;
+        this.queue = new ArrayBlockingQueue<>(queueSize);
+        this.batchSize = batchSize;
+        this.pollIntervalMillis = pollInterval.toMillis();
+        this.startOffset = reader.position();
+        this.committedOffset = startOffset;
+    }
+
+    public synchronized void start() {
+        if (readerThread != null) {
+            return;
+        }
+        running = true;
+        readerThread = Thread.ofPlatform().name("payroll-ingest-reader").daemon(true).start(this::readLoop);
+        applierThread = Thread.ofPlatform().name("payroll-ingest-applier").daemon(true).start(this::applyLoop);
+        log.info("출퇴근 로그 수집 시작 - offset: {}", startOffset);
+    }
+
+    /**
+     * 읽기를 멈추고 큐에 남은 이벤트까지 반영한 뒤 종료
+     */
+    public synchronized void stop() throws InterruptedException, IOException {
+        if (readerThread == null) {
+            return;
+        }
+        running = false;
+        readerThread.interrupt();
+        readerThread.join();
+        applierThread.join();
+        readerThread = null;
+        applierThread = null;
+        reader.close();
+        log.info("출퇴근 로그 수집 종료 - committedOffset: {}", committedOffset);
+    }
+
+    public PunchAccrualStore store() {
+        return store;
+    }
+
+    public Stats stats() {
+        return new Stats(running, startOffset, reader.position(), committedOffset, queue.size(),
+                batches.sum(), reader.malformed(), store.stats());
+    }
+
+    private void readLoop() {
+        try {
+            while (running) {
+                List<PunchLogReader.Entry> entries = reader.poll();
+                if (entries.isEmpty()) {
+                    Thread.sleep(pollIntervalMillis);
+                    continue;
+                }
+                for (PunchLogReader.Entry entry : entries) {
+                    queue.put(entry);
+                }
+            }
+        } catch (InterruptedException | ClosedByInterruptException e) {
+            // stop() 의 interrupt - 읽던 중이면 채널이 닫히지만 읽은 위치는 그대로라 재시작에 영향 없음
+            Thread.currentThread().interrupt();
+        } catch (IOException | RuntimeException e) {
+            log.error("출퇴근 로그 읽기 실패 - position: {}", reader.position(), e);
+            running = false;
+        }
+    }
+
+    private void applyLoop() {
+        List<PunchLogReader.Entry> batch = new ArrayList<>(batchSize);
+        try {
+            while (running || !queue.isEmpty()) {
+                PunchLogReader.Entry first = queue.poll(pollIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                for (PunchLogReader.Entry entry : batch) {
+                    try {
+                        store.apply(entry.event());
+                    } catch (RuntimeException e) {
+                        log.error("출퇴근 이벤트 반영 실패 - offset: {}, event: {}", entry.offset(), entry.event(), e);
+                    }
+                }
+                committedOffset = batch.get(batch.size() - 1).offset();
+                batches.increment();
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * @param readOffset      읽기 스레드가 다음에 읽을 오프셋
+     * @param committedOffset 누적 결과에 반영이 끝난 마지막 이벤트 다음 오프셋 (재시작 시 startOffset 후보)
+     */
+    public record Stats(boolean running, long startOffset, long readOffset, long committedOffset, int queued,
+                        long batches, long malformed, Map<PunchAccrualStore.Result, Long> events) {
+    }
+}
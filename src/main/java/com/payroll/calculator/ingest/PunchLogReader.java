@@ -0,0 +1,135 @@
+package com.payroll.calculator.ingest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.payroll.calculator.dto.PunchEvent;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 추가 전용(append-only) 출퇴근 로그 파일을 바이트 오프셋 기준으로 이어 읽는다 (tail -f 방식)
+ * - 한 줄에 {@link PunchEvent} 하나 (NDJSON), 줄바꿈까지 기록된 줄만 읽고 쓰는 중인 마지막 줄은 다음 읽기로 미룬다
+ * - 각 이벤트에 그 줄 다음 바이트 오프셋을 붙여 두므로, 반영이 끝난 오프셋부터 다시 읽으면 그 뒤 이벤트만 재생된다
+ * - 해석할 수 없는 줄(JSON 오류, 필수 값 누락)은 건너뛰고 malformed 로 센다
+ * - 한 줄은 bufferSize 바이트를 넘을 수 없다 (넘으면 해당 구간을 malformed 로 건너뜀)
+ */
+@Slf4j
+public class PunchLogReader implements AutoCloseable {
+
+    private static final byte NEW_LINE = '\n';
+
+    private final Path file;
+    private final ObjectReader eventReader;
+    private final ByteBuffer buffer;
+    private final LongAdder malformed = new LongAdder();
+    private FileChannel channel;
+    private volatile long position;
+
+    public PunchLogReader(Path file, long startOffset, ObjectMapper objectMapper, int bufferSize) {
+        if (startOffset < 0) {
+            throw new IllegalArgumentException("startOffset must not be negative: " + startOffset);
+        }
+        this.file = file;
+        this.position = startOffset;
+        this.eventReader = objectMapper.readerFor(PunchEvent.class);
+        this.buffer = ByteBuffer.allocate(bufferSize);
+    }
+
+    /**
+     * 현재 위치부터 버퍼 하나 분량의 완성된 줄을 읽는다. 파일이 아직 없거나 새 줄이 없으면 빈 목록
+     */
+    public List<Entry> poll() throws IOException {
+        if (channel == null) {
+            if (!Files.exists(file)) {
+                return List.of();
+            }
+            channel = FileChannel.open(file, StandardOpenOption.READ);
+        }
+        if (channel.size() < position) {
+            log.warn("출퇴근 로그가 읽은 위치보다 짧아졌습니다 (교체/절단) - file: {}, size: {}, position: {}",
+                    file, channel.size(), position);
+            return List.of();
+        }
+
+        buffer.clear();
+        int read = channel.read(buffer, position);
+        if (read <= 0) {
+            return List.of();
+        }
+
+        byte[] bytes = buffer.array();
+        List<Entry> entries = new ArrayList<>();
+        int lineStart = 0;
+        for (int i = 0; i < read; i++) {
+            if (bytes[i] == NEW_LINE) {
+                long offset = position + i + 1;
+                PunchEvent event = parse(bytes, lineStart, i - lineStart, offset);
+                if (event != null) {
+                    entries.add(new Entry(event, offset));
+                }
+                lineStart = i + 1;
+            }
+        }
+        if (lineStart == 0 && read == buffer.capacity()) {
+            malformed.increment();
+            log.warn("출퇴근 로그 한 줄이 버퍼({} bytes)보다 깁니다 - offset: {}", buffer.capacity(), position);
+            lineStart = read;
+        }
+        position += lineStart;
+        return entries;
+    }
+
+    /**
+     * 다음에 읽을 바이트 오프셋 (읽었지만 아직 반영되지 않은 이벤트 포함)
+     */
+    public long position() {
+        return position;
+    }
+
+    public long malformed() {
+        return malformed.sum();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+    private PunchEvent parse(byte[] bytes, int from, int length, long offset) {
+        String line = new String(bytes, from, length, StandardCharsets.UTF_8).strip();
+        if (line.isEmpty()) {
+            return null;
+        }
+        try {
+            PunchEvent event = eventReader.readValue(line);
+            if (event.getEmployeeId() != null && !event.getEmployeeId().isBlank()
+                    && event.getType() != null && event.getTime() != null) {
+                return event;
+            }
+        } catch (JsonProcessingException e) {
+            // 아래에서 malformed 로 집계
+        }
+        malformed.increment();
+        log.warn("해석할 수 없는 출퇴근 이벤트 - offset: {}, line: {}", offset, line);
+        return null;
+    }
+
+    /**
+     * @param offset 이 이벤트 줄 다음 바이트 오프셋 - 이 이벤트까지 반영했다면 여기서부터 다시 읽으면 된다
+     */
+    public record Entry(PunchEvent event, long offset) {
+    }
+}
@@ -0,0 +1,60 @@
+package com.payroll.calculator.metrics;
+
+import com.payroll.calculator.calendar.MonthCalendarCache;
+import com.payroll.calculator.service.PayrollResultCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 달력 캐시 / 결과 캐시 적중률과 크기
+ * - payroll.cache.gets{cache, result=hit|miss}, payroll.cache.evictions{cache}, payroll.cache.size{cache}
+ * - 스크랩 시점에 stats() 를 읽으므로 계산 경로에는 비용이 없다
+ */
+@Component
+public class PayrollCacheMetrics implements MeterBinder {
+
+    private final MonthCalendarCache monthCalendarCache;
+    private final ObjectProvider<PayrollResultCache> payrollResultCache;
+
+    public PayrollCacheMetrics(MonthCalendarCache monthCalendarCache,
+                               ObjectProvider<PayrollResultCache> payrollResultCache) {
+        this.monthCalendarCache = monthCalendarCache;
+        this.payrollResultCache = payrollResultCache;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bind(registry, "calendar", monthCalendarCache,
+                c -> c.stats().hits(), c -> c.stats().misses(), c -> c.stats().evictions(), c -> c.stats().size());
+
+        PayrollResultCache resultCache = payrollResultCache.getIfAvailable();
+        if (resultCache != null) {
+            bind(registry, "result", resultCache,
+                    c -> c.stats().hits(), c -> c.stats().misses(),
+                    c -> c.stats().evictions() + c.stats().expirations(), c -> c.stats().size());
+        }
+    }
+
+    private <T> void bind(MeterRegistry registry, String cache, T target,
+                          ToDoubleFunction<T> hits, ToDoubleFunction<T> misses,
+                          ToDoubleFunction<T> evictions, ToDoubleFunction<T> size) {
+        FunctionCounter.builder("payroll.cache.gets", target, hits)
+                .tags("cache", cache, "result", "hit")
+                .register(registry);
+        FunctionCounter.builder("payroll.cache.gets", target, misses)
+                .tags("cache", cache, "result", "miss")
+                .register(registry);
+        FunctionCounter.builder("payroll.cache.evictions", target, evictions)
+                .tag("cache", cache)
+                .register(registry);
+        Gauge.builder("payroll.cache.size", target, size)
+                .tag("cache", cache)
+                .register(registry);
+    }
+}
@@ -0,0 +1,48 @@
+package com.payroll.calculator.metrics;
+
+import com.payroll.calculator.ingest.PunchAccrualStore;
+import com.payroll.calculator.ingest.PunchIngestionPipeline;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * 출퇴근 로그 수집 지표 (payroll.ingest.enabled=true 일 때만)
+ * - payroll.ingest.events{result=opened|closed|unpaired|invalid|rejected|expired|malformed}
+ * - payroll.ingest.queued, payroll.ingest.lag.bytes (읽은 오프셋 - 반영 완료 오프셋)
+ */
+@Component
+public class PayrollIngestMetrics implements MeterBinder {
+
+    private final ObjectProvider<PunchIngestionPipeline> punchIngestionPipeline;
+
+    public PayrollIngestMetrics(ObjectProvider<PunchIngestionPipeline> punchIngestionPipeline) {
+        this.punchIngestionPipeline = punchIngestionPipeline;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        PunchIngestionPipeline pipeline = punchIngestionPipeline.getIfAvailable();
+        if (pipeline == null) {
+            return;
+        }
+        for (PunchAccrualStore.Result result : PunchAccrualStore.Result.values()) {
+            FunctionCounter.builder("payroll.ingest.events", pipeline, p -> p.stats().events().get(result))
+                    .tag("result", result.name().toLowerCase(Locale.ROOT))
+                    .register(registry);
+        }
+        FunctionCounter.builder("payroll.ingest.events", pipeline, p -> p.stats().malformed())
+                .tag("result", "malformed")
+                .register(registry);
+        Gauge.builder("payroll.ingest.queued", pipeline, p -> p.stats().queued())
+                .register(registry);
+        Gauge.builder("payroll.ingest.lag.bytes", pipeline, p -> p.stats().readOffset() - p.stats().committedOffset())
+                .baseUnit("bytes")
+                .register(registry);
+    }
+}
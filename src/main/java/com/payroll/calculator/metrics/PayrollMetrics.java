@@ -0,0 +1,32 @@
+package com.payroll.calculator.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.regex.Pattern;
+
+/**
+ * 요청 검증 실패 카운터
+ * - payroll.validation.failures{reason}: reason 은 실패한 필드 경로(records[].startDay 등) 또는 payroll-rule
+ * - 리스트 인덱스는 [] 로 바꿔 태그 값 종류가 요청 크기에 따라 늘어나지 않게 한다
+ */
+@Component
+@RequiredArgsConstructor
+public class PayrollMetrics {
+
+    public static final String PAYROLL_RULE = "payroll-rule";
+
+    private static final Pattern LIST_INDEX = Pattern.compile("\\[\\d+]");
+
+    private final MeterRegistry registry;
+
+    public void validationFailed(String field) {
+        Counter.builder("payroll.validation.failures")
+                .description("요청 검증 실패 수")
+                .tag("reason", LIST_INDEX.matcher(field).replaceAll("[]"))
+                .register(registry)
+                .increment();
+    }
+}
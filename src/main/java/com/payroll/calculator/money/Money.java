@@ -0,0 +1,64 @@
+package com.payroll.calculator.money;
+
+import java.math.RoundingMode;
+
+/**
+ * 원 단위 고정소수점 금액 연산 - 금액은 long (1 = 1원, 원화는 보조 단위가 없다)
+ * - 객체를 만들지 않는 정적 연산만 두어 계산 경로에 할당이 없다 (BigDecimal 대비)
+ * - 곱셈은 넘치면 ArithmeticException (double 처럼 조용히 정밀도를 잃지 않는다)
+ * - 나눗셈은 나머지로 반올림 여부를 정하므로 double 의 표현 오차 (예: 0.1 * 3) 가 끼어들 여지가 없다
+ * - 비율은 정수 bp (1bp = 0.01%, 10,000bp = 100%)
+ */
+public final class Money {
+
+    public static final int BASIS_POINTS = 10_000;
+
+    private Money() {
+    }
+
+    /**
+     * 넘침을 검사하는 곱셈
+     */
+    public static long multiply(long amount, long factor) {
+        return Math.multiplyExact(amount, factor);
+    }
+
+    /**
+     * amount × basisPoints / 10,000 을 rounding 으로 정수 원에 맞춘다
+     */
+    public static long applyRate(long amount, int basisPoints, RoundingMode rounding) {
+        return divide(multiply(amount, basisPoints), BASIS_POINTS, rounding);
+    }
+
+    /**
+     * 정확한 몫 dividend / divisor 를 rounding 으로 정수에 맞춘다 - {@link java.math.BigDecimal#divide} 와 같은 규칙
+     * - UNNECESSARY 인데 나누어떨어지지 않으면 ArithmeticException
+     */
+    public static long divide(long dividend, long divisor, RoundingMode rounding) {
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (remainder == 0) {
+            return quotient;
+        }
+        // 정확한 몫의 부호 (0 쪽으로 자른 quotient 에서 한 칸 멀어지는 방향)
+        long away = (dividend ^ divisor) < 0 ? -1 : 1;
+        return switch (rounding) {
+            case DOWN -> quotient;
+            case UP -> quotient + away;
+            case FLOOR -> away < 0 ? quotient - 1 : quotient;
+            case CEILING -> away > 0 ? quotient + 1 : quotient;
+            case HALF_UP, HALF_DOWN, HALF_EVEN -> {
+                long rest = Math.abs(remainder);
+                int half = Long.compare(rest, Math.abs(divisor) - rest);
+                if (half < 0) {
+                    yield quotient;
+                }
+                if (half > 0 || rounding == RoundingMode.HALF_UP) {
+                    yield quotient + away;
+                }
+                yield rounding == RoundingMode.HALF_DOWN || (quotient & 1) == 0 ? quotient : quotient + away;
+            }
+            case UNNECESSARY -> throw new ArithmeticException("Rounding necessary: " + dividend + " / " + divisor);
+        };
+    }
+}
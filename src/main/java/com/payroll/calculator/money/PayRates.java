@@ -0,0 +1,54 @@
+package com.payroll.calculator.money;
+
+import java.math.RoundingMode;
+
+/**
+ * 수당 비율(bp)과 원 미만 처리 방식 - 모든 엔진이 같은 인스턴스로 금액을 계산해 원 단위까지 같은 결과를 낸다
+ * - 금액 = 근무 시간 × 시급 × 비율, 항목(기본급, 연장, 야간, 휴일 8시간 이내/초과, 주별 주휴)마다 한 번 반올림
+ * - 시간은 오프셋 단위로 받으므로 분 단위 요청은 unitsPerHour = 60 으로 나눈다 (중간 반올림 없음)
+ * - 기본 반올림은 DOWN (원 미만 버림) - 기존 계산 결과와 같다
+ */
+public final class PayRates {
+
+    public static final int BASE = 10_000;
+    public static final int OVERTIME = 5_000;
+    public static final int NIGHT = 5_000;
+    public static final int HOLIDAY = 5_000;
+    public static final int HOLIDAY_OVERTIME = 10_000;
+    // 주 40시간 근무에 8시간분 (20%) - 40시간 미만이면 근무 시간에 비례
+    public static final int WEEKLY_HOLIDAY = 2_000;
+
+    private static final PayRates STANDARD = new PayRates(RoundingMode.DOWN);
+
+    private final RoundingMode rounding;
+
+    public PayRates(RoundingMode rounding) {
+        this.rounding = rounding;
+    }
+
+    /**
+     * 원 미만 버림 - 설정 없이 만든 엔진의 기본값
+     */
+    public static PayRates standard() {
+        return STANDARD;
+    }
+
+    public RoundingMode rounding() {
+        return rounding;
+    }
+
+    /**
+     * 시간 단위 근무의 금액
+     */
+    public long pay(long hours, int wage, int basisPoints) {
+        return Money.applyRate(Money.multiply(hours, wage), basisPoints, rounding);
+    }
+
+    /**
+     * 오프셋 단위(시간이면 1, 분이면 60) 근무의 금액
+     */
+    public long pay(long units, int wage, int basisPoints, int unitsPerHour) {
+        long amount = Money.multiply(Money.multiply(units, wage), basisPoints);
+        return Money.divide(amount, (long) Money.BASIS_POINTS * unitsPerHour, rounding);
+    }
+}
@@ -0,0 +1,43 @@
+package com.payroll.calculator.service;
+
+import com.payroll.calculator.audit.PayrollAuditLogger;
+import com.payroll.calculator.dto.PackedPayrollRequest;
+import com.payroll.calculator.dto.PayrollResponse;
+import com.payroll.calculator.exception.PayrollException;
+
+/**
+ * 계산 결과를 감사 로그로 남기는 PayrollService
+ * - 샘플링 여부를 먼저 정하고, 기록하지 않을 요청은 시간 측정 없이 그대로 위임한다
+ */
+public class AuditedPayrollService implements PayrollService {
+
+    private final PayrollService delegate;
+    private final String engine;
+    private final PayrollAuditLogger auditLogger;
+
+    public AuditedPayrollService(PayrollService delegate, String engine, PayrollAuditLogger auditLogger) {
+        this.delegate = delegate;
+        this.engine = engine;
+        this.auditLogger = auditLogger;
+    }
+
+    @Override
+    public PayrollResponse calculate(PackedPayrollRequest request) {
+        if (!auditLogger.shouldRecord()) {
+            return delegate.calculate(request);
+        }
+
+        long start = System.nanoTime();
+        try {
+            PayrollResponse response = delegate.calculate(request);
+            auditLogger.calculated(engine, request, response, System.nanoTime() - start);
+            return response;
+        } catch (PayrollException e) {
+            auditLogger.failed(engine, request, e.getStatus(), System.nanoTime() - start);
+            throw e;
+        } catch (RuntimeException e) {
+            auditLogger.failed(engine, request, 500, System.nanoTime() - start);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.payroll.calculator.service;
+
+import com.payroll.calculator.dto.PackedPayrollRequest;
+import com.payroll.calculator.dto.PayrollResponse;
+
+/**
+ * 결과 캐시를 거쳐 계산하는 PayrollService
+ * - 재시도/재실행으로 들어오는 동일 요청은 계산 없이 저장된 결과를 돌려준다
+ */
+public class CachingPayrollService implements PayrollService {
+
+    private final PayrollService delegate;
+    private final PayrollResultCache cache;
+
+    public CachingPayrollService(PayrollService delegate, PayrollResultCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public PayrollResponse calculate(PackedPayrollRequest request) {
+        return cache.get(request, delegate::calculate);
+    }
+}
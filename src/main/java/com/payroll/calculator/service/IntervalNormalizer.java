@@ -0,0 +1,64 @@
+package com.payroll.calculator.service;
+
+import com.payroll.calculator.dto.PackedPayrollRequest;
+
+import java.util.Arrays;
+
+/**
+ * 근무 구간 정규화 - 모든 엔진이 같은 입력을 보도록 {@link OverlapPolicy} 에 따라 한 번 처리
+ * - 정렬/병합/겹침 검사는 급여 기간 계산과 같은 {@link WorkIntervals} 로 한다 (O(n log n))
+ * - 정규화 결과는 시작 순으로 정렬되고 서로 겹치거나 맞닿지 않으며, 길이 0 이하 구간은 빠진다
+ */
+public final class IntervalNormalizer {
+
+    private IntervalNormalizer() {
+    }
+
+    public static PackedPayrollRequest normalize(PackedPayrollRequest request, OverlapPolicy policy) {
+        return switch (policy) {
+            case MERGE -> merge(request);
+            case REJECT -> {
+                rejectOverlaps(request);
+                yield merge(request);
+            }
+            case COUNT -> request;
+        };
+    }
+
+    /**
+     * 겹치는 두 기록이 있으면 뒤 번호 기록을 필드로 PayrollValidationException
+     */
+    public static void rejectOverlaps(PackedPayrollRequest request) {
+        long[] keys = new long[request.recordCount()];
+        int count = 0;
+        for (int r = 0; r < keys.length; r++) {
+            int start = request.start(r);
+            int end = request.end(r);
+            if (start < end) {
+                keys[count++] = WorkIntervals.overlapKey(start, end, r, request.offsetBits());
+            }
+        }
+        WorkIntervals.rejectOverlaps(keys, count, request.offsetBits());
+    }
+
+    private static PackedPayrollRequest merge(PackedPayrollRequest request) {
+        long[] intervals = new long[request.recordCount()];
+        int count = 0;
+        for (int r = 0; r < intervals.length; r++) {
+            int start = request.start(r);
+            int end = request.end(r);
+            if (start < end) {
+                intervals[count++] = WorkIntervals.of(start, end);
+            }
+        }
+        Arrays.sort(intervals, 0, count);
+        count = WorkIntervals.merge(intervals, count);
+
+        int offsetBits = request.offsetBits();
+        int[] merged = new int[count];
+        for (int i = 0; i < count; i++) {
+            merged[i] = WorkIntervals.start(intervals[i]) << offsetBits | WorkIntervals.end(intervals[i]);
+        }
+        return request.withIntervals(merged);
+    }
+}
@@ -0,0 +1,72 @@
+package com.payroll.calculator.service;
+
+import com.payroll.calculator.dto.PackedPayrollRequest;
+import com.payroll.calculator.dto.PayrollResponse;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 계산 지연 시간과 요청 크기를 기록하는 PayrollService
+ * - 미터는 생성 시 한 번만 등록하고, 호출마다 조회/태그 생성 없이 기록만 한다
+ * - payroll.calculation: 엔진/결과별 지연 시간 히스토그램 (p99 등 꼬리 지연 확인용)
+ * - payroll.request.records / payroll.request.hours: 요청당 근무 기록 수, 총 근무 시간 분포
+ */
+public class MeteredPayrollService implements PayrollService {
+
+    private final PayrollService delegate;
+    private final Timer success;
+    private final Timer failure;
+    private final DistributionSummary records;
+    private final DistributionSummary hours;
+
+    public MeteredPayrollService(PayrollService delegate, String engine, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.success = timer(engine, "success", registry);
+        this.failure = timer(engine, "failure", registry);
+        this.records = DistributionSummary.builder("payroll.request.records")
+                .description("요청당 근무 기록 수")
+                .baseUnit("records")
+                .tag("engine", engine)
+                .publishPercentileHistogram()
+                .maximumExpectedValue(10_000.0)
+                .register(registry);
+        this.hours = DistributionSummary.builder("payroll.request.hours")
+                .description("요청당 총 근무 시간")
+                .baseUnit("hours")
+                .tag("engine", engine)
+                .publishPercentileHistogram()
+                .maximumExpectedValue(744.0)
+                .register(registry);
+    }
+
+    @Override
+    public PayrollResponse calculate(PackedPayrollRequest request) {
+        long start = System.nanoTime();
+        PayrollResponse response;
+        try {
+            response = delegate.calculate(request);
+        } catch (RuntimeException e) {
+            failure.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+        success.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        records.record(request.recordCount());
+        hours.record(response.getTotalWorkHours());
+        return response;
+    }
+
+    private static Timer timer(String engine, String outcome, MeterRegistry registry) {
+        return Timer.builder("payroll.calculation")
+                .description("급여 계산 지연 시간")
+                .tag("engine", engine)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(500))
+                .maximumExpectedValue(Duration.ofSeconds(1))
+                .register(registry);
+    }
+}
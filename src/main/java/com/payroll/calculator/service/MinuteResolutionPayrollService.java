@@ -0,0 +1,26 @@
+package com.payroll.calculator.service;
+
+import com.payroll.calculator.dto.PackedPayrollRequest;
+import com.payroll.calculator.dto.PayrollResponse;
+
+/**
+ * 분 단위 요청을 분 단위 계산이 가능한 엔진으로 보내는 PayrollService
+ * - 시간 칸을 도는 엔진(map, bitset, timeline, oop ...)은 분 단위에서 60배 느려지므로 구간 산술 엔진만 분 단위를 계산한다
+ * - 분이 없는 요청은 그대로 delegate (고른 엔진, 결과 캐시, 섀도 비교) 로 간다
+ * - 결과 캐시 키는 시간 단위 구간만 담으므로 분 단위 요청은 캐시를 거치지 않는다
+ */
+public class MinuteResolutionPayrollService implements PayrollService {
+
+    private final PayrollService delegate;
+    private final PayrollService minuteEngine;
+
+    public MinuteResolutionPayrollService(PayrollService delegate, PayrollService minuteEngine) {
+        this.delegate = delegate;
+        this.minuteEngine = minuteEngine;
+    }
+
+    @Override
+    public PayrollResponse calculate(PackedPayrollRequest request) {
+        return request.isMinuteResolution() ? minuteEngine.calculate(request) : delegate.calculate(request);
+    }
+}
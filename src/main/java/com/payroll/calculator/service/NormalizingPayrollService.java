@@ -0,0 +1,24 @@
+package com.payroll.calculator.service;
+
+import com.payroll.calculator.dto.PackedPayrollRequest;
+import com.payroll.calculator.dto.PayrollResponse;
+
+/**
+ * 겹침 정책에 따라 근무 구간을 정규화한 뒤 계산하는 PayrollService
+ * - 결과 캐시보다 바깥에 두어 중복 제출된 기록이 캐시 키를 늘리지 않게 한다
+ */
+public class NormalizingPayrollService implements PayrollService {
+
+    private final PayrollService delegate;
+    private final OverlapPolicy policy;
+
+    public NormalizingPayrollService(PayrollService delegate, OverlapPolicy policy) {
+        this.delegate = delegate;
+        this.policy = policy;
+    }
+
+    @Override
+    public PayrollResponse calculate(PackedPayrollRequest request) {
+        return delegate.calculate(IntervalNormalizer.normalize(request, policy));
+    }
+}
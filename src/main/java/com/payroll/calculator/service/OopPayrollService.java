@@ -1,24 +1,66 @@
 package com.payroll.calculator.service;
 
-import com.payroll.calculator.dto.PayrollRequest;
+import com.payroll.calculator.calendar.MonthCalendar;
+import com.payroll.calculator.calendar.MonthCalendarCache;
+import com.payroll.calculator.dto.PackedPayrollRequest;
 import com.payroll.calculator.dto.PayrollResponse;
-import com.payroll.calculator.dto.WorkRecordRequest;
+import com.payroll.calculator.money.PayRates;
 import lombok.extern.slf4j.Slf4j;
 
-import java.math.BigDecimal;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.WeekFields;
 import java.util.*;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 @Slf4j
 public class OopPayrollService implements PayrollService {
 
+    /**
+     * PER_POLICY: 시간마다 Work 객체를 만들고 정책마다 전체 Work 를 다시 순회
+     * FUSED: 엔진이 시간/일을 한 번만 순회하며 모든 정책의 누적기에 전달
+     */
+    public enum EvaluationMode {
+        PER_POLICY, FUSED
+    }
+
+    private final EvaluationMode mode;
+    private final MonthCalendarCache calendars;
+    private final PayRates rates;
+
+    /**
+     * 테스트/벤치마크용 - 공휴일 설정 없이 일요일만 휴일로 보는 {@link MonthCalendarCache#shared()} 를 쓴다
+     */
+    public OopPayrollService() {
+        this(EvaluationMode.PER_POLICY);
+    }
+
+    /**
+     * 테스트/벤치마크용 - 공휴일 설정 없이 일요일만 휴일로 보는 {@link MonthCalendarCache#shared()} 를 쓴다
+     */
+    public OopPayrollService(EvaluationMode mode) {
+        this(mode, MonthCalendarCache.shared());
+    }
+
+    public OopPayrollService(EvaluationMode mode, MonthCalendarCache calendars) {
+        this(mode, calendars, PayRates.standard());
+    }
+
+    public OopPayrollService(EvaluationMode mode, MonthCalendarCache calendars, PayRates rates) {
+        this.mode = mode;
+        this.calendars = calendars;
+        this.rates = rates;
+    }
+
     @Override
-    public PayrollResponse calculate(PayrollRequest request) {
-        Works works = Works.of(request);
+    public PayrollResponse calculate(PackedPayrollRequest request) {
+        return mode == EvaluationMode.FUSED ? calculateFused(request) : calculatePerPolicy(request);
+    }
+
+    private PayrollResponse calculatePerPolicy(PackedPayrollRequest request) {
+        Works works = Works.of(request, calendars.get(request.getYear(), request.getMonth()));
 
         // 1. 각 정책의 결과(시간+금액)를 받아옴
         PolicyResult basic = new BasicPayPolicy().calculate(works);
@@ -27,22 +69,72 @@ public class OopPayrollService implements PayrollService {
         PolicyResult holiday = new HolidayPayPolicy().calculate(works);
         PolicyResult weekly = new WeeklyHolidayPayPolicy().calculate(works);
 
-        // 2. 총액 계산
-        BigDecimal totalPay = basic.pay().add(overtime.pay()).add(night.pay())
-                .add(holiday.pay()).add(weekly.pay());
+        return toResponse(basic, overtime, night, holiday, weekly);
+    }
 
-        // 3. 빌더에 매핑 (누락 없이 깔끔하게!)
+    /**
+     * 정책별 누적기를 등록하고 근무 시간과 근무일을 각각 한 번씩만 순회한다.
+     * 시간마다 객체를 만들지 않고 재사용하는 HourSlot/DaySlot 으로 전달한다.
+     */
+    private PayrollResponse calculateFused(PackedPayrollRequest request) {
+        int wage = request.getWage();
+        PolicyAccumulator basic = new BasicPayPolicy().accumulator(wage);
+        PolicyAccumulator overtime = new OverTimePayPolicy().accumulator(wage);
+        PolicyAccumulator night = new NightPayPolicy().accumulator(wage);
+        PolicyAccumulator holiday = new HolidayPayPolicy().accumulator(wage);
+        PolicyAccumulator weekly = new WeeklyHolidayPayPolicy().accumulator(wage);
+        PolicyAccumulator[] accumulators = {basic, overtime, night, holiday, weekly};
+
+        MonthCalendar calendar = calendars.get(request.getYear(), request.getMonth());
+        int lengthOfMonth = calendar.lengthOfMonth();
+        int[] dailyHours = new int[lengthOfMonth];
+
+        // 1. 시간 순회 - 시간 단위 정책(기본급, 야간)
+        HourSlot hourSlot = new HourSlot();
+        for (int r = 0, size = request.recordCount(); r < size; r++) {
+            int start = request.start(r);
+            int end = calendar.checkHourOffset(request.end(r));
+            for (int i = start; i < end; i++) {
+                int dayIndex = i / 24;
+                hourSlot.set(dayIndex + 1, i % 24, calendar.isHoliday(dayIndex + 1));
+                for (PolicyAccumulator accumulator : accumulators) {
+                    accumulator.onHour(hourSlot);
+                }
+                dailyHours[dayIndex]++;
+            }
+        }
+
+        // 2. 일 순회 - 일 단위 정책(연장, 휴일, 주휴)
+        DaySlot daySlot = new DaySlot();
+        for (int dayIndex = 0; dayIndex < lengthOfMonth; dayIndex++) {
+            if (dailyHours[dayIndex] == 0) continue;
+            daySlot.set(dayIndex + 1, dailyHours[dayIndex],
+                    calendar.isHoliday(dayIndex + 1), calendar.weekOf(dayIndex + 1));
+            for (PolicyAccumulator accumulator : accumulators) {
+                accumulator.onDay(daySlot);
+            }
+        }
+
+        return toResponse(basic.result(), overtime.result(), night.result(), holiday.result(), weekly.result());
+    }
+
+    private PayrollResponse toResponse(PolicyResult basic, PolicyResult overtime, PolicyResult night,
+                                       PolicyResult holiday, PolicyResult weekly) {
+        // 총액 계산 - 다른 엔진과 같이 항목별로 원 단위에 맞춘 금액의 합
+        long totalPay = basic.pay() + overtime.pay() + night.pay() + holiday.pay() + weekly.pay();
+
+        // 빌더에 매핑 (누락 없이 깔끔하게!)
         return PayrollResponse.builder()
-                .totalWorkHours(works.count())
-                .basePay(basic.pay().longValue())
+                .totalWorkHours(basic.hours())
+                .basePay(basic.pay())
                 .overtimeHours((int) overtime.hours())
-                .overtimePay(overtime.pay().longValue())
+                .overtimePay(overtime.pay())
                 .nightHours((int) night.hours())
-                .nightPay(night.pay().longValue())
+                .nightPay(night.pay())
                 .holidayHours((int) holiday.hours())
-                .holidayPay(holiday.pay().longValue())
-                .weeklyHolidayPay(weekly.pay().longValue())
-                .totalPay(totalPay.longValue())
+                .holidayPay(holiday.pay())
+                .weeklyHolidayPay(weekly.pay())
+                .totalPay(totalPay)
                 .build();
     }
     /**
@@ -65,22 +157,14 @@ public class OopPayrollService implements PayrollService {
      **/
 
     public static class Works {
-        HashMap<LocalDate, Integer> workTime = new HashMap<>();
         private final List<Work> works;
-        private final BigDecimal wage;
+        private final int wage;
 
-        public Works(List<Work> works, BigDecimal wage) {
-            for (Work work : works) {
-                workTime.merge(work.getDate(),1,Integer::sum);
-            }
+        public Works(List<Work> works, int wage) {
             this.works = works;
             this.wage = wage;
         }
 
-        public HashMap<LocalDate, Integer> getWorkTime() {
-            return workTime;
-        }
-
         public int count() {
             return works.size();
         }
@@ -132,25 +216,31 @@ public class OopPayrollService implements PayrollService {
          * 아래와 같이 개선하면  애초에 반환을 스트림에 넣어서 반환하고 그 스트림을 바로 활용하도록 할 수 있다면?
          * 즉 기존의 list로 넣어 반환하면 flatMap에서 리스트에서 꺼내서 다시 꺼내서 스트림에 넣어줘야된다.
          * 그렇기에 애초에 스트림으로 반환하도록 하
+         *
+         * 휴일 여부는 LocalDateTime 으로 다시 계산하지 않고 공유 달력에서 가져온다
+         * 기록의 시작/종료는 요청의 시간 오프셋을 월 첫날 0시에 더해 만든다
          */
-        public static Works of(PayrollRequest payrollRequest) {
-            List<Work> works = payrollRequest.getRecords().stream()
-                    .flatMap(record -> splitRecord(payrollRequest.getYear(), payrollRequest.getMonth(), record))
+        public static Works of(PackedPayrollRequest payrollRequest, MonthCalendar calendar) {
+            LocalDateTime monthStart = LocalDate.of(calendar.year(), calendar.month(), 1).atStartOfDay();
+            List<Work> works = IntStream.range(0, payrollRequest.recordCount())
+                    .boxed()
+                    .flatMap(r -> splitRecord(calendar, monthStart.plusHours(payrollRequest.start(r)),
+                            monthStart.plusHours(calendar.checkHourOffset(payrollRequest.end(r)))))
                     .toList();
 
-            return new Works(works,BigDecimal.valueOf(payrollRequest.getWage()));
+            return new Works(works, payrollRequest.getWage());
         }
-        private static Stream<Work> splitRecord(Integer year, Integer month, WorkRecordRequest request) {
-            LocalDateTime start = LocalDateTime.of(year, month, request.getStartDay(), request.getStartHour() ,0);
-            LocalDateTime end = LocalDateTime.of(year, month, request.getEndDay(), request.getEndHour(),0);
+        private static Stream<Work> splitRecord(MonthCalendar calendar, LocalDateTime start, LocalDateTime end) {
+            int month = calendar.month();
 
             return Stream.iterate(start, t -> t.isBefore(end), t -> t.plusHours(1))
-                    .map(Work::of);
+                    .map(t -> Work.of(t, t.getMonthValue() == month && calendar.isHoliday(t.getDayOfMonth())));
         }
     }
 
     public static class Work {
         private final LocalDateTime dateTime;
+        private final boolean holiday;
 
         public boolean isNight() {
             int hour = dateTime.getHour();
@@ -158,23 +248,28 @@ public class OopPayrollService implements PayrollService {
         }
 
         public boolean isHoliday() {
-            return dateTime.getDayOfWeek() == DayOfWeek.SUNDAY;
+            return holiday;
         }
 
         public LocalDate getDate() {
             return dateTime.toLocalDate();
         }
 
-        private Work(LocalDateTime dateTime) {
+        private Work(LocalDateTime dateTime, boolean holiday) {
             this.dateTime = dateTime;
+            this.holiday = holiday;
         }
 
         public static Work of(Integer year, Integer month, Integer day, Integer hour) {
-            return new Work(LocalDateTime.of(year, month, day, hour, 0));
+            return of(LocalDateTime.of(year, month, day, hour, 0));
         }
 
         public static Work of(LocalDateTime time) {
-            return new Work(time);
+            return new Work(time, time.getDayOfWeek() == DayOfWeek.SUNDAY);
+        }
+
+        public static Work of(LocalDateTime time, boolean holiday) {
+            return new Work(time, holiday);
         }
     }
 
@@ -182,17 +277,120 @@ public class OopPayrollService implements PayrollService {
         PolicyResult calculate(Works works);
     }
 
-    public class BasicPayPolicy implements PayPolicy {
+    /**
+     * 단일 순회(FUSED) 모드를 지원하는 정책
+     * - 요청마다 새 누적기를 만들고, 엔진이 모든 정책의 누적기에 같은 시간/일을 전달한다
+     * - 새 정책은 필요한 콜백만 구현하면 되고 다른 정책을 건드리지 않는다
+     */
+    public interface FusedPayPolicy extends PayPolicy {
+        PolicyAccumulator accumulator(int wage);
+    }
+
+    public interface PolicyAccumulator {
+
+        /** 근무 시간 하나마다 호출 */
+        default void onHour(HourSlot hour) {
+        }
+
+        /** 근무가 있는 날마다 그날의 합계로 호출 (모든 onHour 이후) */
+        default void onDay(DaySlot day) {
+        }
+
+        PolicyResult result();
+    }
+
+    /**
+     * 순회 중 재사용되는 근무 시간 정보 - 누적기 밖으로 보관하면 안 된다
+     */
+    public static class HourSlot {
+        private int day;
+        private int hour;
+        private boolean holiday;
+
+        void set(int day, int hour, boolean holiday) {
+            this.day = day;
+            this.hour = hour;
+            this.holiday = holiday;
+        }
+
+        public int getDay() {
+            return day;
+        }
+
+        public int getHour() {
+            return hour;
+        }
+
+        public boolean isNight() {
+            return hour >= 22 || hour < 6;
+        }
+
+        public boolean isHoliday() {
+            return holiday;
+        }
+    }
+
+    /**
+     * 순회 중 재사용되는 근무일 합계 - week 는 해당 월의 월요일 시작 주차(0부터)
+     */
+    public static class DaySlot {
+        private int day;
+        private int hours;
+        private boolean holiday;
+        private int week;
+
+        void set(int day, int hours, boolean holiday, int week) {
+            this.day = day;
+            this.hours = hours;
+            this.holiday = holiday;
+            this.week = week;
+        }
+
+        public int getDay() {
+            return day;
+        }
+
+        public int getHours() {
+            return hours;
+        }
+
+        public boolean isHoliday() {
+            return holiday;
+        }
+
+        public int getWeek() {
+            return week;
+        }
+    }
+
+    public class BasicPayPolicy implements FusedPayPolicy {
 
         @Override
         public PolicyResult calculate(Works works) {
             int totalHours = works.count();
-            BigDecimal pay = works.wage.multiply(BigDecimal.valueOf(totalHours));
+            long pay = rates.pay(totalHours, works.wage, PayRates.BASE);
             return PolicyResult.of(pay, totalHours);
         }
+
+        @Override
+        public PolicyAccumulator accumulator(int wage) {
+            return new PolicyAccumulator() {
+                private int totalHours;
+
+                @Override
+                public void onHour(HourSlot hour) {
+                    totalHours++;
+                }
+
+                @Override
+                public PolicyResult result() {
+                    return PolicyResult.of(rates.pay(totalHours, wage, PayRates.BASE), totalHours);
+                }
+            };
+        }
     }
 
-    public class OverTimePayPolicy implements PayPolicy {
+    public class OverTimePayPolicy implements FusedPayPolicy {
 
         @Override
         public PolicyResult calculate(Works works) {
@@ -215,26 +413,60 @@ public class OopPayrollService implements PayrollService {
                     .filter(hours -> hours >8)
                     .mapToInt(hours -> hours - 8)
                     .sum();
-            BigDecimal pay = works.wage.multiply(BigDecimal.valueOf(totalOvertimeHours))
-                    .multiply(BigDecimal.valueOf(0.5));
+            long pay = rates.pay(totalOvertimeHours, works.wage, PayRates.OVERTIME);
             return PolicyResult.of(pay, totalOvertimeHours);
         }
+
+        @Override
+        public PolicyAccumulator accumulator(int wage) {
+            return new PolicyAccumulator() {
+                private int totalOvertimeHours;
+
+                @Override
+                public void onDay(DaySlot day) {
+                    totalOvertimeHours += Math.max(0, day.getHours() - 8);
+                }
+
+                @Override
+                public PolicyResult result() {
+                    long pay = rates.pay(totalOvertimeHours, wage, PayRates.OVERTIME);
+                    return PolicyResult.of(pay, totalOvertimeHours);
+                }
+            };
+        }
     }
 
-    public class NightPayPolicy implements PayPolicy {
+    public class NightPayPolicy implements FusedPayPolicy {
 
         @Override
         public PolicyResult calculate(Works works) {
             long totalNightHours = works.works.stream()
                     .filter(Work::isNight)
                     .count();
-            BigDecimal pay = works.wage.multiply(BigDecimal.valueOf(totalNightHours))
-                    .multiply(BigDecimal.valueOf(0.5));
+            long pay = rates.pay(totalNightHours, works.wage, PayRates.NIGHT);
             return PolicyResult.of(pay, (double) totalNightHours);
         }
+
+        @Override
+        public PolicyAccumulator accumulator(int wage) {
+            return new PolicyAccumulator() {
+                private long totalNightHours;
+
+                @Override
+                public void onHour(HourSlot hour) {
+                    if (hour.isNight()) totalNightHours++;
+                }
+
+                @Override
+                public PolicyResult result() {
+                    long pay = rates.pay(totalNightHours, wage, PayRates.NIGHT);
+                    return PolicyResult.of(pay, (double) totalNightHours);
+                }
+            };
+        }
     }
 
-    public class HolidayPayPolicy implements PayPolicy {
+    public class HolidayPayPolicy implements FusedPayPolicy {
 
         @Override
         public PolicyResult calculate(Works works) {
@@ -258,14 +490,36 @@ public class OopPayrollService implements PayrollService {
                     .mapToInt(hours -> Math.min(hours,8))
                     .sum();
 
-            BigDecimal pay = works.wage.multiply(BigDecimal.valueOf(totalHolidayHoursUnder8)).multiply(BigDecimal.valueOf(0.5))
-                    .add(works.wage.multiply(BigDecimal.valueOf(totalHolidayHoursOver8))); // 100% 가산
+            long pay = rates.pay(totalHolidayHoursUnder8, works.wage, PayRates.HOLIDAY)
+                    + rates.pay(totalHolidayHoursOver8, works.wage, PayRates.HOLIDAY_OVERTIME); // 100% 가산
 
             return PolicyResult.of(pay, totalHolidayHoursUnder8 + totalHolidayHoursOver8);
         }
+
+        @Override
+        public PolicyAccumulator accumulator(int wage) {
+            return new PolicyAccumulator() {
+                private long totalHolidayHoursUnder8;
+                private long totalHolidayHoursOver8;
+
+                @Override
+                public void onDay(DaySlot day) {
+                    if (!day.isHoliday()) return;
+                    totalHolidayHoursUnder8 += Math.min(day.getHours(), 8);
+                    totalHolidayHoursOver8 += Math.max(0, day.getHours() - 8);
+                }
+
+                @Override
+                public PolicyResult result() {
+                    long pay = rates.pay(totalHolidayHoursUnder8, wage, PayRates.HOLIDAY)
+                            + rates.pay(totalHolidayHoursOver8, wage, PayRates.HOLIDAY_OVERTIME); // 100% 가산
+                    return PolicyResult.of(pay, totalHolidayHoursUnder8 + totalHolidayHoursOver8);
+                }
+            };
+        }
     }
 
-    public class WeeklyHolidayPayPolicy implements PayPolicy {
+    public class WeeklyHolidayPayPolicy implements FusedPayPolicy {
 
         @Override
         public PolicyResult calculate(Works works) {
@@ -280,22 +534,49 @@ public class OopPayrollService implements PayrollService {
 
             return weekly.values().stream()
                     .filter(hours -> hours >= 15)
-                    .map(hours -> {
-                        // 인정되는 주휴 시간 계산 (기존 변수명 유지)
-                        double weeklyHolidayHours = (Math.min(hours, 40) / 40.0) * 8.0;
-                        BigDecimal pay = works.wage.multiply(BigDecimal.valueOf(weeklyHolidayHours));
-
-                        // 중간 결과를 PolicyResult에 임시 저장
-                        return PolicyResult.of(pay, weeklyHolidayHours);
-                    })
-                    .reduce(PolicyResult.of(BigDecimal.ZERO, 0), (a, b) ->
-                            PolicyResult.of(a.pay().add(b.pay()), a.hours() + b.hours())
+                    .map(hours -> weeklyHolidayPay(works.wage, hours))
+                    .reduce(PolicyResult.of(0, 0), (a, b) ->
+                            PolicyResult.of(a.pay() + b.pay(), a.hours() + b.hours())
                     );
         }
+
+        @Override
+        public PolicyAccumulator accumulator(int wage) {
+            return new PolicyAccumulator() {
+                // 한 달은 월요일 시작 기준 최대 6주
+                private final int[] weeklyHours = new int[6];
+
+                @Override
+                public void onDay(DaySlot day) {
+                    weeklyHours[day.getWeek()] += day.getHours();
+                }
+
+                @Override
+                public PolicyResult result() {
+                    PolicyResult total = PolicyResult.of(0, 0);
+                    for (int hours : weeklyHours) {
+                        if (hours < 15) continue;
+                        PolicyResult week = weeklyHolidayPay(wage, hours);
+                        total = PolicyResult.of(total.pay() + week.pay(), total.hours() + week.hours());
+                    }
+                    return total;
+                }
+            };
+        }
+
+        private PolicyResult weeklyHolidayPay(int wage, int hours) {
+            // 인정되는 주휴 시간 계산 (기존 변수명 유지)
+            double weeklyHolidayHours = (Math.min(hours, 40) / 40.0) * 8.0;
+            // 주 단위로 원 미만을 맞춘다 (다른 엔진과 같은 반올림 시점, double 오차 없이 정수로 계산)
+            long pay = rates.pay(Math.min(hours, 40), wage, PayRates.WEEKLY_HOLIDAY);
+
+            // 중간 결과를 PolicyResult에 임시 저장
+            return PolicyResult.of(pay, weeklyHolidayHours);
+        }
     }
 
-    public record PolicyResult(BigDecimal pay, double hours) {
-        public static PolicyResult of(BigDecimal pay, double hours) {
+    public record PolicyResult(long pay, double hours) {
+        public static PolicyResult of(long pay, double hours) {
             return new PolicyResult(pay, hours);
         }
     }
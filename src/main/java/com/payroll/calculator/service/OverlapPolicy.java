@@ -0,0 +1,12 @@
+package com.payroll.calculator.service;
+
+/**
+ * 겹치는 근무 기록 처리 방식 (payroll.overlap-policy)
+ * - MERGE: 정렬 후 겹치거나 맞닿은 구간을 합친다. 겹친 시간은 한 번만 집계 (기본값)
+ * - REJECT: 겹치는 기록이 있으면 400. 맞닿은 기록은 허용
+ * - COUNT: 입력 그대로 엔진에 전달해 겹친 시간을 중복 집계 (이전 동작 호환).
+ *          비트셋/타임라인/구간 엔진도 이 정책을 받아 겹친 만큼 세므로 모든 엔진의 결과가 같다
+ */
+public enum OverlapPolicy {
+    MERGE, REJECT, COUNT
+}
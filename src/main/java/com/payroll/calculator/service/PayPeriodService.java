@@ -0,0 +1,213 @@
+package com.payroll.calculator.service;
+
+import com.payroll.calculator.calendar.MonthCalendarCache;
+import com.payroll.calculator.dto.PayPeriodRequest;
+import com.payroll.calculator.dto.PayPeriodResponse;
+import com.payroll.calculator.dto.PayrollResponse;
+import com.payroll.calculator.dto.PeriodWorkRecordRequest;
+import com.payroll.calculator.exception.PayrollValidationException;
+import com.payroll.calculator.money.PayRates;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 임의 급여 기간 계산 (격주, 4-4-5, 월 경계를 넘는 기간)
+ * - 근무 기록을 epoch 시간(1970-01-01 00시부터의 시간)으로 바꾼 뒤 기간 시작 기준 오프셋 구간으로 다룬다
+ * - 정렬/병합/겹침 검사/시간 누적은 월 구간 산술 엔진과 같은 {@link WorkIntervals} 를 쓰므로
+ *   비용은 기록 수와 기간 일수에만 비례하고 (31일이든 35일이든 같음) 겹침 정책별 결과도 월 단위와 같다
+ * - 월 단위 요청과 같이 분이 있는 기록(또는 이월 분)이 하나라도 있으면 분 단위로 계산한다
+ * - 주차는 실제 월요일 경계를 따르고, 기간 밖으로 이어지는 주는 이월 시간(carriedWeekHours/openWeekHours)으로 이어간다
+ * - 휴일(일요일 + 공휴일)은 월 달력 캐시에서 날짜별로 조회
+ */
+public class PayPeriodService {
+
+    public static final int MAX_PERIOD_DAYS = 366;
+
+    private static final int HOURS_PER_DAY = 24;
+    private static final int DAYS_PER_WEEK = 7;
+    private static final int DAILY_LIMIT = 8;
+    private static final int WEEKLY_LIMIT = 40;
+    private static final int WEEKLY_THRESHOLD = 15;
+    private static final int MINUTES_PER_HOUR = 60;
+
+    // 기간 최대 오프셋: 366 * 24 < 2^14 시간, 366 * 24 * 60 < 2^20 분 - 겹침 검사 키의 기록 번호는 나머지 24비트 이상
+    private static final int HOUR_OFFSET_BITS = 14;
+    private static final int MINUTE_OFFSET_BITS = 20;
+    private static final int MAX_RECORDS = 1 << 24;
+
+    private final MonthCalendarCache calendars;
+    private final OverlapPolicy overlapPolicy;
+    private final PayRates rates;
+
+    public PayPeriodService(MonthCalendarCache calendars, OverlapPolicy overlapPolicy) {
+        this(calendars, overlapPolicy, PayRates.standard());
+    }
+
+    public PayPeriodService(MonthCalendarCache calendars, OverlapPolicy overlapPolicy, PayRates rates) {
+        this.calendars = calendars;
+        this.overlapPolicy = overlapPolicy;
+        this.rates = rates;
+    }
+
+    public PayPeriodResponse calculate(PayPeriodRequest request) {
+        LocalDate first = request.getPeriodStart();
+        int days = periodDays(first, request.getPeriodEnd());
+        int firstDayOfWeek = first.getDayOfWeek().getValue() - 1;
+        if (firstDayOfWeek == 0 && (request.getCarriedWeekHours() > 0 || request.getCarriedWeekMinutes() > 0)) {
+            throw new PayrollValidationException("carriedWeekHours", "기간이 월요일에 시작하면 이월 시간은 0 이어야 합니다.");
+        }
+        int wage = request.getWage();
+        // 분이 있는 기록이나 이월 분이 있으면 60, 아니면 1 - 아래 "시간" 변수는 모두 이 단위
+        int unit = hasMinutes(request) ? MINUTES_PER_HOUR : 1;
+
+        // 1. epoch 시간 → 기간 시작 기준 오프셋, 정렬 후 겹침 정책 적용
+        long[] intervals = toSortedIntervals(request.getRecords(), epochUnits(first.atStartOfDay(), unit),
+                days * HOURS_PER_DAY * unit, unit);
+        int count = overlapPolicy == OverlapPolicy.COUNT
+                ? intervals.length
+                : WorkIntervals.merge(intervals, intervals.length);
+
+        // 2. 구간별 누적 - 총/야간은 닫힌 식, 일별은 부분일 + 차분 배열
+        WorkIntervals.Totals totals = WorkIntervals.accumulate(intervals, count, days, unit);
+        int totalHours = totals.total();
+        int nightHours = totals.night();
+        int[] dailyHours = totals.daily();
+
+        // 3. 일 단위 집계 - 연장/휴일, 월요일 시작 주차별 합계 (첫 주에는 이월 시간 포함)
+        int weekCount = (days + firstDayOfWeek + DAYS_PER_WEEK - 1) / DAYS_PER_WEEK;
+        int[] weeklyHours = new int[weekCount];
+        weeklyHours[0] = request.getCarriedWeekHours() * unit + request.getCarriedWeekMinutes();
+        int overtimeHours = 0, holidayUnder8 = 0, holidayOver8 = 0;
+        LocalDate date = first;
+        for (int dayIndex = 0; dayIndex < days; dayIndex++, date = date.plusDays(1)) {
+            int hours = dailyHours[dayIndex];
+            int over = Math.max(0, hours - DAILY_LIMIT * unit);
+            overtimeHours += over;
+            if (isHoliday(date)) {
+                holidayUnder8 += hours - over;
+                holidayOver8 += over;
+            }
+            weeklyHours[(dayIndex + firstDayOfWeek) / DAYS_PER_WEEK] += hours;
+        }
+
+        // 4. 주휴수당은 기간 안에서 일요일까지 끝난 주만, 마지막 주가 열려 있으면 다음 기간으로 넘긴다
+        boolean lastWeekOpen = request.getPeriodEnd().getDayOfWeek() != DayOfWeek.SUNDAY;
+        int closedWeeks = lastWeekOpen ? weekCount - 1 : weekCount;
+        long weeklyHolidayPay = 0;
+        for (int week = 0; week < closedWeeks; week++) {
+            if (weeklyHours[week] >= WEEKLY_THRESHOLD * unit) {
+                weeklyHolidayPay += rates.pay(Math.min(weeklyHours[week], WEEKLY_LIMIT * unit), wage, PayRates.WEEKLY_HOLIDAY, unit);
+            }
+        }
+
+        long basePay = rates.pay(totalHours, wage, PayRates.BASE, unit);
+        long overtimePay = rates.pay(overtimeHours, wage, PayRates.OVERTIME, unit);
+        long nightPay = rates.pay(nightHours, wage, PayRates.NIGHT, unit);
+        long holidayPay = rates.pay(holidayUnder8, wage, PayRates.HOLIDAY, unit)
+                + rates.pay(holidayOver8, wage, PayRates.HOLIDAY_OVERTIME, unit);
+        long totalPay = basePay + overtimePay + nightPay + holidayPay + weeklyHolidayPay;
+
+        PayrollResponse payroll = PayrollResponse.builder()
+                .totalWorkHours(totalHours / (double) unit)
+                .overtimeHours(overtimeHours / (double) unit)
+                .nightHours(nightHours / (double) unit)
+                .holidayHours((holidayUnder8 + holidayOver8) / (double) unit)
+                .basePay(basePay)
+                .overtimePay(overtimePay)
+                .nightPay(nightPay)
+                .holidayPay(holidayPay)
+                .weeklyHolidayPay(weeklyHolidayPay)
+                .totalPay(totalPay)
+                .build();
+
+        int openWeekUnits = lastWeekOpen ? weeklyHours[weekCount - 1] : 0;
+        return PayPeriodResponse.builder()
+                .periodStart(first)
+                .periodEnd(request.getPeriodEnd())
+                .payroll(payroll)
+                .openWeekStart(lastWeekOpen ? first.plusDays((long) (weekCount - 1) * DAYS_PER_WEEK - firstDayOfWeek) : null)
+                .openWeekHours(openWeekUnits / unit)
+                .openWeekMinutes(openWeekUnits % unit)
+                .build();
+    }
+
+    private static int periodDays(LocalDate first, LocalDate last) {
+        long days = ChronoUnit.DAYS.between(first, last) + 1;
+        if (days < 1) {
+            throw new PayrollValidationException("periodEnd", "기간 종료일은 시작일보다 빠를 수 없습니다.");
+        }
+        if (days > MAX_PERIOD_DAYS) {
+            throw new PayrollValidationException("periodEnd", "급여 기간은 " + MAX_PERIOD_DAYS + "일 이하여야 합니다.");
+        }
+        return (int) days;
+    }
+
+    private static boolean hasMinutes(PayPeriodRequest request) {
+        if (request.getCarriedWeekMinutes() != 0) {
+            return true;
+        }
+        for (PeriodWorkRecordRequest record : request.getRecords()) {
+            if (record.getStart().getMinute() != 0 || record.getEnd().getMinute() != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 기록을 기간 시작 기준 (시작, 종료) 구간으로 바꿔 정렬. REJECT 면 겹치는 기록을 뒤 번호 기준으로 보고
+     */
+    private long[] toSortedIntervals(List<PeriodWorkRecordRequest> records, long base, int periodLength, int unit) {
+        if (records.size() > MAX_RECORDS) {
+            throw new PayrollValidationException("records", "근무 기록은 최대 " + MAX_RECORDS + "개입니다.");
+        }
+        int offsetBits = unit == 1 ? HOUR_OFFSET_BITS : MINUTE_OFFSET_BITS;
+        boolean reject = overlapPolicy == OverlapPolicy.REJECT;
+        long[] intervals = new long[records.size()];
+        long[] keys = reject ? new long[records.size()] : null;
+        for (int r = 0; r < intervals.length; r++) {
+            PeriodWorkRecordRequest record = records.get(r);
+            long start = epochUnits(record.getStart(), unit, r, "start") - base;
+            long end = epochUnits(record.getEnd(), unit, r, "end") - base;
+            if (start < 0 || end > periodLength) {
+                throw new PayrollValidationException("records[" + r + "]", "급여 기간 밖의 근무입니다.");
+            }
+            if (start >= end) {
+                throw new PayrollValidationException("records[" + r + "]", "종료 시각은 시작 시각보다 늦어야 합니다.");
+            }
+            intervals[r] = WorkIntervals.of((int) start, (int) end);
+            if (reject) {
+                keys[r] = WorkIntervals.overlapKey((int) start, (int) end, r, offsetBits);
+            }
+        }
+        if (reject) {
+            WorkIntervals.rejectOverlaps(keys, keys.length, offsetBits);
+        }
+        Arrays.sort(intervals);
+        return intervals;
+    }
+
+    private boolean isHoliday(LocalDate date) {
+        return calendars.get(date.getYear(), date.getMonthValue()).isHoliday(date.getDayOfMonth());
+    }
+
+    private static long epochUnits(LocalDateTime time, int unit, int index, String field) {
+        if (time.getSecond() != 0 || time.getNano() != 0) {
+            throw new PayrollValidationException("records[" + index + "]." + field, "분 단위여야 합니다.");
+        }
+        return epochUnits(time, unit);
+    }
+
+    /**
+     * 1970-01-01 00시부터의 시간 (unit = 60 이면 분)
+     */
+    private static long epochUnits(LocalDateTime time, int unit) {
+        return time.toEpochSecond(ZoneOffset.UTC) / (3600 / unit);
+    }
+}
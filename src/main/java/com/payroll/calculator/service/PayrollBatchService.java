@@ -0,0 +1,112 @@
+package com.payroll.calculator.service;
+
+import com.payroll.calculator.config.PayrollBatchProperties;
+import com.payroll.calculator.dto.PayrollBatchItemResponse;
+import com.payroll.calculator.dto.PayrollBatchResponse;
+import com.payroll.calculator.dto.PayrollRequest;
+import com.payroll.calculator.exception.PayrollException;
+import com.payroll.calculator.validation.PayrollRequestValidator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.time.DateTimeException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * 여러 직원의 급여를 한 번에 계산
+ * - 요청을 구간(chunk)으로 나눠 전용 스레드 풀에서 병렬 계산
+ * - 한 건의 검증/계산 실패가 전체 일괄 계산을 실패시키지 않도록 건별로 결과를 담는다
+ * - 건별 검증은 리플렉션 기반 Bean Validation 대신 {@link PayrollRequestValidator} 로 (월 길이, 시작 < 종료, REJECT 겹침 포함)
+ */
+@Slf4j
+@Service
+public class PayrollBatchService {
+
+    // 건마다 근무 기록 수가 달라 코어 수보다 잘게 나눠 부하를 고르게 분산
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private final PayrollService payrollService;
+    private final PayrollRequestValidator validator;
+    private final ExecutorService executor;
+    private final PayrollBatchProperties properties;
+
+    public PayrollBatchService(PayrollService payrollService,
+                               PayrollRequestValidator validator,
+                               @Qualifier("payrollBatchExecutor") ExecutorService executor,
+                               PayrollBatchProperties properties) {
+        this.payrollService = payrollService;
+        this.validator = validator;
+        this.executor = executor;
+        this.properties = properties;
+    }
+
+    public PayrollBatchResponse calculateAll(List<PayrollRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new PayrollException(400, "급여 계산 요청은 최소 1개 이상이어야 합니다.");
+        }
+        if (requests.size() > properties.maxSize()) {
+            throw new PayrollException(400, "한 번에 계산할 수 있는 요청은 최대 " + properties.maxSize() + "개입니다.");
+        }
+
+        int size = requests.size();
+        PayrollBatchItemResponse[] results = new PayrollBatchItemResponse[size];
+        int chunkCount = Math.min(size, properties.effectiveParallelism() * CHUNKS_PER_THREAD);
+        int chunkSize = (size + chunkCount - 1) / chunkCount;
+
+        List<Future<?>> futures = new ArrayList<>(chunkCount);
+        for (int from = 0; from < size; from += chunkSize) {
+            int start = from;
+            int end = Math.min(size, from + chunkSize);
+            futures.add(executor.submit(() -> {
+                for (int i = start; i < end; i++) {
+                    results[i] = calculateOne(i, requests.get(i));
+                }
+            }));
+        }
+        awaitAll(futures);
+
+        return PayrollBatchResponse.of(Arrays.asList(results));
+    }
+
+    /**
+     * 단건 검증 + 계산. 실패는 예외 대신 실패 결과로 돌려준다.
+     */
+    public PayrollBatchItemResponse calculateOne(int index, PayrollRequest request) {
+        if (request == null) {
+            return PayrollBatchItemResponse.failure(index, 400, "급여 계산 요청이 비어 있습니다.");
+        }
+
+        try {
+            validator.validate(request);
+            return PayrollBatchItemResponse.success(index, payrollService.calculate(request));
+        } catch (PayrollException e) {
+            return PayrollBatchItemResponse.failure(index, e.getStatus(), e.getMessage());
+        } catch (DateTimeException e) {
+            return PayrollBatchItemResponse.failure(index, 400, "존재하지 않는 날짜입니다: " + e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("일괄 계산 중 오류 - index: {}", index, e);
+            return PayrollBatchItemResponse.failure(index, 500, "서버 오류가 발생했습니다");
+        }
+    }
+
+    private void awaitAll(List<Future<?>> futures) {
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(f -> f.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new PayrollException(503, "일괄 계산이 중단되었습니다");
+        } catch (ExecutionException e) {
+            futures.forEach(f -> f.cancel(true));
+            throw new IllegalStateException("일괄 계산 실패", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.payroll.calculator.service;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 이름으로 찾는 계산 엔진 목록 (지표/캐시/감사 로그로 감싸기 전의 엔진)
+ * - 기본 엔진 이름은 생성 시 확인해 잘못된 설정이면 기동에 실패한다
+ */
+public class PayrollEngineRegistry {
+
+    private final Map<String, PayrollService> engines;
+    private final String defaultEngine;
+
+    public PayrollEngineRegistry(Map<String, PayrollService> engines, String defaultEngine) {
+        this.engines = Collections.unmodifiableMap(new LinkedHashMap<>(engines));
+        this.defaultEngine = defaultEngine;
+        get(defaultEngine);
+    }
+
+    public PayrollService get(String name) {
+        PayrollService engine = engines.get(name);
+        if (engine == null) {
+            throw new IllegalArgumentException("unknown payroll engine: " + name + " (available: " + engines.keySet() + ")");
+        }
+        return engine;
+    }
+
+    public Set<String> names() {
+        return engines.keySet();
+    }
+
+    public String defaultEngine() {
+        return defaultEngine;
+    }
+}
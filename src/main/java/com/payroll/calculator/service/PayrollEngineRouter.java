@@ -0,0 +1,49 @@
+package com.payroll.calculator.service;
+
+import com.payroll.calculator.exception.PayrollException;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 요청별 엔진 선택 - {@value #ENGINE_HEADER} 헤더로 기본 엔진 대신 다른 엔진의 파이프라인을 고른다 (카나리 비교용)
+ * - 엔진별 파이프라인은 지표/감사 로그에 각자의 엔진 이름을 남긴다
+ * - 결과 캐시와 섀도 비교는 기본 엔진 파이프라인에만 있다 (캐시 키에 엔진이 없으므로)
+ */
+public class PayrollEngineRouter {
+
+    public static final String ENGINE_HEADER = "X-Payroll-Engine";
+
+    private final Map<String, PayrollService> pipelines;
+    private final String defaultEngine;
+
+    public PayrollEngineRouter(Map<String, PayrollService> pipelines, String defaultEngine) {
+        this.pipelines = Collections.unmodifiableMap(new LinkedHashMap<>(pipelines));
+        this.defaultEngine = defaultEngine;
+    }
+
+    /**
+     * 엔진 이름이 없으면 기본 엔진, 모르는 이름이면 400
+     */
+    public PayrollService route(String engine) {
+        if (engine == null || engine.isBlank()) {
+            return pipelines.get(defaultEngine);
+        }
+        PayrollService service = pipelines.get(engine);
+        if (service == null) {
+            throw new PayrollException(400, "알 수 없는 계산 엔진입니다: " + engine
+                    + " (사용 가능: " + String.join(", ", pipelines.keySet()) + ")");
+        }
+        return service;
+    }
+
+    public Set<String> engines() {
+        return pipelines.keySet();
+    }
+
+    public String defaultEngine() {
+        return defaultEngine;
+    }
+}
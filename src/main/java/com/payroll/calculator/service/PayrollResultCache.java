@@ -0,0 +1,140 @@
+package com.payroll.calculator.service;
+
+import com.payroll.calculator.dto.PackedPayrollRequest;
+import com.payroll.calculator.dto.PayrollResponse;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * 동일 급여 요청 결과 캐시
+ * - 키는 (시급, 년, 월, 정렬된 근무 구간) 이므로 기록 순서가 달라도 같은 키가 된다
+ * - 최대 크기를 넘으면 가장 오래 조회되지 않은 결과부터 제거 (LRU), TTL 이 지난 결과는 조회 시 제거
+ * - 계산은 락 밖에서 수행하고, 예외가 난 요청은 저장하지 않는다
+ * - PayrollResponse 는 가변 객체이므로 저장할 때와 적중할 때 모두 복사본을 쓴다 (호출자가 값을 바꿔도 캐시는 그대로)
+ */
+public class PayrollResultCache {
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+    private final Map<Key, Entry> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    public PayrollResultCache(int maxSize, Duration ttl) {
+        this(maxSize, ttl, System::nanoTime);
+    }
+
+    PayrollResultCache(int maxSize, Duration ttl, LongSupplier nanoClock) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.nanoClock = nanoClock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                if (size() > PayrollResultCache.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public PayrollResponse get(PackedPayrollRequest request, Function<PackedPayrollRequest, PayrollResponse> calculator) {
+        Key key = Key.of(request);
+        long now = nanoClock.getAsLong();
+
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                if (now - entry.createdAt() < ttlNanos) {
+                    hits.increment();
+                    return entry.response().toBuilder().build();
+                }
+                entries.remove(key);
+                expirations.increment();
+            }
+        }
+
+        misses.increment();
+        PayrollResponse response = calculator.apply(request);
+        synchronized (entries) {
+            entries.put(key, new Entry(response.toBuilder().build(), now));
+        }
+        return response;
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public Stats stats() {
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long requests = hitCount + missCount;
+        double hitRate = requests == 0 ? 0.0 : (double) hitCount / requests;
+        return new Stats(hitCount, missCount, evictions.sum(), expirations.sum(), size, maxSize, hitRate);
+    }
+
+    public record Stats(long hits, long misses, long evictions, long expirations,
+                        int size, int maxSize, double hitRate) {
+    }
+
+    private record Entry(PayrollResponse response, long createdAt) {
+    }
+
+    /**
+     * 정규화된 요청 키 - 근무 구간을 (시작 << 10 | 종료) 로 묶어 정렬한 배열
+     */
+    static final class Key {
+        private final int wage;
+        private final int year;
+        private final int month;
+        private final int[] intervals;
+        private final int hash;
+
+        private Key(int wage, int year, int month, int[] intervals) {
+            this.wage = wage;
+            this.year = year;
+            this.month = month;
+            this.intervals = intervals;
+            this.hash = 31 * (31 * (31 * wage + year) + month) + Arrays.hashCode(intervals);
+        }
+
+        static Key of(PackedPayrollRequest request) {
+            int[] intervals = request.copyIntervals();
+            Arrays.sort(intervals);
+            return new Key(request.getWage(), request.getYear(), request.getMonth(), intervals);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key other
+                    && wage == other.wage && year == other.year && month == other.month
+                    && Arrays.equals(intervals, other.intervals);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -1,9 +1,20 @@
 package com.payroll.calculator.service;
 
+import com.payroll.calculator.dto.PackedPayrollRequest;
 import com.payroll.calculator.dto.PayrollRequest;
 import com.payroll.calculator.dto.PayrollResponse;
 
 public interface PayrollService {
 
-    PayrollResponse calculate(PayrollRequest request);
+    /**
+     * 모든 엔진의 계산 진입점 - 근무 기록은 (시작, 종료) 시간 오프셋 배열로 전달된다
+     */
+    PayrollResponse calculate(PackedPayrollRequest request);
+
+    /**
+     * JSON 요청은 여기서 한 번만 오프셋 배열로 바꾼다 (데코레이터를 거쳐도 변환은 가장 바깥에서 한 번)
+     */
+    default PayrollResponse calculate(PayrollRequest request) {
+        return calculate(PackedPayrollRequest.from(request));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,217 @@
+package com.payroll.calculator.service;
+
+import com.payroll.calculator.calendar.MonthCalendar;
+import com.payroll.calculator.calendar.MonthCalendarCache;
+import com.payroll.calculator.dto.PackedPayrollRequest;
+import com.payroll.calculator.dto.PayrollResponse;
+import com.payroll.calculator.money.PayRates;
+
+import java.util.Arrays;
+
+/**
+ * 비트셋 타임라인 방식
+ * - 한 달(최대 744시간)을 long 12개로 표현하고 근무 구간을 워드 마스크로 채운다
+ * - 총/야간/휴일 시간은 달력의 야간·휴일 마스크와 AND 후 Long.bitCount 로 한 번에 센다
+ * - 일별(연장, 휴일 8시간 초과), 주차별(주휴) 시간은 해당 비트 구간의 popcount
+ * - 겹치는 근무 기록은 같은 비트를 채우므로 중복 집계되지 않는다
+ * - COUNT 정책이면 이미 채워진 비트를 위 층 비트셋으로 올려(자리올림) 층마다 같은 popcount 를 더한다 - 층 수는 최대 겹침 수
+ */
+public class PayrollServiceBitsetImpl implements PayrollService {
+
+    private static final int HOURS_PER_DAY = MonthCalendar.HOURS_PER_DAY;
+    private static final int DAILY_LIMIT = 8;
+    private static final int WEEKLY_LIMIT = 40;
+    private static final int WEEKLY_THRESHOLD = 15;
+
+    private static final int WORDS = MonthCalendar.HOUR_WORDS;
+
+    // [0] 은 근무 비트셋, [1..] 은 COUNT 정책에서 겹친 횟수만큼 쌓이는 층
+    private static final ThreadLocal<long[][]> LAYERS = ThreadLocal.withInitial(() -> new long[1][WORDS]);
+
+    private final MonthCalendarCache calendars;
+    private final PayRates rates;
+    private final OverlapPolicy overlapPolicy;
+
+    /**
+     * 테스트/벤치마크용 - 공휴일 설정 없이 일요일만 휴일로 보는 {@link MonthCalendarCache#shared()} 를 쓴다
+     */
+    public PayrollServiceBitsetImpl() {
+        this(MonthCalendarCache.shared());
+    }
+
+    public PayrollServiceBitsetImpl(MonthCalendarCache calendars) {
+        this(calendars, PayRates.standard());
+    }
+
+    public PayrollServiceBitsetImpl(MonthCalendarCache calendars, PayRates rates) {
+        this(calendars, rates, OverlapPolicy.MERGE);
+    }
+
+    public PayrollServiceBitsetImpl(MonthCalendarCache calendars, PayRates rates, OverlapPolicy overlapPolicy) {
+        this.calendars = calendars;
+        this.rates = rates;
+        this.overlapPolicy = overlapPolicy;
+    }
+
+    @Override
+    public PayrollResponse calculate(PackedPayrollRequest request) {
+        int wage = request.getWage();
+        MonthCalendar calendar = calendars.get(request.getYear(), request.getMonth());
+        int lengthOfMonth = calendar.lengthOfMonth();
+
+        // 1. 근무 구간을 비트로 채움
+        boolean counting = overlapPolicy == OverlapPolicy.COUNT;
+        int size = request.recordCount();
+        long[][] layers = LAYERS.get();
+        if (counting && layers.length < size) {
+            // 층 수는 기록 수를 넘지 않는다 - 층 배열은 실제로 겹칠 때 만든다
+            layers = Arrays.copyOf(layers, size);
+            LAYERS.set(layers);
+        }
+        Arrays.fill(layers[0], 0L);
+        int depth = 1;
+        for (int r = 0; r < size; r++) {
+            int start = request.start(r);
+            int end = calendar.checkHourOffset(request.end(r));
+            if (counting) {
+                depth = stack(layers, depth, start, end);
+            } else {
+                fill(layers[0], start, end);
+            }
+        }
+
+        // 2. 총 / 야간 / 휴일 시간 - 워드 단위 popcount
+        int totalHours = 0, nightHours = 0, holidayHours = 0;
+        for (int d = 0; d < depth; d++) {
+            long[] timeline = layers[d];
+            for (int w = 0; w < WORDS; w++) {
+                totalHours += Long.bitCount(timeline[w]);
+                nightHours += Long.bitCount(timeline[w] & calendar.nightHourWord(w));
+                holidayHours += Long.bitCount(timeline[w] & calendar.holidayHourWord(w));
+            }
+        }
+
+        // 3. 일별 popcount - 연장 / 휴일 8시간 초과
+        int overtimeHours = 0, holidayOver8 = 0;
+        for (int day = 1; day <= lengthOfMonth; day++) {
+            int from = (day - 1) * HOURS_PER_DAY;
+            int hours = count(layers, depth, from, from + HOURS_PER_DAY);
+            int over = Math.max(0, hours - DAILY_LIMIT);
+            overtimeHours += over;
+            if (calendar.isHoliday(day)) {
+                holidayOver8 += over;
+            }
+        }
+        int holidayUnder8 = holidayHours - holidayOver8;
+
+        // 4. 주차별 popcount - 주휴수당 (월요일 시작)
+        long weeklyHolidayPay = 0;
+        for (int week = 0; week < calendar.weekCount(); week++) {
+            int from = (calendar.weekStartDay(week) - 1) * HOURS_PER_DAY;
+            int to = (calendar.weekEndDay(week) - 1) * HOURS_PER_DAY;
+            int hours = count(layers, depth, from, to);
+            if (hours >= WEEKLY_THRESHOLD) {
+                weeklyHolidayPay += rates.pay(Math.min(hours, WEEKLY_LIMIT), wage, PayRates.WEEKLY_HOLIDAY);
+            }
+        }
+
+        long basePay = rates.pay(totalHours, wage, PayRates.BASE);
+        long overtimePay = rates.pay(overtimeHours, wage, PayRates.OVERTIME);
+        long nightPay = rates.pay(nightHours, wage, PayRates.NIGHT);
+        long holidayPay = rates.pay(holidayUnder8, wage, PayRates.HOLIDAY)
+                + rates.pay(holidayOver8, wage, PayRates.HOLIDAY_OVERTIME);
+        long totalPay = basePay + overtimePay + nightPay + holidayPay + weeklyHolidayPay;
+
+        return PayrollResponse.builder()
+                .totalWorkHours(totalHours)
+                .overtimeHours(overtimeHours)
+                .nightHours(nightHours)
+                .holidayHours(holidayUnder8 + holidayOver8)
+                .basePay(basePay)
+                .overtimePay(overtimePay)
+                .nightPay(nightPay)
+                .holidayPay(holidayPay)
+                .weeklyHolidayPay(weeklyHolidayPay)
+                .totalPay(totalPay)
+                .build();
+    }
+
+    /**
+     * [from, to) 구간의 비트를 1로 채운다
+     */
+    static void fill(long[] bits, int from, int to) {
+        if (from >= to) return;
+        int first = from >>> 6;
+        int last = (to - 1) >>> 6;
+        long firstMask = -1L << from;       // 시프트 양은 하위 6비트만 사용
+        long lastMask = -1L >>> -to;
+        if (first == last) {
+            bits[first] |= firstMask & lastMask;
+            return;
+        }
+        bits[first] |= firstMask;
+        for (int w = first + 1; w < last; w++) {
+            bits[w] = -1L;
+        }
+        bits[last] |= lastMask;
+    }
+
+    /**
+     * [from, to) 구간을 층 비트셋에 더하고 쓰인 층 수를 반환 - 이미 1 인 비트는 다음 층으로 올리고, 모자라면 층을 하나 늘린다
+     * - depth 보다 위 층은 이전 계산의 값이 남아 있을 수 있어 새로 쓰기 전에 비운다
+     */
+    private static int stack(long[][] layers, int depth, int from, int to) {
+        if (from >= to) return depth;
+        int first = from >>> 6;
+        int last = (to - 1) >>> 6;
+        for (int w = first; w <= last; w++) {
+            long carry = -1L;
+            if (w == first) carry &= -1L << from;
+            if (w == last) carry &= -1L >>> -to;
+            for (int d = 0; carry != 0; d++) {
+                if (d == depth) {
+                    if (layers[d] == null) {
+                        layers[d] = new long[WORDS];
+                    } else {
+                        Arrays.fill(layers[d], 0L);
+                    }
+                    depth++;
+                }
+                long overlap = layers[d][w] & carry;
+                layers[d][w] |= carry;
+                carry = overlap;
+            }
+        }
+        return depth;
+    }
+
+    /**
+     * 아래 depth 개 층의 [from, to) 구간 1 비트 수 합
+     */
+    private static int count(long[][] layers, int depth, int from, int to) {
+        int count = 0;
+        for (int d = 0; d < depth; d++) {
+            count += count(layers[d], from, to);
+        }
+        return count;
+    }
+
+    /**
+     * [from, to) 구간의 1 비트 수
+     */
+    static int count(long[] bits, int from, int to) {
+        if (from >= to) return 0;
+        int first = from >>> 6;
+        int last = (to - 1) >>> 6;
+        long firstMask = -1L << from;
+        long lastMask = -1L >>> -to;
+        if (first == last) {
+            return Long.bitCount(bits[first] & firstMask & lastMask);
+        }
+        int count = Long.bitCount(bits[first] & firstMask);
+        for (int w = first + 1; w < last; w++) {
+            count += Long.bitCount(bits[w]);
+        }
+        return count + Long.bitCount(bits[last] & lastMask);
+    }
+}
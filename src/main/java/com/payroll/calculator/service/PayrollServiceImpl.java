@@ -1,37 +1,49 @@
 package com.payroll.calculator.service;
 
-import com.payroll.calculator.dto.PayrollRequest;
+import com.payroll.calculator.calendar.MonthCalendar;
+import com.payroll.calculator.calendar.MonthCalendarCache;
+import com.payroll.calculator.dto.PackedPayrollRequest;
 import com.payroll.calculator.dto.PayrollResponse;
-import com.payroll.calculator.dto.WorkRecordRequest;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.stereotype.Service;
+import com.payroll.calculator.money.PayRates;
 
-import java.time.DayOfWeek;
-import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.Map;
 
 /**
  * 시간 단위 분해 방식 (Map 기반)
  * - 각 시간을 순회하며 해당 날짜의 Map에 누적
+ * - 휴일(일요일 + 공휴일)/주차 판단은 공유 월 달력 사용
+ * - 주휴수당 주차는 월요일 ~ 일요일 (1일부터 7일씩 끊지 않는다) - 다른 엔진과 같은 주 구분
  */
-@Slf4j
-@Service
 public class PayrollServiceImpl implements PayrollService {
 
-    private static final double OVERTIME_RATE = 0.5;
-    private static final double NIGHT_RATE = 0.5;
-    private static final double HOLIDAY_RATE = 0.5;
-    private static final double HOLIDAY_OVERTIME_RATE = 1.0;
     private static final int DAILY_LIMIT = 8;
     private static final int WEEKLY_LIMIT = 40;
     private static final int WEEKLY_THRESHOLD = 15;
 
+    private final MonthCalendarCache calendars;
+    private final PayRates rates;
+
+    /**
+     * 테스트/벤치마크용 - 공휴일 설정 없이 일요일만 휴일로 보는 {@link MonthCalendarCache#shared()} 를 쓴다
+     */
+    public PayrollServiceImpl() {
+        this(MonthCalendarCache.shared());
+    }
+
+    public PayrollServiceImpl(MonthCalendarCache calendars) {
+        this(calendars, PayRates.standard());
+    }
+
+    public PayrollServiceImpl(MonthCalendarCache calendars, PayRates rates) {
+        this.calendars = calendars;
+        this.rates = rates;
+    }
+
     @Override
-    public PayrollResponse calculate(PayrollRequest request) {
+    public PayrollResponse calculate(PackedPayrollRequest request) {
         int wage = request.getWage();
-        int year = request.getYear();
-        int month = request.getMonth();
+        MonthCalendar calendar = calendars.get(request.getYear(), request.getMonth());
 
         Map<Integer, Integer> dailyHours = new HashMap<>();
         Map<Integer, Integer> nightHours = new HashMap<>();
@@ -39,16 +51,15 @@ public class PayrollServiceImpl implements PayrollService {
         Map<Integer, Integer> holidayHoursOver8 = new HashMap<>();
         Map<Integer, Integer> weeklyHours = new HashMap<>();
 
-        for (WorkRecordRequest record : request.getRecords()) {
-            int startIdx = (record.getStartDay() - 1) * 24 + record.getStartHour();
-            int endIdx = (record.getEndDay() - 1) * 24 + record.getEndHour();
+        for (int r = 0, size = request.recordCount(); r < size; r++) {
+            int startIdx = calendar.checkHourOffset(request.start(r));
+            int endIdx = calendar.checkHourOffset(request.end(r));
 
             for (int i = startIdx; i < endIdx; i++) {
                 int day = (i / 24) + 1;
                 int hour = i % 24;
-                int week = (day - 1) / 7 + 1;
-                LocalDate date = LocalDate.of(year, month, day);
-                boolean isSunday = date.getDayOfWeek() == DayOfWeek.SUNDAY;
+                int week = calendar.weekOf(day);
+                boolean isHoliday = calendar.isHoliday(day);
 
                 dailyHours.merge(day, 1, Integer::sum);
                 weeklyHours.merge(week, 1, Integer::sum);
@@ -57,7 +68,7 @@ public class PayrollServiceImpl implements PayrollService {
                     nightHours.merge(day, 1, Integer::sum);
                 }
 
-                if (isSunday) {
+                if (isHoliday) {
                     int currentHoliday = holidayHoursUnder8.getOrDefault(day, 0)
                             + holidayHoursOver8.getOrDefault(day, 0);
                     if (currentHoliday < 8) {
@@ -76,16 +87,14 @@ public class PayrollServiceImpl implements PayrollService {
         int holidayUnder8Total = holidayHoursUnder8.values().stream().mapToInt(Integer::intValue).sum();
         int holidayOver8Total = holidayHoursOver8.values().stream().mapToInt(Integer::intValue).sum();
 
-        long basePay = (long) totalHours * wage;
-        long overtimePay = (long) (overtimeHoursTotal * wage * OVERTIME_RATE);
-        long nightPay = (long) (nightHoursTotal * wage * NIGHT_RATE);
-        long holidayPay = (long) (holidayUnder8Total * wage * HOLIDAY_RATE)
-                + (long) (holidayOver8Total * wage * HOLIDAY_OVERTIME_RATE);
+        long basePay = rates.pay(totalHours, wage, PayRates.BASE);
+        long overtimePay = rates.pay(overtimeHoursTotal, wage, PayRates.OVERTIME);
+        long nightPay = rates.pay(nightHoursTotal, wage, PayRates.NIGHT);
+        long holidayPay = rates.pay(holidayUnder8Total, wage, PayRates.HOLIDAY)
+                + rates.pay(holidayOver8Total, wage, PayRates.HOLIDAY_OVERTIME);
         long weeklyHolidayPay = calculateWeeklyHolidayPay(weeklyHours, wage);
         long totalPay = basePay + overtimePay + nightPay + holidayPay + weeklyHolidayPay;
 
-        log.info("Map방식 계산완료 - total: {}", totalPay);
-
         return PayrollResponse.builder()
                 .totalWorkHours(totalHours)
                 .overtimeHours(overtimeHoursTotal)
@@ -105,7 +114,7 @@ public class PayrollServiceImpl implements PayrollService {
                 .filter(e -> e.getValue() >= WEEKLY_THRESHOLD)
                 .mapToLong(e -> {
                     int hours = Math.min(e.getValue(), WEEKLY_LIMIT);
-                    return (long) ((hours / (double) WEEKLY_LIMIT) * 8 * wage);
+                    return rates.pay(hours, wage, PayRates.WEEKLY_HOLIDAY);
                 })
                 .sum();
     }
@@ -0,0 +1,126 @@
+package com.payroll.calculator.service;
+
+import com.payroll.calculator.calendar.MonthCalendar;
+import com.payroll.calculator.calendar.MonthCalendarCache;
+import com.payroll.calculator.dto.PackedPayrollRequest;
+import com.payroll.calculator.dto.PayrollResponse;
+import com.payroll.calculator.money.PayRates;
+
+import java.util.Arrays;
+
+/**
+ * 구간 산술 방식
+ * - 요청의 (시작, 종료) 시간 오프셋을 한 번 정렬/병합 (COUNT 정책이면 병합하지 않아 겹친 시간을 겹친 만큼 센다)
+ * - 야간 시간은 누적 함수 차이로, 일별 시간은 첫날/마지막날 부분 + 중간 날 차분 배열로 계산 (급여 기간 계산과 같은 {@link WorkIntervals})
+ * - 비용은 근무 시간 길이가 아니라 기록 수와 월 일수에만 비례한다
+ * - 같은 식을 오프셋 단위(시간 또는 분)로 계산하므로 분 단위 요청도 비용이 같다 - 분 단위 요청은 이 엔진만 계산한다
+ */
+public class PayrollServiceIntervalImpl implements PayrollService {
+
+    private static final int DAILY_LIMIT = 8;
+    private static final int WEEKLY_LIMIT = 40;
+    private static final int WEEKLY_THRESHOLD = 15;
+
+    private final MonthCalendarCache calendars;
+    private final PayRates rates;
+    private final OverlapPolicy overlapPolicy;
+
+    /**
+     * 테스트/벤치마크용 - 공휴일 설정 없이 일요일만 휴일로 보는 {@link MonthCalendarCache#shared()} 를 쓴다
+     */
+    public PayrollServiceIntervalImpl() {
+        this(MonthCalendarCache.shared());
+    }
+
+    public PayrollServiceIntervalImpl(MonthCalendarCache calendars) {
+        this(calendars, PayRates.standard());
+    }
+
+    public PayrollServiceIntervalImpl(MonthCalendarCache calendars, PayRates rates) {
+        this(calendars, rates, OverlapPolicy.MERGE);
+    }
+
+    public PayrollServiceIntervalImpl(MonthCalendarCache calendars, PayRates rates, OverlapPolicy overlapPolicy) {
+        this.calendars = calendars;
+        this.rates = rates;
+        this.overlapPolicy = overlapPolicy;
+    }
+
+    @Override
+    public PayrollResponse calculate(PackedPayrollRequest request) {
+        int wage = request.getWage();
+        MonthCalendar calendar = calendars.get(request.getYear(), request.getMonth());
+        int lengthOfMonth = calendar.lengthOfMonth();
+        // 시간 단위 요청이면 1, 분 단위면 60 - 아래 "시간" 변수는 모두 이 단위
+        int unit = request.unitsPerHour();
+
+        // 1. 정렬 + 병합 - 누적은 구간마다 더하기만 하므로 병합하지 않으면 겹친 시간이 그대로 중복 집계된다
+        long[] intervals = toSortedIntervals(request, calendar);
+        int count = overlapPolicy == OverlapPolicy.COUNT
+                ? intervals.length
+                : WorkIntervals.merge(intervals, intervals.length);
+
+        // 2. 구간별 누적 - 총/야간은 닫힌 식, 일별은 부분일 + 차분 배열
+        WorkIntervals.Totals totals = WorkIntervals.accumulate(intervals, count, lengthOfMonth, unit);
+        int totalHours = totals.total();
+        int nightHours = totals.night();
+        int[] dailyHours = totals.daily();
+
+        // 3. 일 단위 집계 - 연장/휴일, 주차별 합계
+        int overtimeHours = 0, holidayUnder8 = 0, holidayOver8 = 0;
+        int[] weeklyHours = new int[calendar.weekCount()];
+        for (int dayIndex = 0; dayIndex < lengthOfMonth; dayIndex++) {
+            int hours = dailyHours[dayIndex];
+            int over = Math.max(0, hours - DAILY_LIMIT * unit);
+            overtimeHours += over;
+            if (calendar.isHoliday(dayIndex + 1)) {
+                holidayUnder8 += hours - over;
+                holidayOver8 += over;
+            }
+            weeklyHours[calendar.weekOf(dayIndex + 1)] += hours;
+        }
+
+        long weeklyHolidayPay = 0;
+        for (int hours : weeklyHours) {
+            if (hours >= WEEKLY_THRESHOLD * unit) {
+                weeklyHolidayPay += rates.pay(Math.min(hours, WEEKLY_LIMIT * unit), wage, PayRates.WEEKLY_HOLIDAY, unit);
+            }
+        }
+
+        long basePay = rates.pay(totalHours, wage, PayRates.BASE, unit);
+        long overtimePay = rates.pay(overtimeHours, wage, PayRates.OVERTIME, unit);
+        long nightPay = rates.pay(nightHours, wage, PayRates.NIGHT, unit);
+        long holidayPay = rates.pay(holidayUnder8, wage, PayRates.HOLIDAY, unit)
+                + rates.pay(holidayOver8, wage, PayRates.HOLIDAY_OVERTIME, unit);
+        long totalPay = basePay + overtimePay + nightPay + holidayPay + weeklyHolidayPay;
+
+        return PayrollResponse.builder()
+                .totalWorkHours(totalHours / (double) unit)
+                .overtimeHours(overtimeHours / (double) unit)
+                .nightHours(nightHours / (double) unit)
+                .holidayHours((holidayUnder8 + holidayOver8) / (double) unit)
+                .basePay(basePay)
+                .overtimePay(overtimePay)
+                .nightPay(nightPay)
+                .holidayPay(holidayPay)
+                .weeklyHolidayPay(weeklyHolidayPay)
+                .totalPay(totalPay)
+                .build();
+    }
+
+    private long[] toSortedIntervals(PackedPayrollRequest request, MonthCalendar calendar) {
+        int unit = request.unitsPerHour();
+        long[] intervals = new long[request.recordCount()];
+        int count = 0;
+        for (int r = 0; r < intervals.length; r++) {
+            int start = request.start(r);
+            int end = request.end(r);
+            calendar.checkHourOffset((end + unit - 1) / unit);
+            if (start < end) {
+                intervals[count++] = WorkIntervals.of(start, end);
+            }
+        }
+        Arrays.sort(intervals, 0, count);
+        return count == intervals.length ? intervals : Arrays.copyOf(intervals, count);
+    }
+}
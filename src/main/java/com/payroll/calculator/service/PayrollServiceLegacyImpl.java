@@ -1,19 +1,18 @@
 package com.payroll.calculator.service;
 
-import com.payroll.calculator.dto.PayrollRequest;
+import com.payroll.calculator.calendar.MonthCalendar;
+import com.payroll.calculator.calendar.MonthCalendarCache;
+import com.payroll.calculator.dto.PackedPayrollRequest;
 import com.payroll.calculator.dto.PayrollResponse;
-import com.payroll.calculator.dto.WorkRecordRequest;
-import lombok.extern.slf4j.Slf4j;
+import com.payroll.calculator.money.PayRates;
 
-import java.time.DayOfWeek;
-import java.time.LocalDate;
-import java.time.temporal.WeekFields;
 import java.util.*;
 
 /**
  * 행 단위 계산 방식
+ * - 요일/주차는 공유 월 달력 사용 (요청 간 상태를 두지 않아 스레드 안전)
+ * - 근무 기록은 요청의 오프셋 배열에서 (일, 시) 로 바로 풀어 쓰며 기록별 배열을 만들지 않는다
  */
-@Slf4j
 public class PayrollServiceLegacyImpl implements PayrollService {
 
     private static final int DAILY_LIMIT = 8;
@@ -22,35 +21,49 @@ public class PayrollServiceLegacyImpl implements PayrollService {
     private static final int NIGHT_START = 22;
     private static final int NIGHT_END = 6;
 
-    private int year;
-    private int month;
+    private final MonthCalendarCache calendars;
+    private final PayRates rates;
+
+    /**
+     * 테스트/벤치마크용 - 공휴일 설정 없이 일요일만 휴일로 보는 {@link MonthCalendarCache#shared()} 를 쓴다
+     */
+    public PayrollServiceLegacyImpl() {
+        this(MonthCalendarCache.shared());
+    }
+
+    public PayrollServiceLegacyImpl(MonthCalendarCache calendars) {
+        this(calendars, PayRates.standard());
+    }
+
+    public PayrollServiceLegacyImpl(MonthCalendarCache calendars, PayRates rates) {
+        this.calendars = calendars;
+        this.rates = rates;
+    }
 
     @Override
-    public PayrollResponse calculate(PayrollRequest request) {
-        this.year = request.getYear();
-        this.month = request.getMonth();
+    public PayrollResponse calculate(PackedPayrollRequest request) {
+        MonthCalendar calendar = calendars.get(request.getYear(), request.getMonth());
         int wage = request.getWage();
 
-        List<int[]> works = toList(request.getRecords());
+        checkEndOffsets(request, calendar);
 
-        Map<Integer, Integer> dailyHoursMap = buildDailyHoursMap(works);
+        Map<Integer, Integer> dailyHoursMap = buildDailyHoursMap(request);
 
-        int totalHours = calculateTotalHours(works);
+        int totalHours = calculateTotalHours(request);
         int overtimeHours = calculateOvertimeHours(dailyHoursMap);
-        int nightHours = calculateNightHours(works);
-        int holidayHoursUnder8 = calculateHolidayHoursUnder8(works);
-        int holidayHoursOver8 = calculateHolidayHoursOver8(works);
-
-        long basePay = (long) totalHours * wage;
-        long overtimePay = (long) (overtimeHours * wage * 0.5);
-        long nightPay = (long) (nightHours * wage * 0.5);
-        long holidayPay = (long) (holidayHoursUnder8 * wage * 0.5)
-                + (long) (holidayHoursOver8 * wage * 1.0);
-        long weeklyHolidayPay = calculateWeeklyHolidayPay(works, wage);
+        int nightHours = calculateNightHours(request);
+        Map<Integer, Integer> holidayHoursMap = buildHolidayHoursMap(request, calendar);
+        int holidayHoursUnder8 = calculateHolidayHoursUnder8(holidayHoursMap);
+        int holidayHoursOver8 = calculateHolidayHoursOver8(holidayHoursMap);
+
+        long basePay = rates.pay(totalHours, wage, PayRates.BASE);
+        long overtimePay = rates.pay(overtimeHours, wage, PayRates.OVERTIME);
+        long nightPay = rates.pay(nightHours, wage, PayRates.NIGHT);
+        long holidayPay = rates.pay(holidayHoursUnder8, wage, PayRates.HOLIDAY)
+                + rates.pay(holidayHoursOver8, wage, PayRates.HOLIDAY_OVERTIME);
+        long weeklyHolidayPay = calculateWeeklyHolidayPay(request, calendar, wage);
         long totalPay = basePay + overtimePay + nightPay + holidayPay + weeklyHolidayPay;
 
-        log.info("Legacy방식 계산완료 - total: {}", totalPay);
-
         return PayrollResponse.builder()
                 .totalWorkHours(totalHours)
                 .overtimeHours(overtimeHours)
@@ -65,17 +78,18 @@ public class PayrollServiceLegacyImpl implements PayrollService {
                 .build();
     }
 
-    private List<int[]> toList(List<WorkRecordRequest> records) {
-        return records.stream()
-                .map(r -> new int[]{r.getStartDay(), r.getStartHour(), r.getEndDay(), r.getEndHour()})
-                .toList();
+    private void checkEndOffsets(PackedPayrollRequest request, MonthCalendar calendar) {
+        for (int r = 0; r < request.recordCount(); r++) {
+            calendar.checkHourOffset(request.end(r));
+        }
     }
 
     // ========== 날짜별 시간 맵 ==========
-    private Map<Integer, Integer> buildDailyHoursMap(List<int[]> works) {
+    private Map<Integer, Integer> buildDailyHoursMap(PackedPayrollRequest works) {
         Map<Integer, Integer> map = new HashMap<>();
-        for (int[] work : works) {
-            int startDay = work[0], startHour = work[1], endDay = work[2], endHour = work[3];
+        for (int r = 0; r < works.recordCount(); r++) {
+            int startDay = works.startDay(r), startHour = works.startHour(r);
+            int endDay = works.endDay(r), endHour = works.endHour(r);
 
             if (startDay == endDay) {
                 map.merge(startDay, endHour - startHour, Integer::sum);
@@ -91,10 +105,11 @@ public class PayrollServiceLegacyImpl implements PayrollService {
     }
 
     // ========== 총 근무시간 ==========
-    private int calculateTotalHours(List<int[]> works) {
+    private int calculateTotalHours(PackedPayrollRequest works) {
         int total = 0;
-        for (int[] work : works) {
-            int startDay = work[0], startHour = work[1], endDay = work[2], endHour = work[3];
+        for (int r = 0; r < works.recordCount(); r++) {
+            int startDay = works.startDay(r), startHour = works.startHour(r);
+            int endDay = works.endDay(r), endHour = works.endHour(r);
             if (startDay == endDay) {
                 total += endHour - startHour;
             } else {
@@ -112,10 +127,11 @@ public class PayrollServiceLegacyImpl implements PayrollService {
     }
 
     // ========== 야간근로 (22시~06시) ==========
-    private int calculateNightHours(List<int[]> works) {
+    private int calculateNightHours(PackedPayrollRequest works) {
         int total = 0;
-        for (int[] work : works) {
-            int startDay = work[0], startHour = work[1], endDay = work[2], endHour = work[3];
+        for (int r = 0; r < works.recordCount(); r++) {
+            int startDay = works.startDay(r), startHour = works.startHour(r);
+            int endDay = works.endDay(r), endHour = works.endHour(r);
 
             if (startDay == endDay) {
                 total += nightHoursInRange(startHour, endHour);
@@ -138,69 +154,66 @@ public class PayrollServiceLegacyImpl implements PayrollService {
     }
 
     // ========== 휴일근로 (일요일) ==========
-    private Map<Integer, Integer> buildHolidayHoursMap(List<int[]> works) {
+    private Map<Integer, Integer> buildHolidayHoursMap(PackedPayrollRequest works, MonthCalendar calendar) {
         Map<Integer, Integer> map = new HashMap<>();
-        for (int[] work : works) {
-            int startDay = work[0], startHour = work[1], endDay = work[2], endHour = work[3];
+        for (int r = 0; r < works.recordCount(); r++) {
+            int startDay = works.startDay(r), startHour = works.startHour(r);
+            int endDay = works.endDay(r), endHour = works.endHour(r);
 
             if (startDay == endDay) {
-                if (isSunday(startDay)) map.merge(startDay, endHour - startHour, Integer::sum);
+                if (calendar.isHoliday(startDay)) map.merge(startDay, endHour - startHour, Integer::sum);
             } else {
-                if (isSunday(startDay)) map.merge(startDay, 24 - startHour, Integer::sum);
+                if (calendar.isHoliday(startDay)) map.merge(startDay, 24 - startHour, Integer::sum);
                 for (int d = startDay + 1; d < endDay; d++) {
-                    if (isSunday(d)) map.merge(d, 24, Integer::sum);
+                    if (calendar.isHoliday(d)) map.merge(d, 24, Integer::sum);
                 }
-                if (isSunday(endDay) && endHour > 0) map.merge(endDay, endHour, Integer::sum);
+                if (endHour > 0 && calendar.isHoliday(endDay)) map.merge(endDay, endHour, Integer::sum);
             }
         }
         return map;
     }
 
-    private int calculateHolidayHoursUnder8(List<int[]> works) {
-        return buildHolidayHoursMap(works).values().stream()
+    private int calculateHolidayHoursUnder8(Map<Integer, Integer> holidayHoursMap) {
+        return holidayHoursMap.values().stream()
                 .mapToInt(h -> Math.min(h, DAILY_LIMIT))
                 .sum();
     }
 
-    private int calculateHolidayHoursOver8(List<int[]> works) {
-        return buildHolidayHoursMap(works).values().stream()
+    private int calculateHolidayHoursOver8(Map<Integer, Integer> holidayHoursMap) {
+        return holidayHoursMap.values().stream()
                 .mapToInt(h -> Math.max(0, h - DAILY_LIMIT))
                 .sum();
     }
 
-    private boolean isSunday(int day) {
-        return LocalDate.of(year, month, day).getDayOfWeek() == DayOfWeek.SUNDAY;
-    }
-
-    // ========== 주휴수당 (ISO 주차 기반, 해당 월 내 근무만 계산) ==========
-    private long calculateWeeklyHolidayPay(List<int[]> works, int wage) {
-        // 해당 월의 모든 날짜를 ISO 주차별로 그룹핑
+    // ========== 주휴수당 (월요일 시작 주차 기반, 해당 월 내 근무만 계산) ==========
+    private long calculateWeeklyHolidayPay(PackedPayrollRequest works, MonthCalendar calendar, int wage) {
+        // 해당 월의 모든 날짜를 주차별로 그룹핑
         Map<Integer, Integer> weeklyHoursMap = new HashMap<>();
 
-        for (int[] work : works) {
-            int startDay = work[0], startHour = work[1], endDay = work[2], endHour = work[3];
+        // 해당 월 내의 날짜만 처리 (월 경계 넘어가는 건 무시)
+        int lastDayOfMonth = calendar.lengthOfMonth();
 
-            // 해당 월 내의 날짜만 처리 (월 경계 넘어가는 건 무시)
-            int lastDayOfMonth = LocalDate.of(year, month, 1).lengthOfMonth();
-            int actualEndDay = Math.min(endDay, lastDayOfMonth);
+        for (int r = 0; r < works.recordCount(); r++) {
+            int startDay = works.startDay(r), startHour = works.startHour(r);
+            int endDay = works.endDay(r), endHour = works.endHour(r);
 
             if (startDay == endDay) {
-                int weekNum = getWeekNumber(startDay);
+                int weekNum = calendar.weekOf(startDay);
                 weeklyHoursMap.merge(weekNum, endHour - startHour, Integer::sum);
             } else {
                 // 첫날
-                int weekNum = getWeekNumber(startDay);
+                int weekNum = calendar.weekOf(startDay);
                 weeklyHoursMap.merge(weekNum, 24 - startHour, Integer::sum);
 
-                // 중간 날들
-                for (int d = startDay + 1; d < actualEndDay; d++) {
-                    weekNum = getWeekNumber(d);
+                // 중간 날들 (다음 달 1일 0시 종료면 말일까지)
+                for (int d = startDay + 1; d < endDay; d++) {
+                    weekNum = calendar.weekOf(d);
                     weeklyHoursMap.merge(weekNum, 24, Integer::sum);
                 }
 
                 // 마지막 날 (월 내에 있을 때만)
                 if (endDay <= lastDayOfMonth && endHour > 0) {
-                    weekNum = getWeekNumber(endDay);
+                    weekNum = calendar.weekOf(endDay);
                     weeklyHoursMap.merge(weekNum, endHour, Integer::sum);
                 }
             }
@@ -211,17 +224,8 @@ public class PayrollServiceLegacyImpl implements PayrollService {
                 .filter(e -> e.getValue() >= WEEKLY_THRESHOLD)
                 .mapToLong(e -> {
                     int hours = Math.min(e.getValue(), WEEKLY_LIMIT);
-                    return (long) ((hours / (double) WEEKLY_LIMIT) * 8 * wage);
+                    return rates.pay(hours, wage, PayRates.WEEKLY_HOLIDAY);
                 })
                 .sum();
     }
-
-    /**
-     * ISO 주차 번호 반환 (월요일 시작 기준)
-     */
-    private int getWeekNumber(int day) {
-        LocalDate date = LocalDate.of(year, month, day);
-        WeekFields weekFields = WeekFields.of(Locale.KOREA); // 월요일 시작
-        return date.get(weekFields.weekOfMonth());
-    }
 }
\ No newline at end of file
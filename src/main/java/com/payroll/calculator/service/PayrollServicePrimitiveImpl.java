@@ -0,0 +1,119 @@
+package com.payroll.calculator.service;
+
+import com.payroll.calculator.calendar.MonthCalendar;
+import com.payroll.calculator.calendar.MonthCalendarCache;
+import com.payroll.calculator.dto.PackedPayrollRequest;
+import com.payroll.calculator.dto.PayrollResponse;
+import com.payroll.calculator.money.PayRates;
+
+import java.util.Arrays;
+
+/**
+ * 원시 타입 타임라인 방식
+ * - 월 달력(1일의 요일, 월 길이, 휴일 마스크)은 공유 캐시에서 조회
+ * - 시간 분류는 int 연산과 비트 마스크만 사용하여 시간당 객체 생성이 없다
+ * - 주차는 월요일 시작 기준
+ */
+public class PayrollServicePrimitiveImpl implements PayrollService {
+
+    private static final int HOURS_PER_DAY = MonthCalendar.HOURS_PER_DAY;
+    private static final int DAYS_PER_WEEK = MonthCalendar.DAYS_PER_WEEK;
+    private static final int DAILY_LIMIT = 8;
+    private static final int WEEKLY_LIMIT = 40;
+    private static final int WEEKLY_THRESHOLD = 15;
+
+    // 스레드별 누적 배열 [0, 31): 일별 근무시간, [31, 37): 주차별 근무시간
+    private static final int WEEK_OFFSET = MonthCalendar.MAX_DAYS;
+    private static final int SCRATCH_SIZE = WEEK_OFFSET + MonthCalendar.MAX_WEEKS;
+    private static final ThreadLocal<int[]> SCRATCH = ThreadLocal.withInitial(() -> new int[SCRATCH_SIZE]);
+
+    private final MonthCalendarCache calendars;
+    private final PayRates rates;
+
+    /**
+     * 테스트/벤치마크용 - 공휴일 설정 없이 일요일만 휴일로 보는 {@link MonthCalendarCache#shared()} 를 쓴다
+     */
+    public PayrollServicePrimitiveImpl() {
+        this(MonthCalendarCache.shared());
+    }
+
+    public PayrollServicePrimitiveImpl(MonthCalendarCache calendars) {
+        this(calendars, PayRates.standard());
+    }
+
+    public PayrollServicePrimitiveImpl(MonthCalendarCache calendars, PayRates rates) {
+        this.calendars = calendars;
+        this.rates = rates;
+    }
+
+    @Override
+    public PayrollResponse calculate(PackedPayrollRequest request) {
+        int wage = request.getWage();
+
+        // 1. 월 달력 - 공유 캐시
+        MonthCalendar calendar = calendars.get(request.getYear(), request.getMonth());
+        int lengthOfMonth = calendar.lengthOfMonth();
+        int firstDayOfWeek = calendar.firstDayOfWeek();
+        int holidayMask = calendar.holidayMask();
+
+        int[] counters = SCRATCH.get();
+        Arrays.fill(counters, 0);
+
+        // 2. 시간 분류 - 일별/주차별 누적과 야간만 시간 단위로 판단
+        int nightHours = 0;
+        for (int r = 0, size = request.recordCount(); r < size; r++) {
+            int start = request.start(r);
+            int end = calendar.checkHourOffset(request.end(r));
+
+            for (int i = start; i < end; i++) {
+                int dayIndex = i / HOURS_PER_DAY;
+                int hour = i - dayIndex * HOURS_PER_DAY;
+                counters[dayIndex]++;
+                counters[WEEK_OFFSET + (dayIndex + firstDayOfWeek) / DAYS_PER_WEEK]++;
+                nightHours += (MonthCalendar.NIGHT_HOUR_MASK >>> hour) & 1;
+            }
+        }
+
+        // 3. 일 단위 집계 - 연장/휴일
+        int totalHours = 0, overtimeHours = 0, holidayUnder8 = 0, holidayOver8 = 0;
+        for (int dayIndex = 0; dayIndex < lengthOfMonth; dayIndex++) {
+            int hours = counters[dayIndex];
+            int over = Math.max(0, hours - DAILY_LIMIT);
+            totalHours += hours;
+            overtimeHours += over;
+            if ((holidayMask >>> dayIndex & 1) != 0) {
+                holidayUnder8 += hours - over;
+                holidayOver8 += over;
+            }
+        }
+
+        // 4. 주 단위 집계 - 주휴수당
+        long weeklyHolidayPay = 0;
+        for (int week = WEEK_OFFSET; week < SCRATCH_SIZE; week++) {
+            int hours = counters[week];
+            if (hours >= WEEKLY_THRESHOLD) {
+                weeklyHolidayPay += rates.pay(Math.min(hours, WEEKLY_LIMIT), wage, PayRates.WEEKLY_HOLIDAY);
+            }
+        }
+
+        long basePay = rates.pay(totalHours, wage, PayRates.BASE);
+        long overtimePay = rates.pay(overtimeHours, wage, PayRates.OVERTIME);
+        long nightPay = rates.pay(nightHours, wage, PayRates.NIGHT);
+        long holidayPay = rates.pay(holidayUnder8, wage, PayRates.HOLIDAY)
+                + rates.pay(holidayOver8, wage, PayRates.HOLIDAY_OVERTIME);
+        long totalPay = basePay + overtimePay + nightPay + holidayPay + weeklyHolidayPay;
+
+        return PayrollResponse.builder()
+                .totalWorkHours(totalHours)
+                .overtimeHours(overtimeHours)
+                .nightHours(nightHours)
+                .holidayHours(holidayUnder8 + holidayOver8)
+                .basePay(basePay)
+                .overtimePay(overtimePay)
+                .nightPay(nightPay)
+                .holidayPay(holidayPay)
+                .weeklyHolidayPay(weeklyHolidayPay)
+                .totalPay(totalPay)
+                .build();
+    }
+}
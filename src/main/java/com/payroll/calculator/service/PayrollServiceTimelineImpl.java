@@ -1,104 +1,109 @@
 package com.payroll.calculator.service;
 
-
-import com.payroll.calculator.dto.PayrollRequest;
+import com.payroll.calculator.calendar.MonthCalendar;
+import com.payroll.calculator.calendar.MonthCalendarCache;
+import com.payroll.calculator.dto.PackedPayrollRequest;
 import com.payroll.calculator.dto.PayrollResponse;
-import com.payroll.calculator.dto.WorkRecordRequest;
-import lombok.extern.slf4j.Slf4j;
-
-import java.time.DayOfWeek;
-import java.time.LocalDate;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import com.payroll.calculator.money.PayRates;
 
 /**
  * 타임라인 배열 방식
- * - boolean[32*24] 배열로 전체 월을 표현
+ * - int[월 시간 수] 배열에 시간별 근무 기록 수를 표현 (COUNT 정책이 아니면 겹쳐도 1)
  * - 단일 스캔으로 모든 수당 계산
+ * - 휴일(일요일 + 공휴일)/주차 경계(월요일 시작)는 공유 월 달력 사용
  */
-@Slf4j
 public class PayrollServiceTimelineImpl implements PayrollService {
 
-    private static final int MAX_HOURS = 32 * 24;
     private static final int HOURS_PER_DAY = 24;
-    private static final int HOURS_PER_WEEK = 168;
     private static final int DAILY_LIMIT = 8;
     private static final int WEEKLY_LIMIT = 40;
     private static final int WEEKLY_THRESHOLD = 15;
 
+    private final MonthCalendarCache calendars;
+    private final PayRates rates;
+    private final OverlapPolicy overlapPolicy;
+
+    /**
+     * 테스트/벤치마크용 - 공휴일 설정 없이 일요일만 휴일로 보는 {@link MonthCalendarCache#shared()} 를 쓴다
+     */
+    public PayrollServiceTimelineImpl() {
+        this(MonthCalendarCache.shared());
+    }
+
+    public PayrollServiceTimelineImpl(MonthCalendarCache calendars) {
+        this(calendars, PayRates.standard());
+    }
+
+    public PayrollServiceTimelineImpl(MonthCalendarCache calendars, PayRates rates) {
+        this(calendars, rates, OverlapPolicy.MERGE);
+    }
+
+    public PayrollServiceTimelineImpl(MonthCalendarCache calendars, PayRates rates, OverlapPolicy overlapPolicy) {
+        this.calendars = calendars;
+        this.rates = rates;
+        this.overlapPolicy = overlapPolicy;
+    }
+
     @Override
-    public PayrollResponse calculate(PayrollRequest request) {
+    public PayrollResponse calculate(PackedPayrollRequest request) {
         int wage = request.getWage();
-        int year = request.getYear();
-        int month = request.getMonth();
+        MonthCalendar calendar = calendars.get(request.getYear(), request.getMonth());
 
         // 1. 타임라인 정규화
-        boolean[] timeline = new boolean[MAX_HOURS];
-        for (WorkRecordRequest record : request.getRecords()) {
-            int start = (record.getStartDay() - 1) * HOURS_PER_DAY + record.getStartHour();
-            int end = (record.getEndDay() - 1) * HOURS_PER_DAY + record.getEndHour();
+        boolean counting = overlapPolicy == OverlapPolicy.COUNT;
+        int[] timeline = new int[calendar.monthHours()];
+        for (int r = 0, size = request.recordCount(); r < size; r++) {
+            int start = calendar.checkHourOffset(request.start(r));
+            int end = calendar.checkHourOffset(request.end(r));
             for (int i = start; i < end; i++) {
-                timeline[i] = true;
+                timeline[i] = counting ? timeline[i] + 1 : 1;
             }
         }
 
-        // 2. 단일 스캔으로 수당 계산
-        long basePay = 0, overtimePay = 0, nightPay = 0, holidayPay = 0;
-        int totalHours = 0, overtimeHours = 0, nightHours = 0, holidayHours = 0;
+        // 2. 단일 스캔으로 시간 집계 (수당은 다른 엔진과 같이 시간 합계에 한 번만 곱한다)
+        int totalHours = 0, overtimeHours = 0, nightHours = 0, holidayUnder8 = 0, holidayOver8 = 0;
         int[] dailyHours = new int[32];
-        int[] dailyHolidayHours = new int[32];
 
         for (int i = 0; i < timeline.length; i++) {
-            if (!timeline[i]) continue;
+            int hours = timeline[i];
+            if (hours == 0) continue;
 
             int day = (i / HOURS_PER_DAY) + 1;
             int hour = i % HOURS_PER_DAY;
 
-            if (day > 31) break;
-
-            LocalDate date = LocalDate.of(year, month, day);
-            boolean isSunday = date.getDayOfWeek() == DayOfWeek.SUNDAY;
-
-            // 기본급
-            basePay += wage;
-            totalHours++;
-            dailyHours[day]++;
+            totalHours += hours;
+            int before = dailyHours[day];
+            dailyHours[day] += hours;
+            int overtime = Math.max(0, dailyHours[day] - Math.max(before, DAILY_LIMIT));
 
             // 야간 (22:00 ~ 06:00)
             if (hour >= 22 || hour < 6) {
-                nightPay += (long) (wage * 0.5);
-                nightHours++;
+                nightHours += hours;
             }
 
-            // 휴일 vs 연장
-            if (isSunday) {
-                dailyHolidayHours[day]++;
-                holidayHours++;
-                if (dailyHolidayHours[day] <= DAILY_LIMIT) {
-                    holidayPay += (long) (wage * 0.5);
-                } else {
-                    holidayPay += wage;
-                }
-            } else {
-                if (dailyHours[day] > DAILY_LIMIT) {
-                    overtimePay += (long) (wage * 0.5);
-                    overtimeHours++;
-                }
+            // 연장은 휴일에도 집계하고, 휴일은 8시간 이내/초과를 나눠 가산
+            overtimeHours += overtime;
+            if (calendar.isHoliday(day)) {
+                holidayOver8 += overtime;
+                holidayUnder8 += hours - overtime;
             }
         }
 
+        long basePay = rates.pay(totalHours, wage, PayRates.BASE);
+        long overtimePay = rates.pay(overtimeHours, wage, PayRates.OVERTIME);
+        long nightPay = rates.pay(nightHours, wage, PayRates.NIGHT);
+        long holidayPay = rates.pay(holidayUnder8, wage, PayRates.HOLIDAY)
+                + rates.pay(holidayOver8, wage, PayRates.HOLIDAY_OVERTIME);
+
         // 3.주휴수당
-        long weeklyHolidayPay = calculateWeeklyHolidayPay(timeline, wage);
+        long weeklyHolidayPay = calculateWeeklyHolidayPay(timeline, calendar, wage);
         long totalPay = basePay + overtimePay + nightPay + holidayPay + weeklyHolidayPay;
 
-        log.info("Timeline방식 계산완료 - total: {}", totalPay);
-
         return PayrollResponse.builder()
                 .totalWorkHours(totalHours)
                 .overtimeHours(overtimeHours)
                 .nightHours(nightHours)
-                .holidayHours(holidayHours)
+                .holidayHours(holidayUnder8 + holidayOver8)
                 .basePay(basePay)
                 .overtimePay(overtimePay)
                 .nightPay(nightPay)
@@ -108,20 +113,19 @@ public class PayrollServiceTimelineImpl implements PayrollService {
                 .build();
     }
 
-    private long calculateWeeklyHolidayPay(boolean[] timeline, int wage) {
+    private long calculateWeeklyHolidayPay(int[] timeline, MonthCalendar calendar, int wage) {
         long totalWeeklyPay = 0;
-        for (int week = 0; week < 5; week++) {
-            int weekStart = week * HOURS_PER_WEEK;
-            int weekEnd = Math.min(weekStart + HOURS_PER_WEEK, timeline.length);
+        for (int week = 0; week < calendar.weekCount(); week++) {
+            int weekStart = (calendar.weekStartDay(week) - 1) * HOURS_PER_DAY;
+            int weekEnd = (calendar.weekEndDay(week) - 1) * HOURS_PER_DAY;
             int weeklyHours = 0;
 
             for (int i = weekStart; i < weekEnd; i++) {
-                if (timeline[i]) weeklyHours++;
+                weeklyHours += timeline[i];
             }
 
             if (weeklyHours >= WEEKLY_THRESHOLD) {
-                double holidayHours = Math.min(weeklyHours, WEEKLY_LIMIT) / (double) WEEKLY_LIMIT * 8;
-                totalWeeklyPay += (long) (holidayHours * wage);
+                totalWeeklyPay += rates.pay(Math.min(weeklyHours, WEEKLY_LIMIT), wage, PayRates.WEEKLY_HOLIDAY);
             }
         }
         return totalWeeklyPay;
@@ -0,0 +1,200 @@
+package com.payroll.calculator.service;
+
+import com.payroll.calculator.calendar.MonthCalendar;
+import com.payroll.calculator.dto.PackedPayrollRequest;
+import com.payroll.calculator.dto.PayrollResponse;
+import com.payroll.calculator.exception.PayrollValidationException;
+import com.payroll.calculator.money.PayRates;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 직원 한 명의 한 달 급여 세션 - 분류된 시간 집계를 메모리에 두고 근무 기록 추가/삭제를 증분으로 반영
+ * - 시간 단위 점유 횟수로 겹침을 판단해 MERGE 는 겹친 시간을 한 번만, COUNT 는 겹친 만큼 집계한다
+ * - 기록 하나의 반영 비용은 그 기록의 길이에만 비례하고 (월 안의 다른 기록 수와 무관), 해당 일/주차 집계만 바뀐다
+ * - 금액은 조회 시 집계에서 바로 계산 (주차는 최대 6개)
+ * - 수정 요청 하나는 전부 반영되거나 전부 취소된다
+ */
+public class PayrollSession {
+
+    private static final int HOURS_PER_DAY = MonthCalendar.HOURS_PER_DAY;
+    private static final int DAILY_LIMIT = 8;
+    private static final int WEEKLY_LIMIT = 40;
+    private static final int WEEKLY_THRESHOLD = 15;
+
+    private static final int END_BITS = PackedPayrollRequest.OFFSET_BITS;
+    private static final int END_MASK = PackedPayrollRequest.OFFSET_MASK;
+
+    private final MonthCalendar calendar;
+    private final OverlapPolicy overlapPolicy;
+    private final PayRates rates;
+    private int wage;
+
+    private final int[] coverage;       // 시간별 기록 수
+    private final int[] dailyHours;     // 일별 집계 시간 (0부터)
+    private final int[] weeklyHours;    // 주차별 집계 시간
+    private final Map<Integer, Integer> records = new HashMap<>(); // (시작 << 10 | 종료) → 개수
+    private int recordCount;
+
+    private int totalHours;
+    private int nightHours;
+    private int overtimeHours;
+    private int holidayUnder8;
+    private int holidayOver8;
+
+    public PayrollSession(MonthCalendar calendar, OverlapPolicy overlapPolicy, int wage) {
+        this(calendar, overlapPolicy, PayRates.standard(), wage);
+    }
+
+    public PayrollSession(MonthCalendar calendar, OverlapPolicy overlapPolicy, PayRates rates, int wage) {
+        this.calendar = calendar;
+        this.overlapPolicy = overlapPolicy;
+        this.rates = rates;
+        this.wage = wage;
+        this.coverage = new int[calendar.monthHours()];
+        this.dailyHours = new int[calendar.lengthOfMonth()];
+        this.weeklyHours = new int[calendar.weekCount()];
+    }
+
+    /**
+     * 전체 근무 기록으로 새 세션을 만든다 - 실패하면 세션을 버리므로 되돌리지 않는다
+     */
+    public static PayrollSession of(MonthCalendar calendar, OverlapPolicy overlapPolicy, int wage, int[] records) {
+        return of(calendar, overlapPolicy, PayRates.standard(), wage, records);
+    }
+
+    public static PayrollSession of(MonthCalendar calendar, OverlapPolicy overlapPolicy, PayRates rates,
+                                    int wage, int[] records) {
+        PayrollSession session = new PayrollSession(calendar, overlapPolicy, rates, wage);
+        for (int r = 0; r < records.length; r++) {
+            session.addRecord(records[r], "records[" + r + "]");
+        }
+        return session;
+    }
+
+    /**
+     * remove 를 먼저, add 를 나중에 반영. 중간에 실패하면 이미 반영한 기록을 되돌리고 예외를 던진다
+     */
+    public synchronized PayrollResponse apply(int[] remove, int[] add, Integer newWage) {
+        int removed = 0, added = 0;
+        try {
+            for (; removed < remove.length; removed++) {
+                removeRecord(remove[removed], "remove[" + removed + "]");
+            }
+            for (; added < add.length; added++) {
+                addRecord(add[added], "add[" + added + "]");
+            }
+        } catch (RuntimeException e) {
+            while (added > 0) {
+                removeRecord(add[--added], null);
+            }
+            while (removed > 0) {
+                addRecord(remove[--removed], null);
+            }
+            throw e;
+        }
+        if (newWage != null) {
+            wage = newWage;
+        }
+        return response();
+    }
+
+    public synchronized int recordCount() {
+        return recordCount;
+    }
+
+    public synchronized PayrollResponse response() {
+        long weeklyHolidayPay = 0;
+        for (int hours : weeklyHours) {
+            if (hours >= WEEKLY_THRESHOLD) {
+                weeklyHolidayPay += rates.pay(Math.min(hours, WEEKLY_LIMIT), wage, PayRates.WEEKLY_HOLIDAY);
+            }
+        }
+
+        long basePay = rates.pay(totalHours, wage, PayRates.BASE);
+        long overtimePay = rates.pay(overtimeHours, wage, PayRates.OVERTIME);
+        long nightPay = rates.pay(nightHours, wage, PayRates.NIGHT);
+        long holidayPay = rates.pay(holidayUnder8, wage, PayRates.HOLIDAY)
+                + rates.pay(holidayOver8, wage, PayRates.HOLIDAY_OVERTIME);
+        long totalPay = basePay + overtimePay + nightPay + holidayPay + weeklyHolidayPay;
+
+        return PayrollResponse.builder()
+                .totalWorkHours(totalHours)
+                .overtimeHours(overtimeHours)
+                .nightHours(nightHours)
+                .holidayHours(holidayUnder8 + holidayOver8)
+                .basePay(basePay)
+                .overtimePay(overtimePay)
+                .nightPay(nightPay)
+                .holidayPay(holidayPay)
+                .weeklyHolidayPay(weeklyHolidayPay)
+                .totalPay(totalPay)
+                .build();
+    }
+
+    /**
+     * field 가 null 이면 되돌리기 - 검사 없이 반영
+     */
+    private void addRecord(int interval, String field) {
+        int start = interval >>> END_BITS;
+        int end = interval & END_MASK;
+        if (field != null && overlapPolicy == OverlapPolicy.REJECT) {
+            for (int hour = start; hour < end; hour++) {
+                if (coverage[hour] > 0) {
+                    throw new PayrollValidationException(field, "기존 근무 기록과 근무 시간이 겹칩니다.");
+                }
+            }
+        }
+        for (int hour = start; hour < end; hour++) {
+            if (coverage[hour]++ == 0 || overlapPolicy == OverlapPolicy.COUNT) {
+                addHour(hour, 1);
+            }
+        }
+        records.merge(interval, 1, Integer::sum);
+        recordCount++;
+    }
+
+    private void removeRecord(int interval, String field) {
+        Integer count = records.get(interval);
+        if (count == null) {
+            throw new PayrollValidationException(field, "세션에 없는 근무 기록입니다.");
+        }
+        if (count == 1) {
+            records.remove(interval);
+        } else {
+            records.put(interval, count - 1);
+        }
+        recordCount--;
+
+        int start = interval >>> END_BITS;
+        int end = interval & END_MASK;
+        for (int hour = start; hour < end; hour++) {
+            if (--coverage[hour] == 0 || overlapPolicy == OverlapPolicy.COUNT) {
+                addHour(hour, -1);
+            }
+        }
+    }
+
+    /**
+     * 한 시간을 더하거나 빼고, 그 시간이 속한 일/주차 집계만 갱신
+     */
+    private void addHour(int hour, int delta) {
+        int dayIndex = hour / HOURS_PER_DAY;
+        int before = dailyHours[dayIndex];
+        int after = before + delta;
+        dailyHours[dayIndex] = after;
+
+        totalHours += delta;
+        if (MonthCalendar.isNightHour(hour % HOURS_PER_DAY)) {
+            nightHours += delta;
+        }
+        int overtimeDelta = Math.max(0, after - DAILY_LIMIT) - Math.max(0, before - DAILY_LIMIT);
+        overtimeHours += overtimeDelta;
+        if (calendar.isHoliday(dayIndex + 1)) {
+            holidayOver8 += overtimeDelta;
+            holidayUnder8 += delta - overtimeDelta;
+        }
+        weeklyHours[calendar.weekOf(dayIndex + 1)] += delta;
+    }
+}
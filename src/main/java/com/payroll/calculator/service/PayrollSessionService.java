@@ -0,0 +1,151 @@
+package com.payroll.calculator.service;
+
+import com.payroll.calculator.calendar.MonthCalendarCache;
+import com.payroll.calculator.dto.PayrollResponse;
+import com.payroll.calculator.dto.PayrollSessionPatchRequest;
+import com.payroll.calculator.dto.PayrollSessionRequest;
+import com.payroll.calculator.dto.WorkRecordRequest;
+import com.payroll.calculator.exception.PayrollException;
+import com.payroll.calculator.exception.PayrollValidationException;
+import com.payroll.calculator.money.PayRates;
+import com.payroll.calculator.validation.PayrollRequestValidator;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * (직원, 월) 별 급여 세션 보관소
+ * - PUT 으로 전체 근무 기록을 한 번 등록하고, 이후 수정은 PATCH 로 추가/삭제분만 보내 {@link PayrollSession} 에 증분 반영
+ * - 최대 개수를 넘으면 가장 오래 쓰이지 않은 세션부터 제거 (LRU), 마지막 사용 후 TTL 이 지난 세션은 조회 시 제거
+ * - 없는(제거된) 세션의 PATCH 는 404 - 빈 세션에 증분을 쌓아 잘못된 금액을 내지 않도록 다시 PUT 을 요구한다
+ */
+public class PayrollSessionService {
+
+    private final MonthCalendarCache calendars;
+    private final PayrollRequestValidator validator;
+    private final OverlapPolicy overlapPolicy;
+    private final PayRates rates;
+    private final int maxSessions;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+    private final Map<Key, Entry> sessions;
+
+    public PayrollSessionService(MonthCalendarCache calendars, PayrollRequestValidator validator,
+                                 OverlapPolicy overlapPolicy, int maxSessions, Duration ttl) {
+        this(calendars, validator, overlapPolicy, PayRates.standard(), maxSessions, ttl);
+    }
+
+    public PayrollSessionService(MonthCalendarCache calendars, PayrollRequestValidator validator,
+                                 OverlapPolicy overlapPolicy, PayRates rates, int maxSessions, Duration ttl) {
+        this(calendars, validator, overlapPolicy, rates, maxSessions, ttl, System::nanoTime);
+    }
+
+    PayrollSessionService(MonthCalendarCache calendars, PayrollRequestValidator validator, OverlapPolicy overlapPolicy,
+                          PayRates rates, int maxSessions, Duration ttl, LongSupplier nanoClock) {
+        if (maxSessions < 1) {
+            throw new IllegalArgumentException("maxSessions must be positive: " + maxSessions);
+        }
+        this.calendars = calendars;
+        this.validator = validator;
+        this.overlapPolicy = overlapPolicy;
+        this.rates = rates;
+        this.maxSessions = maxSessions;
+        this.ttlNanos = ttl.toNanos();
+        this.nanoClock = nanoClock;
+        this.sessions = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > PayrollSessionService.this.maxSessions;
+            }
+        };
+    }
+
+    /**
+     * 세션 생성 또는 교체 - 해당 월의 전체 근무 기록으로 집계를 새로 만든다
+     */
+    public PayrollResponse put(String employeeId, String period, PayrollSessionRequest request) {
+        YearMonth month = parsePeriod(period);
+        int[] records = validator.checkRecords("records", orEmpty(request.getRecords()), month.getYear(), month.getMonthValue());
+        PayrollSession session = PayrollSession.of(calendars.get(month.getYear(), month.getMonthValue()),
+                overlapPolicy, rates, request.getWage(), records);
+
+        synchronized (sessions) {
+            sessions.put(new Key(employeeId, month), new Entry(session, nanoClock.getAsLong()));
+        }
+        return session.response();
+    }
+
+    /**
+     * 추가/삭제분만 반영 - 비용은 바뀐 기록의 길이에만 비례
+     */
+    public PayrollResponse patch(String employeeId, String period, PayrollSessionPatchRequest request) {
+        YearMonth month = parsePeriod(period);
+        int[] remove = validator.checkRecords("remove", orEmpty(request.getRemove()), month.getYear(), month.getMonthValue());
+        int[] add = validator.checkRecords("add", orEmpty(request.getAdd()), month.getYear(), month.getMonthValue());
+        return find(employeeId, month).apply(remove, add, request.getWage());
+    }
+
+    public PayrollResponse get(String employeeId, String period) {
+        return find(employeeId, parsePeriod(period)).response();
+    }
+
+    public void delete(String employeeId, String period) {
+        Key key = new Key(employeeId, parsePeriod(period));
+        synchronized (sessions) {
+            sessions.remove(key);
+        }
+    }
+
+    public int size() {
+        synchronized (sessions) {
+            return sessions.size();
+        }
+    }
+
+    private PayrollSession find(String employeeId, YearMonth month) {
+        Key key = new Key(employeeId, month);
+        long now = nanoClock.getAsLong();
+        synchronized (sessions) {
+            Entry entry = sessions.get(key);
+            if (entry != null && now - entry.accessedAt < ttlNanos) {
+                entry.accessedAt = now;
+                return entry.session;
+            }
+            if (entry != null) {
+                sessions.remove(key);
+            }
+        }
+        throw new PayrollException(404, "급여 세션이 없습니다. 전체 근무 기록을 PUT 으로 먼저 등록하세요: "
+                + employeeId + "/" + month);
+    }
+
+    private static YearMonth parsePeriod(String period) {
+        try {
+            return YearMonth.parse(period);
+        } catch (DateTimeParseException e) {
+            throw new PayrollValidationException("period", "yyyy-MM 형식이어야 합니다.");
+        }
+    }
+
+    private static List<WorkRecordRequest> orEmpty(List<WorkRecordRequest> records) {
+        return records == null ? List.of() : records;
+    }
+
+    private record Key(String employeeId, YearMonth month) {
+    }
+
+    private static final class Entry {
+        private final PayrollSession session;
+        private long accessedAt;
+
+        private Entry(PayrollSession session, long accessedAt) {
+            this.session = session;
+            this.accessedAt = accessedAt;
+        }
+    }
+}
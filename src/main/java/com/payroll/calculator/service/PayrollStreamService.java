@@ -0,0 +1,114 @@
+package com.payroll.calculator.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.payroll.calculator.config.PayrollBatchProperties;
+import com.payroll.calculator.dto.ApiResponse;
+import com.payroll.calculator.dto.PayrollBatchItemResponse;
+import com.payroll.calculator.dto.PayrollRequest;
+import com.payroll.calculator.dto.PayrollResponse;
+import com.payroll.calculator.exception.PayrollException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * NDJSON 스트리밍 계산
+ * - 한 줄에 PayrollRequest 하나를 읽고, 입력 순서대로 한 줄에 ApiResponse&lt;PayrollResponse&gt; 하나를 쓴다
+ * - 동시에 계산 중인 건수를 창(window) 크기로 제한해 전체 건수와 무관하게 메모리 사용량이 일정하다
+ */
+@Service
+public class PayrollStreamService {
+
+    private static final byte NEW_LINE = '\n';
+
+    private final PayrollBatchService batchService;
+    private final ExecutorService executor;
+    private final ObjectReader requestReader;
+    private final ObjectWriter responseWriter;
+    private final int window;
+
+    public PayrollStreamService(PayrollBatchService batchService,
+                                @Qualifier("payrollBatchExecutor") ExecutorService executor,
+                                ObjectMapper objectMapper,
+                                PayrollBatchProperties properties) {
+        this.batchService = batchService;
+        this.executor = executor;
+        this.requestReader = objectMapper.readerFor(PayrollRequest.class);
+        this.responseWriter = objectMapper.writerFor(ApiResponse.class);
+        this.window = properties.effectiveParallelism() * 2;
+    }
+
+    /**
+     * @return 처리한 줄 수 (빈 줄 제외)
+     */
+    public int calculate(InputStream in, OutputStream out) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        Deque<Future<PayrollBatchItemResponse>> pending = new ArrayDeque<>(window);
+        int index = 0;
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) continue;
+
+            if (pending.size() >= window) {
+                write(out, pending.poll());
+            }
+            pending.add(submit(index++, line));
+        }
+        while (!pending.isEmpty()) {
+            write(out, pending.poll());
+        }
+        return index;
+    }
+
+    private Future<PayrollBatchItemResponse> submit(int index, String line) {
+        PayrollRequest request;
+        try {
+            request = requestReader.readValue(line);
+        } catch (JsonProcessingException e) {
+            return CompletableFuture.completedFuture(
+                    PayrollBatchItemResponse.failure(index, 400, "잘못된 JSON 형식입니다: " + e.getOriginalMessage()));
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return executor.submit(() -> batchService.calculateOne(index, request));
+    }
+
+    private void write(OutputStream out, Future<PayrollBatchItemResponse> future) throws IOException {
+        PayrollBatchItemResponse item = await(future);
+        ApiResponse<PayrollResponse> line = item.isSuccess()
+                ? ApiResponse.ok(item.getResult())
+                : ApiResponse.error(item.getStatus(), item.getMessage());
+
+        out.write(responseWriter.writeValueAsBytes(line));
+        out.write(NEW_LINE);
+        out.flush();
+    }
+
+    private PayrollBatchItemResponse await(Future<PayrollBatchItemResponse> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PayrollException(503, "스트리밍 계산이 중단되었습니다");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException io) throw io;
+            throw new IllegalStateException("스트리밍 계산 실패", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.payroll.calculator.service;
+
+import com.payroll.calculator.dto.PackedPayrollRequest;
+import com.payroll.calculator.dto.PayrollResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 기본 엔진 결과로 응답하고, 같은 요청을 후보 엔진으로 비동기 계산해 비교하는 PayrollService
+ * - 응답 지연에는 영향이 없고, 실행기 큐가 가득 차면 비교를 건너뛴다
+ * - payroll.shadow.comparisons{candidate, result}: match, mismatch, failure, skipped
+ * - 후보 엔진 지연 시간은 후보 엔진의 payroll.calculation{engine} 에 기본 엔진과 나란히 기록된다
+ */
+@Slf4j
+public class ShadowPayrollService implements PayrollService {
+
+    private final PayrollService primary;
+    private final PayrollService candidate;
+    private final String candidateEngine;
+    private final double samplingRate;
+    private final Executor executor;
+    private final Counter match;
+    private final Counter mismatch;
+    private final Counter failure;
+    private final Counter skipped;
+
+    public ShadowPayrollService(PayrollService primary, PayrollService candidate, String candidateEngine,
+                                double samplingRate, Executor executor, MeterRegistry registry) {
+        this.primary = primary;
+        this.candidate = candidate;
+        this.candidateEngine = candidateEngine;
+        this.samplingRate = samplingRate;
+        this.executor = executor;
+        this.match = counter(candidateEngine, "match", registry);
+        this.mismatch = counter(candidateEngine, "mismatch", registry);
+        this.failure = counter(candidateEngine, "failure", registry);
+        this.skipped = counter(candidateEngine, "skipped", registry);
+    }
+
+    @Override
+    public PayrollResponse calculate(PackedPayrollRequest request) {
+        PayrollResponse response = primary.calculate(request);
+        if (ThreadLocalRandom.current().nextDouble() < samplingRate) {
+            try {
+                executor.execute(() -> compare(request, response));
+            } catch (RejectedExecutionException e) {
+                skipped.increment();
+            }
+        }
+        return response;
+    }
+
+    private void compare(PackedPayrollRequest request, PayrollResponse expected) {
+        PayrollResponse actual;
+        try {
+            actual = candidate.calculate(request);
+        } catch (RuntimeException e) {
+            failure.increment();
+            log.warn("섀도 엔진 계산 실패 - engine: {}, period: {}-{}, records: {}", candidateEngine,
+                    request.getYear(), request.getMonth(), request.recordCount(), e);
+            return;
+        }
+        if (expected.equals(actual)) {
+            match.increment();
+        } else {
+            mismatch.increment();
+            log.warn("섀도 엔진 결과 불일치 - engine: {}, period: {}-{}, records: {}, expected: {}, actual: {}",
+                    candidateEngine, request.getYear(), request.getMonth(), request.recordCount(), expected, actual);
+        }
+    }
+
+    private static Counter counter(String candidateEngine, String result, MeterRegistry registry) {
+        return Counter.builder("payroll.shadow.comparisons")
+                .description("섀도 엔진 결과 비교 수")
+                .tag("candidate", candidateEngine)
+                .tag("result", result)
+                .register(registry);
+    }
+}
@@ -0,0 +1,146 @@
+package com.payroll.calculator.service;
+
+import com.payroll.calculator.exception.PayrollValidationException;
+
+import java.util.Arrays;
+
+/**
+ * 근무 구간 산술 공통 - 월 단위({@link PayrollServiceIntervalImpl}, {@link IntervalNormalizer})와 급여 기간({@link PayPeriodService})이 함께 쓴다
+ * - 구간은 기준일 0시부터의 오프셋 (시작 << 32 | 종료) long 이라 오프셋 단위/범위와 관계없이 정렬만으로 시작, 종료 순이 된다
+ * - 오프셋 단위는 시간(unit = 1) 또는 분(unit = 60)
+ * - 총/야간 시간은 닫힌 식, 일별 시간은 첫날/마지막날 부분 + 중간 날 차분 배열로 누적하므로 비용은 구간 수와 일수에만 비례한다
+ * - 누적은 구간마다 더하기만 하므로 병합하지 않고 넘기면 겹친 시간이 겹친 만큼 집계된다 (COUNT)
+ */
+final class WorkIntervals {
+
+    private static final int HOURS_PER_DAY = 24;
+    private static final int NIGHT_END = 6;
+    private static final int NIGHT_START = 22;
+    private static final int NIGHT_HOURS_PER_DAY = NIGHT_END + (HOURS_PER_DAY - NIGHT_START);
+
+    private WorkIntervals() {
+    }
+
+    static long of(int start, int end) {
+        return (long) start << 32 | end;
+    }
+
+    static int start(long interval) {
+        return (int) (interval >>> 32);
+    }
+
+    static int end(long interval) {
+        return (int) interval;
+    }
+
+    /**
+     * 정렬된 구간 중 겹치거나 맞닿은 구간을 합치고 병합 후 개수를 반환 (배열 앞쪽에 덮어씀)
+     */
+    static int merge(long[] intervals, int count) {
+        if (count == 0) return 0;
+        int merged = 0;
+        int start = start(intervals[0]);
+        int end = end(intervals[0]);
+        for (int i = 1; i < count; i++) {
+            int nextStart = start(intervals[i]);
+            int nextEnd = end(intervals[i]);
+            if (nextStart <= end) {
+                end = Math.max(end, nextEnd);
+            } else {
+                intervals[merged++] = of(start, end);
+                start = nextStart;
+                end = nextEnd;
+            }
+        }
+        intervals[merged++] = of(start, end);
+        return merged;
+    }
+
+    /**
+     * 겹침 보고용 정렬 키: 시작 | 종료(offsetBits) | 기록 번호(나머지 하위 비트)
+     * - 시작이 부호 비트까지 쓸 수 있어 부호 비트를 뒤집어 부호 없는 순서로 정렬되게 한다
+     * - 기록 번호는 64 - 2 * offsetBits 비트 안이어야 한다 (분 단위 월 요청 32비트, 분 단위 급여 기간 24비트)
+     */
+    static long overlapKey(int start, int end, int index, int offsetBits) {
+        int indexBits = Long.SIZE - 2 * offsetBits;
+        return ((long) start << (indexBits + offsetBits) | (long) end << indexBits | index) ^ Long.MIN_VALUE;
+    }
+
+    /**
+     * {@link #overlapKey} 키 count 개를 정렬해 겹치는 두 기록이 있으면 뒤 번호 기록을 필드로 PayrollValidationException
+     */
+    static void rejectOverlaps(long[] keys, int count, int offsetBits) {
+        int indexBits = Long.SIZE - 2 * offsetBits;
+        long offsetMask = (1L << offsetBits) - 1;
+        long indexMask = (1L << indexBits) - 1;
+        Arrays.sort(keys, 0, count);
+
+        long previousEnd = -1;
+        int previousIndex = -1;
+        for (int i = 0; i < count; i++) {
+            long key = keys[i] ^ Long.MIN_VALUE;
+            long start = key >>> (indexBits + offsetBits);
+            long end = key >>> indexBits & offsetMask;
+            int index = (int) (key & indexMask);
+            if (start < previousEnd) {
+                throw new PayrollValidationException("records[" + Math.max(index, previousIndex) + "]",
+                        "records[" + Math.min(index, previousIndex) + "] 와 근무 시간이 겹칩니다.");
+            }
+            if (end > previousEnd) {
+                previousEnd = end;
+                previousIndex = index;
+            }
+        }
+    }
+
+    /**
+     * 구간 count 개의 총/야간/일별 시간 (모두 unit 단위). days 는 기준일부터의 일수
+     */
+    static Totals accumulate(long[] intervals, int count, int days, int unit) {
+        int unitsPerDay = HOURS_PER_DAY * unit;
+        int total = 0, night = 0;
+        int[] daily = new int[days + 1];
+        int[] fullDays = new int[days + 1];
+        for (int i = 0; i < count; i++) {
+            int start = start(intervals[i]);
+            int end = end(intervals[i]);
+            total += end - start;
+            night += nightBefore(end, unit) - nightBefore(start, unit);
+
+            int startDay = start / unitsPerDay;
+            int endDay = end / unitsPerDay;
+            if (startDay == endDay) {
+                daily[startDay] += end - start;
+            } else {
+                daily[startDay] += unitsPerDay - start % unitsPerDay;
+                fullDays[startDay + 1]++;
+                fullDays[endDay]--;
+                daily[endDay] += end % unitsPerDay;
+            }
+        }
+
+        int fullDayRun = 0;
+        for (int day = 0; day < days; day++) {
+            fullDayRun += fullDays[day];
+            daily[day] += fullDayRun * unitsPerDay;
+        }
+        return new Totals(total, night, daily);
+    }
+
+    /**
+     * 기준일 0시부터 offset 직전까지의 야간 시간 수 (offset 과 결과 모두 unit 단위)
+     */
+    static int nightBefore(int offset, int unit) {
+        int unitsPerDay = HOURS_PER_DAY * unit;
+        int time = offset % unitsPerDay;
+        return (offset / unitsPerDay) * NIGHT_HOURS_PER_DAY * unit
+                + Math.min(time, NIGHT_END * unit)
+                + Math.max(0, time - NIGHT_START * unit);
+    }
+
+    /**
+     * daily[d] 는 기준일부터 d 번째 날의 시간 (마지막 원소는 기간 다음 날 0시 종료용 여분)
+     */
+    record Totals(int total, int night, int[] daily) {
+    }
+}
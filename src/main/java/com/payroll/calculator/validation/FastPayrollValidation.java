@@ -0,0 +1,17 @@
+package com.payroll.calculator.validation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * @RequestBody 의 PayrollRequest / PackedPayrollRequest 를 Bean Validation 대신
+ * {@link PayrollRequestValidator} 로 검증한다 (엔드포인트별 선택)
+ */
+@Documented
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface FastPayrollValidation {
+}
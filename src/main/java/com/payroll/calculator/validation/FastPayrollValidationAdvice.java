@@ -0,0 +1,42 @@
+package com.payroll.calculator.validation;
+
+import com.payroll.calculator.dto.PackedPayrollRequest;
+import com.payroll.calculator.dto.PayrollRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+
+import java.lang.reflect.Type;
+
+/**
+ * {@link FastPayrollValidation} 이 붙은 요청 본문을 읽은 직후 검증
+ * - 실패는 PayrollValidationException 으로 던져 GlobalExceptionHandler 가 400 으로 응답한다
+ */
+@ControllerAdvice
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class FastPayrollValidationAdvice extends RequestBodyAdviceAdapter {
+
+    private final PayrollRequestValidator validator;
+
+    @Override
+    public boolean supports(MethodParameter methodParameter, Type targetType,
+                            Class<? extends HttpMessageConverter<?>> converterType) {
+        return methodParameter.hasParameterAnnotation(FastPayrollValidation.class);
+    }
+
+    @Override
+    public Object afterBodyRead(Object body, HttpInputMessage inputMessage, MethodParameter parameter,
+                                Type targetType, Class<? extends HttpMessageConverter<?>> converterType) {
+        if (body instanceof PayrollRequest request) {
+            validator.validate(request);
+        } else if (body instanceof PackedPayrollRequest request) {
+            validator.validate(request);
+        }
+        return body;
+    }
+}
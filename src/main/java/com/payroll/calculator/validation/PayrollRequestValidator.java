@@ -0,0 +1,162 @@
+package com.payroll.calculator.validation;
+
+import com.payroll.calculator.dto.PackedPayrollRequest;
+import com.payroll.calculator.dto.PayrollRequest;
+import com.payroll.calculator.dto.WorkRecordRequest;
+import com.payroll.calculator.exception.PayrollValidationException;
+import com.payroll.calculator.service.IntervalNormalizer;
+import com.payroll.calculator.service.OverlapPolicy;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * 급여 요청 빠른 검증 - 리플렉션 없이 원시 값으로 한 번 순회
+ * - Bean Validation 과 같은 필수/범위 검사 (메시지도 같은 "필드: 사유" 형식)
+ * - 추가 규칙: 시작 < 종료, 해당 월의 일수 안 (분이 있는 요청은 분 단위로 비교)
+ * - 겹침 정책이 REJECT 일 때만 근무 기록끼리 겹치지 않는지 확인 ({@link IntervalNormalizer#rejectOverlaps})
+ */
+public class PayrollRequestValidator {
+
+    private static final int HOURS_PER_DAY = 24;
+    private static final int MINUTES_PER_HOUR = PackedPayrollRequest.MINUTES_PER_HOUR;
+    private static final int MIN_YEAR = 1;
+    private static final int MAX_YEAR = 9999;
+
+    private final OverlapPolicy overlapPolicy;
+
+    public PayrollRequestValidator(OverlapPolicy overlapPolicy) {
+        this.overlapPolicy = overlapPolicy;
+    }
+
+    public void validate(PayrollRequest request) {
+        List<WorkRecordRequest> records = request.getRecords();
+        if (records == null || records.isEmpty()) {
+            throw new PayrollValidationException("records", "근무 기록은 최소 1개 이상이어야 합니다.");
+        }
+        if (request.getWage() == null) {
+            throw new PayrollValidationException("wage", "시급은 필수입니다.");
+        }
+        if (request.getWage() < 1) {
+            throw new PayrollValidationException("wage", "시급은 1 이상이어야 합니다.");
+        }
+        if (request.getYear() == null) {
+            throw new PayrollValidationException("year", "년도는 필수입니다.");
+        }
+        if (request.getMonth() == null) {
+            throw new PayrollValidationException("month", "월은 필수입니다.");
+        }
+        check("records", records, request.getYear(), request.getMonth(), PackedPayrollRequest.hasMinutes(records));
+        if (overlapPolicy == OverlapPolicy.REJECT) {
+            IntervalNormalizer.rejectOverlaps(PackedPayrollRequest.from(request));
+        }
+    }
+
+    /**
+     * 근무 기록 목록의 필수/범위/월 길이만 확인하고 (시작 << 10 | 종료) 구간으로 돌려준다
+     * - 급여 세션처럼 기록을 나눠 받는 요청용, 오류 필드는 "{field}[i].startDay" 형식
+     * - 겹침은 확인하지 않는다 (기존 기록과 비교해야 하므로 호출하는 쪽에서 판단)
+     * - 시간 단위 집계만 하므로 0이 아닌 분은 거부한다
+     */
+    public int[] checkRecords(String field, List<WorkRecordRequest> records, int year, int month) {
+        return check(field, records, year, month, false);
+    }
+
+    /**
+     * minuteResolution 이면 (시작 << 16 | 종료) 분 단위 구간, 아니면 (시작 << 10 | 종료) 시간 단위 구간
+     */
+    private int[] check(String field, List<WorkRecordRequest> records, int year, int month, boolean minuteResolution) {
+        int unit = minuteResolution ? MINUTES_PER_HOUR : 1;
+        int offsetBits = minuteResolution ? PackedPayrollRequest.MINUTE_OFFSET_BITS : PackedPayrollRequest.OFFSET_BITS;
+        int monthHours = monthHours(year, month);
+        int[] intervals = new int[records.size()];
+        for (int r = 0; r < records.size(); r++) {
+            WorkRecordRequest record = records.get(r);
+            if (record == null) {
+                throw new PayrollValidationException(field(field, r, null), "근무 기록이 비어 있습니다.");
+            }
+            int startDay = required(record.getStartDay(), field, r, "startDay", "시작일은 필수입니다", 1, 31);
+            int startHour = required(record.getStartHour(), field, r, "startHour", "시작시간은 필수입니다", 0, 23);
+            int endDay = required(record.getEndDay(), field, r, "endDay", "종료일은 필수입니다", 1, 31);
+            int endHour = required(record.getEndHour(), field, r, "endHour", "종료시간은 필수입니다", 0, 23);
+            int startMinute = minute(record.getStartMinute(), field, r, "startMinute", minuteResolution);
+            int endMinute = minute(record.getEndMinute(), field, r, "endMinute", minuteResolution);
+            int start = ((startDay - 1) * HOURS_PER_DAY + startHour) * unit + startMinute;
+            int end = ((endDay - 1) * HOURS_PER_DAY + endHour) * unit + endMinute;
+            checkInterval(start, end, field, r, monthHours * unit, HOURS_PER_DAY * unit);
+            intervals[r] = start << offsetBits | end;
+        }
+        return intervals;
+    }
+
+    /**
+     * 바이너리 요청은 범위 검사를 디코딩 중에 마쳤으므로 월 길이, 시작 < 종료, (REJECT 면) 겹침만 확인
+     */
+    public void validate(PackedPayrollRequest request) {
+        int monthHours = monthHours(request.getYear(), request.getMonth());
+        for (int r = 0; r < request.recordCount(); r++) {
+            checkInterval(request.start(r), request.end(r), "records", r,
+                    monthHours * request.unitsPerHour(), HOURS_PER_DAY * request.unitsPerHour());
+        }
+        if (overlapPolicy == OverlapPolicy.REJECT) {
+            IntervalNormalizer.rejectOverlaps(request);
+        }
+    }
+
+    private int monthHours(int year, int month) {
+        if (year < MIN_YEAR || year > MAX_YEAR) {
+            throw new PayrollValidationException("year", MIN_YEAR + " 이상 " + MAX_YEAR + " 이하여야 합니다.");
+        }
+        if (month < 1 || month > 12) {
+            throw new PayrollValidationException("month", "1 이상 12 이하여야 합니다.");
+        }
+        return YearMonth.of(year, month).lengthOfMonth() * HOURS_PER_DAY;
+    }
+
+    /**
+     * start, end, monthLength 는 같은 단위 (시간 또는 분), unitsPerDay 는 하루의 단위 수
+     */
+    private static void checkInterval(int start, int end, String field, int index, int monthLength, int unitsPerDay) {
+        if (start >= monthLength) {
+            throw new PayrollValidationException(field(field, index, "startDay"),
+                    "해당 월에 없는 날짜입니다 (" + (monthLength / unitsPerDay) + "일까지).");
+        }
+        if (end > monthLength) {
+            throw new PayrollValidationException(field(field, index, "endDay"),
+                    "해당 월에 없는 날짜입니다 (" + (monthLength / unitsPerDay) + "일까지, 다음 달 1일 0시 허용).");
+        }
+        if (start >= end) {
+            throw new PayrollValidationException(field(field, index, null), "종료 시각은 시작 시각보다 늦어야 합니다.");
+        }
+    }
+
+    /**
+     * 분은 선택 (없으면 0분). 시간 단위로만 받는 곳이면 0이 아닌 분은 거부
+     */
+    private static int minute(Integer value, String field, int index, String name, boolean minuteResolution) {
+        if (value == null) {
+            return 0;
+        }
+        if (value < 0 || value > 59) {
+            throw new PayrollValidationException(field(field, index, name), "0 이상 59 이하여야 합니다.");
+        }
+        if (value != 0 && !minuteResolution) {
+            throw new PayrollValidationException(field(field, index, name), "분 단위 기록은 지원하지 않습니다.");
+        }
+        return value;
+    }
+
+    private static int required(Integer value, String field, int index, String name, String missing, int min, int max) {
+        if (value == null) {
+            throw new PayrollValidationException(field(field, index, name), missing);
+        }
+        if (value < min || value > max) {
+            throw new PayrollValidationException(field(field, index, name), min + " 이상 " + max + " 이하여야 합니다.");
+        }
+        return value;
+    }
+
+    private static String field(String field, int index, String name) {
+        return name == null ? field + "[" + index + "]" : field + "[" + index + "]." + name;
+    }
+}
@@ -0,0 +1,70 @@
+package com.payroll.calculator.calendar;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HolidayCalendarTest {
+
+    @Test
+    @DisplayName("파일 로드 - 주석/빈 줄 무시, 월별 일 마스크로 컴파일")
+    void load_compilesMonthMask() throws IOException {
+        // given
+        String text = """
+                # 공휴일
+                2025-01-01 신정
+
+                2025-01-29 설날
+                2025-03-03 대체공휴일
+                """;
+
+        // when
+        HolidayCalendar holidays = HolidayCalendar.load(stream(text), "test");
+
+        // then
+        assertThat(holidays.size()).isEqualTo(3);
+        assertThat(holidays.holidayMask(2025, 1)).isEqualTo(1 | 1 << 28);
+        assertThat(holidays.holidayMask(2025, 3)).isEqualTo(1 << 2);
+        assertThat(holidays.holidayMask(2025, 2)).isZero();
+    }
+
+    @Test
+    @DisplayName("잘못된 날짜 형식은 위치와 함께 예외")
+    void load_invalidLine() {
+        assertThatThrownBy(() -> HolidayCalendar.load(stream("2025-01-01\n2025/03/01 삼일절\n"), "kr.txt"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("kr.txt:2");
+    }
+
+    @Test
+    @DisplayName("달력의 휴일 = 일요일 + 제공자 휴일, 여러 제공자는 합쳐진다")
+    void monthCalendar_mergesProviders() {
+        // given - 2025-01-05 = 일요일
+        HolidayProvider publicHolidays = HolidayCalendar.of(List.of(LocalDate.of(2025, 1, 1)));
+        HolidayProvider companyDays = HolidayCalendar.of(List.of(LocalDate.of(2025, 1, 2)));
+
+        // when
+        MonthCalendar calendar = new MonthCalendarCache(12, publicHolidays.and(companyDays)).get(2025, 1);
+
+        // then
+        assertThat(calendar.isHoliday(1)).isTrue();
+        assertThat(calendar.isHoliday(2)).isTrue();
+        assertThat(calendar.isHoliday(3)).isFalse();
+        assertThat(calendar.isHoliday(5)).isTrue();
+        assertThat(calendar.isSunday(1)).isFalse();
+        assertThat(Long.bitCount(calendar.holidayHourWord(0))).isEqualTo(48);
+    }
+
+    private InputStream stream(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
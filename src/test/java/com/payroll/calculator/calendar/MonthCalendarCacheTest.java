@@ -0,0 +1,65 @@
+package com.payroll.calculator.calendar;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.DateTimeException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MonthCalendarCacheTest {
+
+    @Test
+    @DisplayName("같은 (년, 월)은 같은 인스턴스를 돌려주고 적중으로 집계")
+    void get_sameMonth_hit() {
+        // given
+        MonthCalendarCache cache = new MonthCalendarCache(10);
+
+        // when
+        MonthCalendar first = cache.get(2025, 1);
+        MonthCalendar other = cache.get(2025, 2);
+        MonthCalendar second = cache.get(2025, 1);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(other).isNotSameAs(first);
+        MonthCalendarCache.Stats stats = cache.stats();
+        assertThat(stats.hits()).isEqualTo(1);
+        assertThat(stats.misses()).isEqualTo(2);
+        assertThat(stats.size()).isEqualTo(2);
+        assertThat(stats.hitRate()).isEqualTo(1.0 / 3);
+    }
+
+    @Test
+    @DisplayName("키가 겹치지 않아 범위를 벗어난 (년, 월)은 다른 달의 달력을 받지 않고 예외")
+    void get_outOfRange_noCollision() {
+        // given: year * 12 + month 키라면 2025-01 과 충돌하는 값들
+        MonthCalendarCache cache = new MonthCalendarCache(10);
+        cache.get(2025, 1);
+
+        // when & then
+        assertThatThrownBy(() -> cache.get(2025 + (1 << 30), 1)).isInstanceOf(DateTimeException.class);
+        assertThatThrownBy(() -> cache.get(2024, 13)).isInstanceOf(DateTimeException.class);
+        assertThat(cache.stats().size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 먼저 들어온 달력부터 제거")
+    void get_overMaxSize_evictsEldest() {
+        // given
+        MonthCalendarCache cache = new MonthCalendarCache(3);
+
+        // when
+        for (int month = 1; month <= 5; month++) {
+            cache.get(2025, month);
+        }
+        cache.get(2025, 1);
+
+        // then
+        MonthCalendarCache.Stats stats = cache.stats();
+        assertThat(stats.size()).isEqualTo(3);
+        assertThat(stats.evictions()).isEqualTo(3);
+        assertThat(stats.misses()).isEqualTo(6);
+    }
+}
@@ -0,0 +1,90 @@
+package com.payroll.calculator.calendar;
+
+import com.payroll.calculator.exception.PayrollException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MonthCalendarTest {
+
+    @Test
+    @DisplayName("월 길이/요일/일요일이 LocalDate 와 일치")
+    void calendar_matchesLocalDate() {
+        for (int year = 2023; year <= 2028; year++) {
+            for (int month = 1; month <= 12; month++) {
+                // given
+                MonthCalendar calendar = new MonthCalendar(year, month);
+                LocalDate firstDay = LocalDate.of(year, month, 1);
+
+                // then
+                assertThat(calendar.lengthOfMonth()).isEqualTo(firstDay.lengthOfMonth());
+                for (int day = 1; day <= calendar.lengthOfMonth(); day++) {
+                    DayOfWeek expected = firstDay.withDayOfMonth(day).getDayOfWeek();
+                    assertThat(calendar.dayOfWeek(day)).isEqualTo(expected);
+                    assertThat(calendar.isSunday(day)).isEqualTo(expected == DayOfWeek.SUNDAY);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("주차는 월요일 시작이며 월 안으로 잘린다")
+    void weeks_mondayBased() {
+        // given - 2025-01-01 = 수요일
+        MonthCalendar calendar = new MonthCalendar(2025, 1);
+
+        // then
+        assertThat(calendar.weekCount()).isEqualTo(5);
+        assertThat(calendar.weekOf(1)).isEqualTo(0);
+        assertThat(calendar.weekOf(5)).isEqualTo(0);  // 일요일
+        assertThat(calendar.weekOf(6)).isEqualTo(1);  // 월요일
+        assertThat(calendar.weekStartDay(0)).isEqualTo(1);
+        assertThat(calendar.weekEndDay(0)).isEqualTo(6);
+        assertThat(calendar.weekStartDay(4)).isEqualTo(27);
+        assertThat(calendar.weekEndDay(4)).isEqualTo(32);
+    }
+
+    @Test
+    @DisplayName("시간 마스크 - 1일 야간과 일요일 휴일 비트")
+    void hourWords() {
+        // given
+        MonthCalendar calendar = new MonthCalendar(2025, 1);
+
+        // then - 1일 00~06시, 22~24시가 야간
+        assertThat(calendar.nightHourWord(0) & 0xFF_FFFFL).isEqualTo(0xC0_003FL);
+        // 5일(일요일) = 오프셋 96 ~ 120 → 워드 1의 32 ~ 56 비트
+        assertThat(Long.bitCount(calendar.holidayHourWord(1))).isEqualTo(24);
+        assertThat(calendar.holidayHourWord(1) >>> 32 & 0xFF_FFFFL).isEqualTo(0xFF_FFFFL);
+    }
+
+    @Test
+    @DisplayName("해당 월에 없는 날짜의 시간 오프셋은 예외")
+    void hourOffset_outOfMonth() {
+        // given
+        MonthCalendar calendar = new MonthCalendar(2025, 2);
+
+        // then - 다음 달 1일 0시까지는 허용
+        assertThat(calendar.hourOffset(29, 0)).isEqualTo(28 * 24);
+        assertThatThrownBy(() -> calendar.hourOffset(29, 1))
+                .isInstanceOf(PayrollException.class)
+                .hasMessageContaining("2025-2-29");
+    }
+
+    @Test
+    @DisplayName("계산된 오프셋 검사 - 월말 24시까지 허용, 넘으면 해당 날짜로 예외")
+    void checkHourOffset_outOfMonth() {
+        // given
+        MonthCalendar calendar = new MonthCalendar(2025, 2);
+
+        // then
+        assertThat(calendar.checkHourOffset(28 * 24)).isEqualTo(28 * 24);
+        assertThatThrownBy(() -> calendar.checkHourOffset(29 * 24 + 9))
+                .isInstanceOf(PayrollException.class)
+                .hasMessageContaining("2025-2-30");
+    }
+}
@@ -1,12 +1,27 @@
 package com.payroll.calculator.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.payroll.calculator.calendar.MonthCalendarCache;
+import com.payroll.calculator.config.PayrollValidationConfig;
+import com.payroll.calculator.dto.PackedPayrollRequest;
+import com.payroll.calculator.dto.PayPeriodRequest;
+import com.payroll.calculator.dto.PayPeriodResponse;
+import com.payroll.calculator.dto.PayrollBatchItemResponse;
+import com.payroll.calculator.dto.PayrollBatchResponse;
 import com.payroll.calculator.dto.PayrollRequest;
 import com.payroll.calculator.dto.PayrollResponse;
+import com.payroll.calculator.dto.PayrollSessionPatchRequest;
+import com.payroll.calculator.dto.PeriodWorkRecordRequest;
 import com.payroll.calculator.dto.WorkRecordRequest;
 import com.payroll.calculator.exception.GlobalExceptionHandler;
 import com.payroll.calculator.exception.PayrollException;
+import com.payroll.calculator.metrics.PayrollMetrics;
+import com.payroll.calculator.service.PayPeriodService;
+import com.payroll.calculator.service.PayrollBatchService;
+import com.payroll.calculator.service.PayrollEngineRouter;
 import com.payroll.calculator.service.PayrollService;
+import com.payroll.calculator.service.PayrollSessionService;
+import com.payroll.calculator.service.PayrollStreamService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,16 +31,25 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
-@WebMvcTest(PayrollController.class)
-@Import(GlobalExceptionHandler.class)
+@WebMvcTest(controllers = PayrollController.class, properties = "payroll.overlap-policy=REJECT")
+@Import({GlobalExceptionHandler.class, PayrollValidationConfig.class})
 class PayrollControllerTest {
 
     @Autowired
@@ -37,6 +61,27 @@ class PayrollControllerTest {
     @MockitoBean
     private PayrollService payrollService;
 
+    @MockitoBean
+    private PayrollEngineRouter payrollEngineRouter;
+
+    @MockitoBean
+    private PayrollBatchService payrollBatchService;
+
+    @MockitoBean
+    private PayrollStreamService payrollStreamService;
+
+    @MockitoBean
+    private PayPeriodService payPeriodService;
+
+    @MockitoBean
+    private PayrollSessionService payrollSessionService;
+
+    @MockitoBean
+    private MonthCalendarCache monthCalendarCache;
+
+    @MockitoBean
+    private PayrollMetrics payrollMetrics;
+
     @Test
     @DisplayName("헬스체크 성공")
     void health_success() throws Exception {
@@ -48,6 +93,32 @@ class PayrollControllerTest {
                 .andExpect(jsonPath("$.data").value("OK"));
     }
 
+    @Test
+    @DisplayName("달력 캐시 통계 조회")
+    void calendarCacheStats_success() throws Exception {
+        // given
+        given(monthCalendarCache.stats())
+                .willReturn(new MonthCalendarCache.Stats(9, 1, 0, 1, 240, 0.9));
+
+        // when & then
+        mockMvc.perform(get("/api/v1/payroll/calendar-cache"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.hits").value(9))
+                .andExpect(jsonPath("$.data.misses").value(1))
+                .andExpect(jsonPath("$.data.size").value(1))
+                .andExpect(jsonPath("$.data.hitRate").value(0.9));
+    }
+
+    @Test
+    @DisplayName("결과 캐시 통계 조회 - 캐시 비활성화 시 404")
+    void resultCacheStats_disabled() throws Exception {
+        mockMvc.perform(get("/api/v1/payroll/result-cache"))
+                .andDo(print())
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.status").value(404));
+    }
+
     @Test
     @DisplayName("급여 계산 성공")
     void calculate_success() throws Exception {
@@ -81,6 +152,138 @@ class PayrollControllerTest {
                 .andExpect(jsonPath("$.data.totalPay").value(95000));
     }
 
+    @Test
+    @DisplayName("급여 계산 - X-Payroll-Engine 헤더로 엔진 선택")
+    void calculate_engineHeader() throws Exception {
+        // given
+        PayrollRequest request = createRequest(10000, 2025, 1,
+                createWorkRecord(1, 9, 1, 18));
+        PayrollService interval = mock(PayrollService.class);
+        given(payrollEngineRouter.route("interval")).willReturn(interval);
+        given(interval.calculate(any(PayrollRequest.class)))
+                .willReturn(PayrollResponse.builder().totalWorkHours(9.0).totalPay(95000).build());
+
+        // when & then
+        mockMvc.perform(post("/api/v1/payroll/calculate")
+                        .header(PayrollEngineRouter.ENGINE_HEADER, "interval")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalPay").value(95000));
+
+        then(payrollService).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("급여 계산 실패 - 알 수 없는 엔진 헤더")
+    void calculate_fail_unknownEngine() throws Exception {
+        // given
+        PayrollRequest request = createRequest(10000, 2025, 1,
+                createWorkRecord(1, 9, 1, 18));
+        given(payrollEngineRouter.route("fastest"))
+                .willThrow(new PayrollException(400, "알 수 없는 계산 엔진입니다: fastest (사용 가능: map)"));
+
+        // when & then
+        mockMvc.perform(post("/api/v1/payroll/calculate")
+                        .header(PayrollEngineRouter.ENGINE_HEADER, "fastest")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("알 수 없는 계산 엔진입니다: fastest (사용 가능: map)"));
+    }
+
+    @Test
+    @DisplayName("급여 기간 계산 성공")
+    void calculatePeriod_success() throws Exception {
+        // given: 격주 2025-03-24(월) ~ 04-06(일)
+        PayPeriodRequest request = new PayPeriodRequest();
+        request.setRecords(List.of(createPeriodWorkRecord("2025-03-31T09:00", "2025-03-31T17:00")));
+        request.setWage(10000);
+        request.setPeriodStart(LocalDate.of(2025, 3, 24));
+        request.setPeriodEnd(LocalDate.of(2025, 4, 6));
+
+        PayPeriodResponse response = PayPeriodResponse.builder()
+                .periodStart(request.getPeriodStart())
+                .periodEnd(request.getPeriodEnd())
+                .payroll(PayrollResponse.builder().totalWorkHours(8.0).basePay(80000).totalPay(80000).build())
+                .build();
+
+        given(payPeriodService.calculate(any(PayPeriodRequest.class))).willReturn(response);
+
+        // when & then
+        mockMvc.perform(post("/api/v1/payroll/calculate/period")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.periodStart").value("2025-03-24"))
+                .andExpect(jsonPath("$.data.payroll.totalPay").value(80000));
+    }
+
+    @Test
+    @DisplayName("급여 기간 계산 실패 - 기간 누락")
+    void calculatePeriod_fail_noPeriod() throws Exception {
+        // given
+        PayPeriodRequest request = new PayPeriodRequest();
+        request.setRecords(List.of(createPeriodWorkRecord("2025-03-31T09:00", "2025-03-31T17:00")));
+        request.setWage(10000);
+
+        // when & then
+        mockMvc.perform(post("/api/v1/payroll/calculate/period")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400));
+    }
+
+    @Test
+    @DisplayName("급여 세션 증분 수정 성공")
+    void patchSession_success() throws Exception {
+        // given
+        PayrollSessionPatchRequest request = new PayrollSessionPatchRequest();
+        request.setRemove(List.of(createWorkRecord(15, 9, 15, 18)));
+        request.setAdd(List.of(createWorkRecord(15, 13, 15, 23)));
+
+        PayrollResponse response = PayrollResponse.builder()
+                .totalWorkHours(10.0)
+                .basePay(100000)
+                .totalPay(110000)
+                .build();
+
+        given(payrollSessionService.patch(eq("e1"), eq("2025-01"), any(PayrollSessionPatchRequest.class)))
+                .willReturn(response);
+
+        // when & then
+        mockMvc.perform(patch("/api/v1/payroll/e1/2025-01/records")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalPay").value(110000));
+    }
+
+    @Test
+    @DisplayName("급여 세션 증분 수정 실패 - 세션 없음")
+    void patchSession_fail_notFound() throws Exception {
+        // given
+        PayrollSessionPatchRequest request = new PayrollSessionPatchRequest();
+        request.setAdd(List.of(createWorkRecord(15, 13, 15, 23)));
+
+        given(payrollSessionService.patch(eq("e1"), eq("2025-01"), any(PayrollSessionPatchRequest.class)))
+                .willThrow(new PayrollException(404, "급여 세션이 없습니다."));
+
+        // when & then
+        mockMvc.perform(patch("/api/v1/payroll/e1/2025-01/records")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andDo(print())
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.status").value(404));
+    }
+
     @Test
     @DisplayName("급여 계산 실패 - 빈 근무기록")
     void calculate_fail_emptyRecords() throws Exception {
@@ -116,6 +319,28 @@ class PayrollControllerTest {
                 .andDo(print())
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.status").value(400));
+
+        then(payrollMetrics).should().validationFailed("wage");
+    }
+
+    @Test
+    @DisplayName("급여 계산 실패 - 겹치는 근무 기록")
+    void calculate_fail_overlap() throws Exception {
+        // given
+        PayrollRequest request = createRequest(10000, 2025, 1,
+                createWorkRecord(1, 9, 1, 18),
+                createWorkRecord(1, 17, 1, 20));
+
+        // when & then
+        mockMvc.perform(post("/api/v1/payroll/calculate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("records[1]: records[0] 와 근무 시간이 겹칩니다."));
+
+        then(payrollMetrics).should().validationFailed("records[1]");
+        then(payrollService).shouldHaveNoInteractions();
     }
 
     @Test
@@ -136,6 +361,121 @@ class PayrollControllerTest {
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.status").value(400))
                 .andExpect(jsonPath("$.message").value("잘못된 근무 기록입니다"));
+
+        then(payrollMetrics).should().validationFailed(PayrollMetrics.PAYROLL_RULE);
+    }
+
+    @Test
+    @DisplayName("바이너리 요청 - Content-Type 으로 같은 경로에서 처리")
+    void calculateBinary_success() throws Exception {
+        // given
+        byte[] body = encode(createRequest(10000, 2025, 1, createWorkRecord(1, 9, 1, 18)));
+
+        given(payrollService.calculate(any(PackedPayrollRequest.class))).willReturn(PayrollResponse.builder()
+                .totalWorkHours(9.0)
+                .basePay(90000)
+                .totalPay(95000)
+                .build());
+
+        // when & then
+        mockMvc.perform(post("/api/v1/payroll/calculate")
+                        .contentType(PayrollBinaryMessageConverter.PAYROLL_BINARY)
+                        .content(body))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalPay").value(95000));
+
+        then(payrollService).should().calculate(any(PackedPayrollRequest.class));
+    }
+
+    @Test
+    @DisplayName("바이너리 요청 실패 - 범위를 벗어난 시간")
+    void calculateBinary_fail_outOfRange() throws Exception {
+        // given - 1일 9시 ~ 1일 24시
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(10000);
+        out.writeShort(2025);
+        out.writeByte(1);
+        out.writeInt(1);
+        out.write(new byte[]{1, 9, 1, 24});
+        byte[] body = bytes.toByteArray();
+
+        // when & then
+        mockMvc.perform(post("/api/v1/payroll/calculate")
+                        .contentType(PayrollBinaryMessageConverter.PAYROLL_BINARY)
+                        .content(body))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("records[0].endHour: 0 이상 23 이하여야 합니다."));
+    }
+
+    @Test
+    @DisplayName("바이너리 요청 실패 - 기록 수보다 짧은 본문")
+    void calculateBinary_fail_truncated() throws Exception {
+        // given
+        byte[] body = encode(createRequest(10000, 2025, 1, createWorkRecord(1, 9, 1, 18)));
+
+        // when & then
+        mockMvc.perform(post("/api/v1/payroll/calculate")
+                        .contentType(PayrollBinaryMessageConverter.PAYROLL_BINARY)
+                        .content(Arrays.copyOf(body, body.length - 1)))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400));
+    }
+
+    @Test
+    @DisplayName("일괄 계산 성공 - 건별 결과와 실패 건을 함께 반환")
+    void calculateBatch_partialFailure() throws Exception {
+        // given
+        List<PayrollRequest> requests = List.of(
+                createRequest(10000, 2025, 1, createWorkRecord(1, 9, 1, 18)),
+                createRequest(10000, 2025, 1, createWorkRecord(1, 9, 1, 18)));
+
+        PayrollResponse response = PayrollResponse.builder()
+                .totalWorkHours(9.0)
+                .basePay(90000)
+                .totalPay(95000)
+                .build();
+
+        given(payrollBatchService.calculateAll(any())).willReturn(PayrollBatchResponse.of(List.of(
+                PayrollBatchItemResponse.success(0, response),
+                PayrollBatchItemResponse.failure(1, 400, "wage: 시급은 필수입니다."))));
+
+        // when & then
+        mockMvc.perform(post("/api/v1/payroll/calculate/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalCount").value(2))
+                .andExpect(jsonPath("$.data.successCount").value(1))
+                .andExpect(jsonPath("$.data.failureCount").value(1))
+                .andExpect(jsonPath("$.data.results[0].result.totalPay").value(95000))
+                .andExpect(jsonPath("$.data.results[1].status").value(400));
+    }
+
+    @Test
+    @DisplayName("일괄 계산 실패 - 빈 요청 목록")
+    void calculateBatch_fail_empty() throws Exception {
+        // given
+        given(payrollBatchService.calculateAll(any()))
+                .willThrow(new PayrollException(400, "급여 계산 요청은 최소 1개 이상이어야 합니다."));
+
+        // when & then
+        mockMvc.perform(post("/api/v1/payroll/calculate/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400));
+    }
+
+    private byte[] encode(PayrollRequest request) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        PackedPayrollRequest.from(request).write(new DataOutputStream(bytes));
+        return bytes.toByteArray();
     }
 
     private PayrollRequest createRequest(int wage, int year, int month, WorkRecordRequest... records) {
@@ -147,6 +487,13 @@ class PayrollControllerTest {
         return request;
     }
 
+    private PeriodWorkRecordRequest createPeriodWorkRecord(String start, String end) {
+        PeriodWorkRecordRequest record = new PeriodWorkRecordRequest();
+        record.setStart(LocalDateTime.parse(start));
+        record.setEnd(LocalDateTime.parse(end));
+        return record;
+    }
+
     private WorkRecordRequest createWorkRecord(int startDay, int startHour, int endDay, int endHour) {
         WorkRecordRequest record = new WorkRecordRequest();
         record.setStartDay(startDay);
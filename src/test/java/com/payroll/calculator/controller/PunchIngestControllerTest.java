@@ -0,0 +1,44 @@
+package com.payroll.calculator.controller;
+
+import com.payroll.calculator.exception.GlobalExceptionHandler;
+import com.payroll.calculator.metrics.PayrollMetrics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = PunchIngestController.class)
+@Import(GlobalExceptionHandler.class)
+class PunchIngestControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private PayrollMetrics payrollMetrics;
+
+    @Test
+    @DisplayName("출퇴근 누적 조회 - 수집 비활성화 시 404")
+    void accrued_disabled() throws Exception {
+        mockMvc.perform(get("/api/v1/payroll-ingest/e1"))
+                .andDo(print())
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.status").value(404));
+    }
+
+    @Test
+    @DisplayName("수집 상태 조회 - 수집 비활성화 시 404")
+    void status_disabled() throws Exception {
+        mockMvc.perform(get("/api/v1/payroll-ingest/status"))
+                .andDo(print())
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.status").value(404));
+    }
+}
@@ -0,0 +1,213 @@
+package com.payroll.calculator.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.payroll.calculator.calendar.MonthCalendarCache;
+import com.payroll.calculator.config.PayrollBatchConfig;
+import com.payroll.calculator.config.PayrollValidationConfig;
+import com.payroll.calculator.dto.PayrollBatchItemResponse;
+import com.payroll.calculator.dto.PayrollRequest;
+import com.payroll.calculator.dto.PayrollResponse;
+import com.payroll.calculator.dto.WorkRecordRequest;
+import com.payroll.calculator.exception.GlobalExceptionHandler;
+import com.payroll.calculator.metrics.PayrollMetrics;
+import com.payroll.calculator.service.PayrollBatchService;
+import com.payroll.calculator.service.PayrollEngineRouter;
+import com.payroll.calculator.service.PayrollService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+@WebFluxTest(ReactivePayrollController.class)
+@Import({GlobalExceptionHandler.class, PayrollBatchConfig.class, PayrollValidationConfig.class})
+class ReactivePayrollControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private PayrollService payrollService;
+
+    @MockitoBean
+    private PayrollEngineRouter payrollEngineRouter;
+
+    @MockitoBean
+    private PayrollBatchService payrollBatchService;
+
+    @MockitoBean
+    private MonthCalendarCache monthCalendarCache;
+
+    @MockitoBean
+    private PayrollMetrics payrollMetrics;
+
+    @Test
+    @DisplayName("헬스체크 성공")
+    void health_success() {
+        webTestClient.get().uri("/api/v1/payroll/health")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(200)
+                .jsonPath("$.data").isEqualTo("OK");
+    }
+
+    @Test
+    @DisplayName("결과 캐시 통계 조회 - 캐시 비활성화 시 404")
+    void resultCacheStats_disabled() {
+        webTestClient.get().uri("/api/v1/payroll/result-cache")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(404);
+    }
+
+    @Test
+    @DisplayName("급여 계산 성공")
+    void calculate_success() {
+        // given
+        PayrollRequest request = createRequest(10000, 2025, 1,
+                createWorkRecord(1, 9, 1, 18));
+
+        given(payrollService.calculate(any(PayrollRequest.class))).willReturn(createResponse(95000));
+
+        // when & then
+        webTestClient.post().uri("/api/v1/payroll/calculate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(200)
+                .jsonPath("$.data.totalPay").isEqualTo(95000);
+    }
+
+    @Test
+    @DisplayName("급여 계산 실패 - 시급 누락은 MVC 와 같은 400 응답")
+    void calculate_fail_noWage() {
+        // given
+        PayrollRequest request = new PayrollRequest();
+        request.setRecords(List.of(createWorkRecord(1, 9, 1, 18)));
+        request.setYear(2025);
+        request.setMonth(1);
+
+        // when & then
+        webTestClient.post().uri("/api/v1/payroll/calculate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(400);
+
+        then(payrollMetrics).should().validationFailed("wage");
+    }
+
+    @Test
+    @DisplayName("급여 계산 실패 - 해당 월에 없는 날짜는 계산 전에 400")
+    void calculate_fail_dayOutOfMonth() {
+        // given: 2025년 2월 30일
+        PayrollRequest request = new PayrollRequest();
+        request.setRecords(List.of(createWorkRecord(30, 9, 30, 18)));
+        request.setWage(10000);
+        request.setYear(2025);
+        request.setMonth(2);
+
+        // when & then
+        webTestClient.post().uri("/api/v1/payroll/calculate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(400);
+
+        then(payrollMetrics).should().validationFailed("records[0].startDay");
+        then(payrollService).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("급여 계산 실패 - 해석할 수 없는 본문은 400")
+    void calculate_fail_malformedBody() {
+        webTestClient.post().uri("/api/v1/payroll/calculate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"wage\":")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(400);
+    }
+
+    @Test
+    @DisplayName("스트리밍 계산 - 입력 순서대로 한 줄씩, 실패 건은 실패 줄로 응답")
+    void calculateStream_preservesOrder() throws Exception {
+        // given
+        PayrollRequest request = createRequest(10000, 2025, 1, createWorkRecord(1, 9, 1, 18));
+        String line = objectMapper.writeValueAsString(request);
+
+        given(payrollBatchService.calculateOne(anyInt(), any(PayrollRequest.class)))
+                .willAnswer(invocation -> PayrollBatchItemResponse.success(
+                        invocation.getArgument(0), createResponse(1000L * (invocation.<Integer>getArgument(0) + 1))));
+        given(payrollBatchService.calculateOne(eq(1), any(PayrollRequest.class)))
+                .willReturn(PayrollBatchItemResponse.failure(1, 400, "wage: 시급은 필수입니다."));
+
+        // when
+        List<String> lines = webTestClient.post().uri("/api/v1/payroll/calculate/stream")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .bodyValue(line + "\n" + line + "\n" + line + "\n")
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(String.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        // then
+        assertThat(lines).hasSize(3);
+        assertThat(objectMapper.readTree(lines.get(0)).at("/data/totalPay").asLong()).isEqualTo(1000);
+        assertThat(objectMapper.readTree(lines.get(1)).at("/status").asInt()).isEqualTo(400);
+        assertThat(objectMapper.readTree(lines.get(2)).at("/data/totalPay").asLong()).isEqualTo(3000);
+    }
+
+    private PayrollResponse createResponse(long totalPay) {
+        return PayrollResponse.builder()
+                .totalWorkHours(9.0)
+                .basePay(90000)
+                .totalPay(totalPay)
+                .build();
+    }
+
+    private PayrollRequest createRequest(int wage, int year, int month, WorkRecordRequest... records) {
+        PayrollRequest request = new PayrollRequest();
+        request.setRecords(List.of(records));
+        request.setWage(wage);
+        request.setYear(year);
+        request.setMonth(month);
+        return request;
+    }
+
+    private WorkRecordRequest createWorkRecord(int startDay, int startHour, int endDay, int endHour) {
+        WorkRecordRequest record = new WorkRecordRequest();
+        record.setStartDay(startDay);
+        record.setStartHour(startHour);
+        record.setEndDay(endDay);
+        record.setEndHour(endHour);
+        return record;
+    }
+}
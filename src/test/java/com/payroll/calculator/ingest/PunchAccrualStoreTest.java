@@ -0,0 +1,199 @@
+package com.payroll.calculator.ingest;
+
+import com.payroll.calculator.calendar.MonthCalendarCache;
+import com.payroll.calculator.dto.PayrollRequest;
+import com.payroll.calculator.dto.PunchAccrualResponse;
+import com.payroll.calculator.dto.PunchEvent;
+import com.payroll.calculator.dto.WorkRecordRequest;
+import com.payroll.calculator.service.OverlapPolicy;
+import com.payroll.calculator.service.PayrollService;
+import com.payroll.calculator.service.PayrollServiceIntervalImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PunchAccrualStoreTest {
+
+    private final PayrollService fullRecalculation = new PayrollServiceIntervalImpl(MonthCalendarCache.shared());
+
+    @Test
+    @DisplayName("출근/퇴근을 짝지어 정시 단위로 버린 근무로 누적하면 전체 계산과 같은 결과")
+    void apply_pairsInAndOut() {
+        // given
+        PunchAccrualStore store = createStore(OverlapPolicy.MERGE);
+
+        // when: 09:40 ~ 18:10 → 09 ~ 18시, 다음날 22:00 ~ 익일 06:30 → 22 ~ 06시
+        assertThat(store.apply(createEvent("e1", PunchEvent.Type.IN, "2025-01-02T09:40", 10000)))
+                .isEqualTo(PunchAccrualStore.Result.OPENED);
+        assertThat(store.apply(createEvent("e1", PunchEvent.Type.OUT, "2025-01-02T18:10", null)))
+                .isEqualTo(PunchAccrualStore.Result.CLOSED);
+        store.apply(createEvent("e1", PunchEvent.Type.IN, "2025-01-03T22:00", null));
+        store.apply(createEvent("e1", PunchEvent.Type.OUT, "2025-01-04T06:30", null));
+        store.apply(createEvent("e1", PunchEvent.Type.IN, "2025-01-05T08:00", null));
+
+        // then
+        PunchAccrualResponse response = store.accrued("e1");
+        assertThat(response.getPeriod()).isEqualTo(YearMonth.of(2025, 1));
+        assertThat(response.getShifts()).isEqualTo(2);
+        assertThat(response.getOpenSince()).isEqualTo(LocalDateTime.parse("2025-01-05T08:00"));
+        assertThat(response.getPayroll()).isEqualTo(fullRecalculation.calculate(createMonthRequest(10000, 2025, 1,
+                createWorkRecord(2, 9, 2, 18),
+                createWorkRecord(3, 22, 4, 6))));
+    }
+
+    @Test
+    @DisplayName("짝이 없는 이벤트와 길이가 잘못된 근무는 반영하지 않고 결과별로 집계")
+    void apply_unpairedAndInvalid() {
+        // given
+        PunchAccrualStore store = createStore(OverlapPolicy.MERGE);
+
+        // when
+        PunchAccrualStore.Result unpairedOut = store.apply(createEvent("e1", PunchEvent.Type.OUT, "2025-01-02T18:00", null));
+        store.apply(createEvent("e1", PunchEvent.Type.IN, "2025-01-02T09:10", null));
+        PunchAccrualStore.Result sameHour = store.apply(createEvent("e1", PunchEvent.Type.OUT, "2025-01-02T09:50", null));
+        store.apply(createEvent("e1", PunchEvent.Type.IN, "2025-01-03T09:00", null));
+        PunchAccrualStore.Result tooLong = store.apply(createEvent("e1", PunchEvent.Type.OUT, "2025-01-04T10:00", null));
+        store.apply(createEvent("e1", PunchEvent.Type.IN, "2025-01-05T09:00", null));
+        PunchAccrualStore.Result doubleIn = store.apply(createEvent("e1", PunchEvent.Type.IN, "2025-01-05T10:00", null));
+
+        // then
+        assertThat(unpairedOut).isEqualTo(PunchAccrualStore.Result.UNPAIRED);
+        assertThat(sameHour).isEqualTo(PunchAccrualStore.Result.INVALID);
+        assertThat(tooLong).isEqualTo(PunchAccrualStore.Result.INVALID);
+        assertThat(doubleIn).isEqualTo(PunchAccrualStore.Result.UNPAIRED);
+        assertThat(store.accrued("e1")).isNull();
+        assertThat(store.stats().get(PunchAccrualStore.Result.INVALID)).isEqualTo(2L);
+        assertThat(store.stats().get(PunchAccrualStore.Result.UNPAIRED)).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("월을 넘는 근무는 월별로 나눠 누적")
+    void apply_splitsAcrossMonths() {
+        // given
+        PunchAccrualStore store = createStore(OverlapPolicy.MERGE);
+        store.apply(createEvent("e1", PunchEvent.Type.IN, "2025-01-30T20:00", 10000));
+        store.apply(createEvent("e1", PunchEvent.Type.OUT, "2025-01-31T04:00", null));
+
+        // when: 1월 31일 22시 ~ 2월 1일 06시
+        store.apply(createEvent("e1", PunchEvent.Type.IN, "2025-01-31T22:00", null));
+        store.apply(createEvent("e1", PunchEvent.Type.OUT, "2025-02-01T06:00", null));
+
+        // then
+        PunchAccrualResponse january = store.accrued("e1", YearMonth.of(2025, 1));
+        assertThat(january.getShifts()).isEqualTo(2);
+        assertThat(january.getPayroll().getTotalWorkHours()).isEqualTo(10.0);
+        assertThat(january.getPayroll().getNightHours()).isEqualTo(8.0);
+        assertThat(store.accrued("e1").getPeriod()).isEqualTo(YearMonth.of(2025, 2));
+        assertThat(store.accrued("e1").getPayroll()).isEqualTo(fullRecalculation.calculate(createMonthRequest(10000, 2025, 2,
+                createWorkRecord(1, 0, 1, 6))));
+    }
+
+    @Test
+    @DisplayName("REJECT 정책에서 겹치는 근무는 거부하고 이미 나눠 반영한 앞쪽 월도 되돌림")
+    void apply_rejectOverlapRollsBack() {
+        // given: 2월 1일 02 ~ 04시 근무가 이미 있음
+        PunchAccrualStore store = createStore(OverlapPolicy.REJECT);
+        store.apply(createEvent("e1", PunchEvent.Type.IN, "2025-02-01T02:00", 10000));
+        store.apply(createEvent("e1", PunchEvent.Type.OUT, "2025-02-01T04:00", null));
+        store.apply(createEvent("e1", PunchEvent.Type.IN, "2025-01-02T09:00", null));
+        store.apply(createEvent("e1", PunchEvent.Type.OUT, "2025-01-02T18:00", null));
+        PunchAccrualResponse before = store.accrued("e1", YearMonth.of(2025, 1));
+
+        // when: 1월 31일 22시 ~ 2월 1일 03시 (2월 구간이 겹침)
+        store.apply(createEvent("e1", PunchEvent.Type.IN, "2025-01-31T22:00", null));
+        PunchAccrualStore.Result result = store.apply(createEvent("e1", PunchEvent.Type.OUT, "2025-02-01T03:00", null));
+
+        // then
+        assertThat(result).isEqualTo(PunchAccrualStore.Result.REJECTED);
+        PunchAccrualResponse january = store.accrued("e1", YearMonth.of(2025, 1));
+        assertThat(january.getShifts()).isEqualTo(before.getShifts());
+        assertThat(january.getPayroll()).isEqualTo(before.getPayroll());
+    }
+
+    @Test
+    @DisplayName("REJECT 로 거부된 근무가 새로 만든 앞쪽 월은 세션과 누적 결과 모두 남기지 않음")
+    void apply_rejectOverlap_removesCreatedMonth() {
+        // given: 1월 근무 없이 2월 1일 00 ~ 04시 근무만 있음
+        PunchAccrualStore store = createStore(OverlapPolicy.REJECT);
+        store.apply(createEvent("e1", PunchEvent.Type.IN, "2025-02-01T00:00", 10000));
+        store.apply(createEvent("e1", PunchEvent.Type.OUT, "2025-02-01T04:00", null));
+        PunchAccrualResponse february = store.accrued("e1", YearMonth.of(2025, 2));
+
+        // when: 1월 31일 22시 ~ 2월 1일 02시 (1월 세션을 새로 만든 뒤 2월 구간에서 겹침)
+        store.apply(createEvent("e1", PunchEvent.Type.IN, "2025-01-31T22:00", null));
+        PunchAccrualStore.Result result = store.apply(createEvent("e1", PunchEvent.Type.OUT, "2025-02-01T02:00", null));
+
+        // then
+        assertThat(result).isEqualTo(PunchAccrualStore.Result.REJECTED);
+        assertThat(store.accrued("e1", YearMonth.of(2025, 1))).isNull();
+        assertThat(store.accrued("e1").getPeriod()).isEqualTo(YearMonth.of(2025, 2));
+        assertThat(store.accrued("e1", YearMonth.of(2025, 2)).getShifts()).isEqualTo(february.getShifts());
+
+        // 남은 1월 세션이 없으므로 1월 근무는 빈 세션에서 새로 시작
+        store.apply(createEvent("e1", PunchEvent.Type.IN, "2025-01-30T09:00", null));
+        store.apply(createEvent("e1", PunchEvent.Type.OUT, "2025-01-30T18:00", null));
+        assertThat(store.accrued("e1", YearMonth.of(2025, 1)).getShifts()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 월의 늦은 퇴근은 반영하지 않고 EXPIRED")
+    void apply_lateShiftInEvictedMonth_expired() {
+        // given: 최근 2개월 보관 - 1월 근무 후 2월, 3월 근무로 1월이 제거됨
+        PunchAccrualStore store = createStore(OverlapPolicy.MERGE);
+        store.apply(createEvent("e1", PunchEvent.Type.IN, "2025-01-02T09:00", 10000));
+        store.apply(createEvent("e1", PunchEvent.Type.OUT, "2025-01-02T18:00", null));
+        store.apply(createEvent("e1", PunchEvent.Type.IN, "2025-02-03T09:00", null));
+        store.apply(createEvent("e1", PunchEvent.Type.OUT, "2025-02-03T18:00", null));
+        store.apply(createEvent("e1", PunchEvent.Type.IN, "2025-03-03T09:00", null));
+        store.apply(createEvent("e1", PunchEvent.Type.OUT, "2025-03-03T18:00", null));
+        PunchAccrualResponse february = store.accrued("e1", YearMonth.of(2025, 2));
+
+        // when: 1월 출근 이벤트가 늦게 도착 (1월 31일 22시 ~ 2월 1일 02시)
+        store.apply(createEvent("e1", PunchEvent.Type.IN, "2025-01-31T22:00", null));
+        PunchAccrualStore.Result result = store.apply(createEvent("e1", PunchEvent.Type.OUT, "2025-02-01T02:00", null));
+
+        // then
+        assertThat(result).isEqualTo(PunchAccrualStore.Result.EXPIRED);
+        assertThat(store.accrued("e1", YearMonth.of(2025, 1))).isNull();
+        assertThat(store.accrued("e1", YearMonth.of(2025, 2)).getShifts()).isEqualTo(february.getShifts());
+        assertThat(store.accrued("e1", YearMonth.of(2025, 2)).getPayroll()).isEqualTo(february.getPayroll());
+        assertThat(store.accrued("e1").getPeriod()).isEqualTo(YearMonth.of(2025, 3));
+        assertThat(store.stats().get(PunchAccrualStore.Result.EXPIRED)).isEqualTo(1L);
+    }
+
+    private PunchAccrualStore createStore(OverlapPolicy policy) {
+        return new PunchAccrualStore(MonthCalendarCache.shared(), policy, 10030, 24, 2);
+    }
+
+    private PunchEvent createEvent(String employeeId, PunchEvent.Type type, String time, Integer wage) {
+        PunchEvent event = new PunchEvent();
+        event.setEmployeeId(employeeId);
+        event.setType(type);
+        event.setTime(LocalDateTime.parse(time));
+        event.setWage(wage);
+        return event;
+    }
+
+    private PayrollRequest createMonthRequest(int wage, int year, int month, WorkRecordRequest... records) {
+        PayrollRequest request = new PayrollRequest();
+        request.setRecords(List.of(records));
+        request.setWage(wage);
+        request.setYear(year);
+        request.setMonth(month);
+        return request;
+    }
+
+    private WorkRecordRequest createWorkRecord(int startDay, int startHour, int endDay, int endHour) {
+        WorkRecordRequest record = new WorkRecordRequest();
+        record.setStartDay(startDay);
+        record.setStartHour(startHour);
+        record.setEndDay(endDay);
+        record.setEndHour(endHour);
+        return record;
+    }
+}
@@ -0,0 +1,135 @@
+package com.payroll.calculator.ingest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.payroll.calculator.calendar.MonthCalendarCache;
+import com.payroll.calculator.dto.PunchAccrualResponse;
+import com.payroll.calculator.service.OverlapPolicy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PunchIngestionPipelineTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("쓰는 중인 마지막 줄은 줄바꿈이 기록된 뒤에 반영")
+    void ingest_waitsForCompleteLine() throws Exception {
+        // given
+        Path log = tempDir.resolve("punches.ndjson");
+        append(log, """
+                {"employeeId":"e1","type":"IN","time":"2025-01-02T09:00","wage":10000}
+                {"employeeId":"e1","type":"OUT","ti""");
+        PunchIngestionPipeline pipeline = createPipeline(log, 0);
+        pipeline.start();
+        awaitTrue(() -> pipeline.stats().events().get(PunchAccrualStore.Result.OPENED) == 1);
+        assertThat(pipeline.store().accrued("e1")).isNull();
+
+        // when
+        append(log, "me\":\"2025-01-02T18:00\"}\n");
+        awaitTrue(() -> pipeline.store().accrued("e1") != null);
+        pipeline.stop();
+
+        // then
+        PunchAccrualResponse response = pipeline.store().accrued("e1");
+        assertThat(response.getShifts()).isEqualTo(1);
+        assertThat(response.getPayroll().getTotalWorkHours()).isEqualTo(9.0);
+        assertThat(pipeline.stats().committedOffset()).isEqualTo(Files.size(log));
+    }
+
+    @Test
+    @DisplayName("해석할 수 없는 줄은 건너뛰고 나머지는 반영")
+    void ingest_skipsMalformedLines() throws Exception {
+        // given
+        Path log = tempDir.resolve("punches.ndjson");
+        append(log, """
+                {"employeeId":"e1","type":"IN","time":"2025-01-02T09:00","wage":10000}
+                not json
+                {"employeeId":"e1","type":"LUNCH","time":"2025-01-02T12:00"}
+                {"type":"OUT","time":"2025-01-02T18:00"}
+
+                {"employeeId":"e1","type":"OUT","time":"2025-01-02T18:00"}
+                """);
+
+        // when
+        PunchIngestionPipeline pipeline = createPipeline(log, 0);
+        pipeline.start();
+        awaitTrue(() -> pipeline.stats().committedOffset() == size(log));
+        pipeline.stop();
+
+        // then
+        assertThat(pipeline.stats().malformed()).isEqualTo(3L);
+        assertThat(pipeline.store().accrued("e1").getPayroll().getTotalWorkHours()).isEqualTo(9.0);
+    }
+
+    @Test
+    @DisplayName("반영 완료 오프셋부터 다시 읽으면 그 뒤 이벤트만 재생")
+    void ingest_replaysFromCommittedOffset() throws Exception {
+        // given: 첫 실행에서 1월 2일 근무까지 반영
+        Path log = tempDir.resolve("punches.ndjson");
+        append(log, """
+                {"employeeId":"e1","type":"IN","time":"2025-01-02T09:00","wage":10000}
+                {"employeeId":"e1","type":"OUT","time":"2025-01-02T18:00"}
+                """);
+        PunchIngestionPipeline first = createPipeline(log, 0);
+        first.start();
+        awaitTrue(() -> first.stats().committedOffset() == size(log));
+        first.stop();
+        long committed = first.stats().committedOffset();
+        append(log, """
+                {"employeeId":"e1","type":"IN","time":"2025-01-03T09:00","wage":10000}
+                {"employeeId":"e1","type":"OUT","time":"2025-01-03T13:00"}
+                """);
+
+        // when
+        PunchIngestionPipeline second = createPipeline(log, committed);
+        second.start();
+        awaitTrue(() -> second.stats().committedOffset() == size(log));
+        second.stop();
+
+        // then
+        PunchAccrualResponse response = second.store().accrued("e1");
+        assertThat(response.getShifts()).isEqualTo(1);
+        assertThat(response.getPayroll().getTotalWorkHours()).isEqualTo(4.0);
+        assertThat(second.stats().startOffset()).isEqualTo(committed);
+    }
+
+    private PunchIngestionPipeline createPipeline(Path log, long startOffset) {
+        PunchLogReader reader = new PunchLogReader(log, startOffset, objectMapper, 4096);
+        PunchAccrualStore store = new PunchAccrualStore(MonthCalendarCache.shared(), OverlapPolicy.MERGE, 10030, 24, 2);
+        return new PunchIngestionPipeline(reader, store, 4, 2, Duration.ofMillis(5));
+    }
+
+    private void append(Path log, String lines) throws IOException {
+        Files.writeString(log, lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    private long size(Path log) {
+        try {
+            return Files.size(log);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime() < deadline).as("5초 안에 반영").isTrue();
+            Thread.sleep(5);
+        }
+    }
+}
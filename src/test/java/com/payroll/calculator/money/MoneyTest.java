@@ -0,0 +1,93 @@
+package com.payroll.calculator.money;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MoneyTest {
+
+    @Test
+    @DisplayName("나눗셈 반올림은 모든 RoundingMode 에서 BigDecimal 과 같다")
+    void divide_matchesBigDecimal() {
+        // given
+        SplittableRandom random = new SplittableRandom(25);
+
+        for (int i = 0; i < 20_000; i++) {
+            long dividend = random.nextLong(-1_000_000_000L, 1_000_000_000L);
+            long divisor = random.nextBoolean() ? random.nextLong(1, 100_000) : -random.nextLong(1, 100_000);
+            if (i % 4 == 0) {
+                dividend = dividend / divisor * divisor + divisor / 2; // 정확히 .5 인 경우
+            }
+            for (RoundingMode rounding : RoundingMode.values()) {
+                if (rounding == RoundingMode.UNNECESSARY) {
+                    continue;
+                }
+                // when
+                long actual = Money.divide(dividend, divisor, rounding);
+
+                // then
+                long expected = BigDecimal.valueOf(dividend).divide(BigDecimal.valueOf(divisor), 0, rounding).longValueExact();
+                assertThat(actual).as("%d / %d %s", dividend, divisor, rounding).isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("원 미만 처리 - 10,030원 × 1시간 × 50% = 5,015원, 10,015원 × 50% = 5,007.5원")
+    void applyRate_rounding() {
+        assertThat(Money.applyRate(10_030, PayRates.OVERTIME, RoundingMode.DOWN)).isEqualTo(5_015);
+        assertThat(Money.applyRate(10_015, PayRates.OVERTIME, RoundingMode.DOWN)).isEqualTo(5_007);
+        assertThat(Money.applyRate(10_015, PayRates.OVERTIME, RoundingMode.HALF_UP)).isEqualTo(5_008);
+        assertThat(Money.applyRate(10_015, PayRates.OVERTIME, RoundingMode.HALF_EVEN)).isEqualTo(5_008);
+        assertThat(Money.applyRate(10_013, PayRates.OVERTIME, RoundingMode.HALF_EVEN)).isEqualTo(5_006);
+        assertThat(Money.applyRate(10_013, PayRates.OVERTIME, RoundingMode.UP)).isEqualTo(5_007);
+        assertThat(Money.applyRate(10_014, PayRates.OVERTIME, RoundingMode.UNNECESSARY)).isEqualTo(5_007);
+    }
+
+    @Test
+    @DisplayName("UNNECESSARY 인데 나누어떨어지지 않거나 곱셈이 넘치면 ArithmeticException")
+    void arithmeticException() {
+        assertThatThrownBy(() -> Money.applyRate(10_015, PayRates.OVERTIME, RoundingMode.UNNECESSARY))
+                .isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.multiply(Long.MAX_VALUE / 2, 3))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    @DisplayName("기본 규칙(DOWN)은 기존 계산식과 원 단위까지 같다")
+    void standard_matchesPreviousFormulas() {
+        // given
+        PayRates rates = PayRates.standard();
+        SplittableRandom random = new SplittableRandom(7);
+
+        for (int i = 0; i < 20_000; i++) {
+            int hours = random.nextInt(0, 745);
+            int wage = random.nextInt(1, 1_000_000);
+
+            // when & then
+            assertThat(rates.pay(hours, wage, PayRates.BASE)).isEqualTo((long) hours * wage);
+            assertThat(rates.pay(hours, wage, PayRates.OVERTIME)).isEqualTo((long) (hours * (double) wage * 0.5));
+            assertThat(rates.pay(hours, wage, PayRates.HOLIDAY_OVERTIME)).isEqualTo((long) hours * wage);
+            int weekHours = Math.min(hours, 40);
+            assertThat(rates.pay(weekHours, wage, PayRates.WEEKLY_HOLIDAY)).isEqualTo((long) weekHours * 8 * wage / 40);
+        }
+    }
+
+    @Test
+    @DisplayName("분 단위 금액은 시간 단위로 나누기 전에 반올림하지 않는다")
+    void pay_minuteUnits() {
+        // given
+        PayRates rates = new PayRates(RoundingMode.HALF_UP);
+
+        // when & then - 10,001원 × 90분 = 15,001.5원, 연장 50% = 7,500.75원
+        assertThat(rates.pay(90, 10_001, PayRates.BASE, 60)).isEqualTo(15_002);
+        assertThat(rates.pay(90, 10_001, PayRates.OVERTIME, 60)).isEqualTo(7_501);
+        assertThat(rates.pay(120, 10_001, PayRates.BASE, 60)).isEqualTo(rates.pay(2, 10_001, PayRates.BASE));
+    }
+}
@@ -0,0 +1,105 @@
+package com.payroll.calculator.service;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.payroll.calculator.audit.PayrollAuditLogger;
+import com.payroll.calculator.dto.PayrollRequest;
+import com.payroll.calculator.dto.WorkRecordRequest;
+import com.payroll.calculator.exception.PayrollException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AuditedPayrollServiceTest {
+
+    private final Logger auditLogger = (Logger) LoggerFactory.getLogger("payroll.audit");
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        auditLogger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        auditLogger.detachAppender(appender);
+    }
+
+    @Test
+    @DisplayName("FULL 모드 - 모든 요청을 key=value 한 줄로 기록")
+    void full_recordsEveryRequest() {
+        // given
+        PayrollService service = create(PayrollAuditLogger.Mode.FULL, 0.0);
+        PayrollRequest request = createRequest(10000, 2025, 1, createWorkRecord(6, 9, 6, 18));
+
+        // when
+        service.calculate(request);
+        service.calculate(request);
+
+        // then
+        assertThat(appender.list).hasSize(2);
+        assertThat(appender.list.get(0).getFormattedMessage())
+                .startsWith("calc engine=map ym=2025-1 wage=10000 records=1 hours=9.0 total=");
+    }
+
+    @Test
+    @DisplayName("FULL 모드 - 실패한 요청은 상태 코드와 함께 기록")
+    void full_recordsFailure() {
+        // given - 2월 30일
+        PayrollService service = create(PayrollAuditLogger.Mode.FULL, 0.0);
+        PayrollRequest request = createRequest(10000, 2025, 2, createWorkRecord(28, 9, 30, 9));
+
+        // when & then
+        assertThatThrownBy(() -> service.calculate(request)).isInstanceOf(PayrollException.class);
+        assertThat(appender.list).hasSize(1);
+        assertThat(appender.list.get(0).getFormattedMessage()).contains("fail engine=map").contains("status=400");
+    }
+
+    @Test
+    @DisplayName("SAMPLED 모드 - 비율 0 이면 기록 안 함, 1 이면 모두 기록")
+    void sampled_respectsRate() {
+        // given
+        PayrollRequest request = createRequest(10000, 2025, 1, createWorkRecord(6, 9, 6, 18));
+
+        // when
+        create(PayrollAuditLogger.Mode.SAMPLED, 0.0).calculate(request);
+        create(PayrollAuditLogger.Mode.OFF, 1.0).calculate(request);
+        int before = appender.list.size();
+        create(PayrollAuditLogger.Mode.SAMPLED, 1.0).calculate(request);
+
+        // then
+        assertThat(before).isZero();
+        assertThat(appender.list).hasSize(1);
+    }
+
+    private PayrollService create(PayrollAuditLogger.Mode mode, double samplingRate) {
+        return new AuditedPayrollService(new PayrollServiceImpl(), "map", new PayrollAuditLogger(mode, samplingRate));
+    }
+
+    private PayrollRequest createRequest(int wage, int year, int month, WorkRecordRequest... records) {
+        PayrollRequest request = new PayrollRequest();
+        request.setRecords(List.of(records));
+        request.setWage(wage);
+        request.setYear(year);
+        request.setMonth(month);
+        return request;
+    }
+
+    private WorkRecordRequest createWorkRecord(int startDay, int startHour, int endDay, int endHour) {
+        WorkRecordRequest record = new WorkRecordRequest();
+        record.setStartDay(startDay);
+        record.setStartHour(startHour);
+        record.setEndDay(endDay);
+        record.setEndHour(endHour);
+        return record;
+    }
+}
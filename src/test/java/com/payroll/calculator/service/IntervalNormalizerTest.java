@@ -0,0 +1,171 @@
+package com.payroll.calculator.service;
+
+import com.payroll.calculator.dto.PackedPayrollRequest;
+import com.payroll.calculator.dto.PayrollRequest;
+import com.payroll.calculator.dto.PayrollResponse;
+import com.payroll.calculator.dto.WorkRecordRequest;
+import com.payroll.calculator.exception.PayrollValidationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IntervalNormalizerTest {
+
+    @Test
+    @DisplayName("MERGE - 정렬 후 겹치거나 맞닿은 구간을 합친다")
+    void normalize_merge() {
+        // given: 18~23시, 9~13시, 12~15시, 15~16시
+        PackedPayrollRequest request = PackedPayrollRequest.from(createRequest(10000, 2025, 1,
+                createWorkRecord(15, 18, 15, 23),
+                createWorkRecord(15, 9, 15, 13),
+                createWorkRecord(15, 12, 15, 15),
+                createWorkRecord(15, 15, 15, 16)));
+
+        // when
+        PackedPayrollRequest normalized = IntervalNormalizer.normalize(request, OverlapPolicy.MERGE);
+
+        // then: 9~16시, 18~23시
+        assertThat(normalized.recordCount()).isEqualTo(2);
+        assertThat(normalized.startHour(0)).isEqualTo(9);
+        assertThat(normalized.endHour(0)).isEqualTo(16);
+        assertThat(normalized.startHour(1)).isEqualTo(18);
+        assertThat(normalized.endHour(1)).isEqualTo(23);
+        assertThat(normalized.getWage()).isEqualTo(10000);
+    }
+
+    @Test
+    @DisplayName("REJECT - 겹치는 기록은 뒤 번호 기록을 보고, 맞닿은 기록은 허용")
+    void normalize_reject() {
+        // given
+        PackedPayrollRequest overlapping = PackedPayrollRequest.from(createRequest(10000, 2025, 1,
+                createWorkRecord(5, 12, 5, 13),
+                createWorkRecord(5, 8, 5, 20)));
+        PackedPayrollRequest touching = PackedPayrollRequest.from(createRequest(10000, 2025, 1,
+                createWorkRecord(5, 8, 5, 12),
+                createWorkRecord(5, 12, 5, 20)));
+
+        // when & then
+        assertThatThrownBy(() -> IntervalNormalizer.normalize(overlapping, OverlapPolicy.REJECT))
+                .isInstanceOf(PayrollValidationException.class)
+                .hasMessage("records[1]: records[0] 와 근무 시간이 겹칩니다.");
+        assertThat(IntervalNormalizer.normalize(touching, OverlapPolicy.REJECT).recordCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("COUNT - 요청을 그대로 전달")
+    void normalize_count() {
+        // given
+        PackedPayrollRequest request = PackedPayrollRequest.from(createRequest(10000, 2025, 1,
+                createWorkRecord(5, 8, 5, 20),
+                createWorkRecord(5, 12, 5, 13)));
+
+        // when & then
+        assertThat(IntervalNormalizer.normalize(request, OverlapPolicy.COUNT)).isSameAs(request);
+    }
+
+    @Test
+    @DisplayName("MERGE 정규화 후에는 집계 방식이 다른 엔진도 같은 결과")
+    void normalize_mergeMakesEnginesAgree() {
+        // given: 같은 날 9~18시와 12~22시, 일요일 20시 ~ 월요일 02시 중복 제출
+        PayrollRequest request = createRequest(10000, 2025, 1,
+                createWorkRecord(2, 9, 2, 18),
+                createWorkRecord(2, 12, 2, 22),
+                createWorkRecord(5, 20, 6, 2),
+                createWorkRecord(5, 20, 6, 2));
+        List<PayrollService> engines = List.of(
+                new PayrollServiceImpl(),
+                new PayrollServicePrimitiveImpl(),
+                new PayrollServiceBitsetImpl(),
+                new PayrollServiceIntervalImpl());
+
+        // when
+        List<PayrollResponse> responses = engines.stream()
+                .map(engine -> (PayrollService) new NormalizingPayrollService(engine, OverlapPolicy.MERGE))
+                .map(service -> service.calculate(request))
+                .toList();
+
+        // then: 13시간 + 6시간
+        assertThat(responses.get(0).getTotalWorkHours()).isEqualTo(19.0);
+        assertThat(responses).allSatisfy(response -> assertThat(response).isEqualTo(responses.get(0)));
+    }
+
+    @Test
+    @DisplayName("분 단위 요청도 분 단위로 병합하고, 겹침은 1분이라도 보고")
+    void normalize_minuteResolution() {
+        // given: 9:00 ~ 10:30, 10:15 ~ 11:00 / 9:00 ~ 10:30, 10:30 ~ 11:00
+        PackedPayrollRequest overlapping = PackedPayrollRequest.from(createRequest(10000, 2025, 1,
+                createWorkRecord(15, 9, 0, 15, 10, 30),
+                createWorkRecord(15, 10, 15, 15, 11, 0)));
+        PackedPayrollRequest touching = PackedPayrollRequest.from(createRequest(10000, 2025, 1,
+                createWorkRecord(15, 9, 0, 15, 10, 30),
+                createWorkRecord(15, 10, 30, 15, 11, 0)));
+
+        // when
+        PackedPayrollRequest merged = IntervalNormalizer.normalize(overlapping, OverlapPolicy.MERGE);
+
+        // then
+        assertThat(merged.isMinuteResolution()).isTrue();
+        assertThat(merged.recordCount()).isEqualTo(1);
+        assertThat(merged.startHour(0)).isEqualTo(9);
+        assertThat(merged.endHour(0)).isEqualTo(11);
+        assertThat(merged.endMinute(0)).isEqualTo(0);
+        assertThatThrownBy(() -> IntervalNormalizer.normalize(overlapping, OverlapPolicy.REJECT))
+                .isInstanceOf(PayrollValidationException.class)
+                .hasMessage("records[1]: records[0] 와 근무 시간이 겹칩니다.");
+        assertThat(IntervalNormalizer.normalize(touching, OverlapPolicy.REJECT).recordCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("REJECT - 분 단위 월말 기록(시작 32768분 이상)도 시작 순으로 비교")
+    void normalize_rejectLateMonthMinutes() {
+        // given: 28일 18:40 = 40000분 → 정렬 키의 부호 비트가 켜진다
+        PackedPayrollRequest separate = PackedPayrollRequest.from(createRequest(10000, 2025, 1,
+                createWorkRecord(28, 18, 40, 28, 19, 40),
+                createWorkRecord(1, 0, 0, 1, 1, 0)));
+        PackedPayrollRequest overlapping = PackedPayrollRequest.from(createRequest(10000, 2025, 1,
+                createWorkRecord(1, 0, 0, 1, 1, 0),
+                createWorkRecord(28, 18, 40, 28, 19, 40),
+                createWorkRecord(28, 19, 10, 28, 20, 0)));
+
+        // when
+        PackedPayrollRequest normalized = IntervalNormalizer.normalize(separate, OverlapPolicy.REJECT);
+
+        // then
+        assertThat(normalized.recordCount()).isEqualTo(2);
+        assertThat(normalized.startDay(0)).isEqualTo(1);
+        assertThat(normalized.startDay(1)).isEqualTo(28);
+        assertThatThrownBy(() -> IntervalNormalizer.normalize(overlapping, OverlapPolicy.REJECT))
+                .isInstanceOf(PayrollValidationException.class)
+                .hasMessage("records[2]: records[1] 와 근무 시간이 겹칩니다.");
+    }
+
+    private PayrollRequest createRequest(int wage, int year, int month, WorkRecordRequest... records) {
+        PayrollRequest request = new PayrollRequest();
+        request.setRecords(List.of(records));
+        request.setWage(wage);
+        request.setYear(year);
+        request.setMonth(month);
+        return request;
+    }
+
+    private WorkRecordRequest createWorkRecord(int startDay, int startHour, int endDay, int endHour) {
+        WorkRecordRequest record = new WorkRecordRequest();
+        record.setStartDay(startDay);
+        record.setStartHour(startHour);
+        record.setEndDay(endDay);
+        record.setEndHour(endHour);
+        return record;
+    }
+
+    private WorkRecordRequest createWorkRecord(int startDay, int startHour, int startMinute,
+                                               int endDay, int endHour, int endMinute) {
+        WorkRecordRequest record = createWorkRecord(startDay, startHour, endDay, endHour);
+        record.setStartMinute(startMinute);
+        record.setEndMinute(endMinute);
+        return record;
+    }
+}
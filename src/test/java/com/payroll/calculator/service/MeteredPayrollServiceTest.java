@@ -0,0 +1,73 @@
+package com.payroll.calculator.service;
+
+import com.payroll.calculator.dto.PayrollRequest;
+import com.payroll.calculator.dto.WorkRecordRequest;
+import com.payroll.calculator.exception.PayrollException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MeteredPayrollServiceTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final PayrollService payrollService =
+            new MeteredPayrollService(new PayrollServiceImpl(), "map", registry);
+
+    @Test
+    @DisplayName("성공 시 엔진별 지연 시간과 기록 수/근무 시간 분포를 기록")
+    void calculate_success_recorded() {
+        // given
+        PayrollRequest request = createRequest(10000, 2025, 1,
+                createWorkRecord(6, 9, 6, 18), createWorkRecord(7, 9, 7, 13));
+
+        // when
+        payrollService.calculate(request);
+
+        // then
+        Timer timer = registry.get("payroll.calculation").tags("engine", "map", "outcome", "success").timer();
+        assertThat(timer.count()).isEqualTo(1);
+        DistributionSummary records = registry.get("payroll.request.records").summary();
+        assertThat(records.totalAmount()).isEqualTo(2.0);
+        DistributionSummary hours = registry.get("payroll.request.hours").summary();
+        assertThat(hours.totalAmount()).isEqualTo(13.0);
+    }
+
+    @Test
+    @DisplayName("실패 시 failure 타이머만 기록하고 예외를 그대로 던진다")
+    void calculate_failure_recorded() {
+        // given - 2월 30일
+        PayrollRequest request = createRequest(10000, 2025, 2, createWorkRecord(28, 9, 30, 9));
+
+        // when & then
+        assertThatThrownBy(() -> payrollService.calculate(request))
+                .isInstanceOf(PayrollException.class);
+        assertThat(registry.get("payroll.calculation").tags("outcome", "failure").timer().count()).isEqualTo(1);
+        assertThat(registry.get("payroll.calculation").tags("outcome", "success").timer().count()).isZero();
+        assertThat(registry.get("payroll.request.records").summary().count()).isZero();
+    }
+
+    private PayrollRequest createRequest(int wage, int year, int month, WorkRecordRequest... records) {
+        PayrollRequest request = new PayrollRequest();
+        request.setRecords(List.of(records));
+        request.setWage(wage);
+        request.setYear(year);
+        request.setMonth(month);
+        return request;
+    }
+
+    private WorkRecordRequest createWorkRecord(int startDay, int startHour, int endDay, int endHour) {
+        WorkRecordRequest record = new WorkRecordRequest();
+        record.setStartDay(startDay);
+        record.setStartHour(startHour);
+        record.setEndDay(endDay);
+        record.setEndHour(endHour);
+        return record;
+    }
+}
@@ -0,0 +1,101 @@
+package com.payroll.calculator.service;
+
+import com.payroll.calculator.dto.PayrollRequest;
+import com.payroll.calculator.dto.PayrollResponse;
+import com.payroll.calculator.dto.WorkRecordRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OopPayrollServiceTest {
+
+    private final PayrollService perPolicy = new OopPayrollService(OopPayrollService.EvaluationMode.PER_POLICY);
+    private final PayrollService fused = new OopPayrollService(OopPayrollService.EvaluationMode.FUSED);
+
+    @Test
+    @DisplayName("단일 순회 모드는 정책별 순회와 같은 결과")
+    void fused_sameAsPerPolicy() {
+        Random random = new Random(7);
+        for (int i = 0; i < 500; i++) {
+            // given: 2025년 1월, 임의의 근무 기록 1~5개 (겹침 포함)
+            List<WorkRecordRequest> records = new ArrayList<>();
+            int count = 1 + random.nextInt(5);
+            for (int r = 0; r < count; r++) {
+                int start = random.nextInt(30 * 24);
+                int end = Math.min(31 * 24 - 1, start + 1 + random.nextInt(72));
+                records.add(createWorkRecord(start / 24 + 1, start % 24, end / 24 + 1, end % 24));
+            }
+            PayrollRequest request = createRequest(9860 + random.nextInt(5000), 2025, 1, records);
+
+            // when & then
+            assertThat(fused.calculate(request)).isEqualTo(perPolicy.calculate(request));
+        }
+    }
+
+    @Test
+    @DisplayName("단일 순회 모드 - 일요일 10시간 근무")
+    void fused_holiday_10hours() {
+        // given: 2025년 1월 5일 = 일요일
+        PayrollRequest request = createRequest(10000, 2025, 1,
+                List.of(createWorkRecord(5, 9, 5, 19)));
+
+        // when & then
+        assertThat(fused.calculate(request).getHolidayPay()).isEqualTo(60000);
+        assertThat(fused.calculate(request).getOvertimeHours()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("총액은 항목별로 원 미만을 버린 금액의 합")
+    void calculate_totalIsSumOfTruncatedComponents() {
+        // given: 2025년 1월 2일(목) 8시 ~ 23시, 시급 10,001원 → 연장 7시간, 야간 1시간
+        PayrollRequest request = createRequest(10001, 2025, 1,
+                List.of(createWorkRecord(2, 8, 2, 23)));
+
+        for (PayrollService service : List.of(perPolicy, fused)) {
+            // when
+            PayrollResponse response = service.calculate(request);
+
+            // then: 150,015 + 35,003(.5) + 5,000(.5) + 주휴 30,003
+            assertThat(response.getOvertimePay()).isEqualTo(35003);
+            assertThat(response.getNightPay()).isEqualTo(5000);
+            assertThat(response.getTotalPay()).isEqualTo(220021);
+        }
+    }
+
+    @Test
+    @DisplayName("주휴수당은 주마다 원 미만을 버린다")
+    void calculate_weeklyHolidayTruncatedPerWeek() {
+        // given: 2025년 1월 6일 주, 13일 주 각각 8 + 8 + 3 = 19시간, 시급 10,001원
+        PayrollRequest request = createRequest(10001, 2025, 1, List.of(
+                createWorkRecord(6, 9, 6, 17), createWorkRecord(7, 9, 7, 17), createWorkRecord(8, 9, 8, 12),
+                createWorkRecord(13, 9, 13, 17), createWorkRecord(14, 9, 14, 17), createWorkRecord(15, 9, 15, 12)));
+
+        for (PayrollService service : List.of(perPolicy, fused)) {
+            // when & then: 19 × 8 × 10,001 / 40 = 38,003.8 → 주마다 38,003
+            assertThat(service.calculate(request).getWeeklyHolidayPay()).isEqualTo(76006);
+        }
+    }
+
+    private PayrollRequest createRequest(int wage, int year, int month, List<WorkRecordRequest> records) {
+        PayrollRequest request = new PayrollRequest();
+        request.setRecords(records);
+        request.setWage(wage);
+        request.setYear(year);
+        request.setMonth(month);
+        return request;
+    }
+
+    private WorkRecordRequest createWorkRecord(int startDay, int startHour, int endDay, int endHour) {
+        WorkRecordRequest record = new WorkRecordRequest();
+        record.setStartDay(startDay);
+        record.setStartHour(startHour);
+        record.setEndDay(endDay);
+        record.setEndHour(endHour);
+        return record;
+    }
+}
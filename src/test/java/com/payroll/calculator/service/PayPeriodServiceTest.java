@@ -0,0 +1,245 @@
+package com.payroll.calculator.service;
+
+import com.payroll.calculator.calendar.MonthCalendarCache;
+import com.payroll.calculator.dto.PayPeriodRequest;
+import com.payroll.calculator.dto.PayPeriodResponse;
+import com.payroll.calculator.dto.PayrollRequest;
+import com.payroll.calculator.dto.PayrollResponse;
+import com.payroll.calculator.dto.PeriodWorkRecordRequest;
+import com.payroll.calculator.dto.WorkRecordRequest;
+import com.payroll.calculator.exception.PayrollValidationException;
+import com.payroll.calculator.money.PayRates;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PayPeriodServiceTest {
+
+    private final PayPeriodService payPeriodService =
+            new PayPeriodService(MonthCalendarCache.shared(), OverlapPolicy.REJECT);
+
+    @Test
+    @DisplayName("월과 같은 기간(월요일~일요일)은 월 단위 엔진과 같은 결과")
+    void calculate_sameAsMonth() {
+        // given: 2021년 2월은 1일(월) ~ 28일(일), 야간/연장/일요일/다음 달 1일 0시 종료 포함
+        PayPeriodRequest request = createRequest(10000, "2021-02-01", "2021-02-28", 0,
+                createWorkRecord("2021-02-01T09:00", "2021-02-01T19:00"),
+                createWorkRecord("2021-02-03T20:00", "2021-02-04T04:00"),
+                createWorkRecord("2021-02-11T09:00", "2021-02-11T20:00"),
+                createWorkRecord("2021-02-16T09:00", "2021-02-16T18:00"),
+                createWorkRecord("2021-02-17T09:00", "2021-02-17T18:00"),
+                createWorkRecord("2021-02-27T18:00", "2021-03-01T00:00"));
+        PayrollRequest monthRequest = createMonthRequest(10000, 2021, 2,
+                createMonthRecord(1, 9, 1, 19),
+                createMonthRecord(3, 20, 4, 4),
+                createMonthRecord(11, 9, 11, 20),
+                createMonthRecord(16, 9, 16, 18),
+                createMonthRecord(17, 9, 17, 18),
+                createMonthRecord(27, 18, 29, 0));
+
+        // when
+        PayPeriodResponse response = payPeriodService.calculate(request);
+        PayrollResponse expected = new PayrollServiceImpl(MonthCalendarCache.shared()).calculate(monthRequest);
+
+        // then
+        assertThat(response.getPayroll()).usingRecursiveComparison().isEqualTo(expected);
+        assertThat(response.getOpenWeekStart()).isNull();
+        assertThat(response.getOpenWeekHours()).isZero();
+    }
+
+    @Test
+    @DisplayName("월 경계에 걸친 주는 나누지 않고 한 주로 주휴수당 판단")
+    void calculate_weekAcrossMonthBoundary() {
+        // given: 격주 2025-03-24(월) ~ 04-06(일), 2주차 3월 31일(월) 8시간 + 4월 1일(화) 8시간
+        PayPeriodRequest request = createRequest(10000, "2025-03-24", "2025-04-06", 0,
+                createWorkRecord("2025-03-31T09:00", "2025-03-31T17:00"),
+                createWorkRecord("2025-04-01T09:00", "2025-04-01T17:00"));
+
+        // when
+        PayPeriodResponse response = payPeriodService.calculate(request);
+
+        // then: 2주차 16시간 → (16 / 40) * 8 * 10000, 달별로 나누면 8시간씩이라 주휴수당 없음
+        assertThat(response.getPayroll().getTotalWorkHours()).isEqualTo(16.0);
+        assertThat(response.getPayroll().getWeeklyHolidayPay()).isEqualTo(32000);
+        assertThat(response.getPayroll().getTotalPay()).isEqualTo(160000 + 32000);
+    }
+
+    @Test
+    @DisplayName("기간 앞뒤로 걸친 주는 이월 시간을 더하고 열린 주는 다음 기간으로 넘김")
+    void calculate_carriedAndOpenWeek() {
+        // given: 2025-04-02(수) ~ 04-08(화), 이전 기간에 같은 주 10시간 근무
+        PayPeriodRequest request = createRequest(10000, "2025-04-02", "2025-04-08", 10,
+                createWorkRecord("2025-04-03T09:00", "2025-04-03T17:00"),
+                createWorkRecord("2025-04-07T09:00", "2025-04-07T15:00"));
+
+        // when
+        PayPeriodResponse response = payPeriodService.calculate(request);
+
+        // then: 첫 주 10 + 8 = 18시간 → (18 / 40) * 8 * 10000, 4월 7일(월)부터의 주는 6시간 열린 채로 넘김
+        assertThat(response.getPayroll().getTotalWorkHours()).isEqualTo(14.0);
+        assertThat(response.getPayroll().getWeeklyHolidayPay()).isEqualTo(36000);
+        assertThat(response.getOpenWeekStart()).isEqualTo(LocalDate.of(2025, 4, 7));
+        assertThat(response.getOpenWeekHours()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("5주(35일) 기간도 일수에만 비례해 계산")
+    void calculate_fiveWeekPeriod() {
+        // given: 4-4-5 의 5주 기간 2025-06-02(월) ~ 07-06(일), 기간 전체 단일 기록
+        PayPeriodRequest request = createRequest(10000, "2025-06-02", "2025-07-06", 0,
+                createWorkRecord("2025-06-02T00:00", "2025-07-07T00:00"));
+
+        // when
+        PayPeriodResponse response = payPeriodService.calculate(request);
+
+        // then: 35일 * 24시간, 주 5개 모두 40시간 상한
+        assertThat(response.getPayroll().getTotalWorkHours()).isEqualTo(35 * 24.0);
+        assertThat(response.getPayroll().getNightHours()).isEqualTo(35 * 8.0);
+        assertThat(response.getPayroll().getOvertimeHours()).isEqualTo(35 * 16.0);
+        assertThat(response.getPayroll().getWeeklyHolidayPay()).isEqualTo(5 * 80000);
+    }
+
+    @Test
+    @DisplayName("분이 있는 기록은 월 단위 구간 엔진과 같은 분 단위 결과")
+    void calculate_minutes_sameAsMonth() {
+        // given: 2021년 2월 기간, 야간 경계와 다음 달 1일 0시 종료를 분 단위로 포함
+        PayPeriodRequest request = createRequest(10000, "2021-02-01", "2021-02-28", 0,
+                createWorkRecord("2021-02-01T08:45", "2021-02-01T17:30"),
+                createWorkRecord("2021-02-03T21:15", "2021-02-04T06:40"),
+                createWorkRecord("2021-02-14T09:00", "2021-02-14T18:20"),
+                createWorkRecord("2021-02-27T23:50", "2021-03-01T00:00"));
+        PayrollRequest monthRequest = createMonthRequest(10000, 2021, 2,
+                createMonthRecord(1, 8, 45, 1, 17, 30),
+                createMonthRecord(3, 21, 15, 4, 6, 40),
+                createMonthRecord(14, 9, 0, 14, 18, 20),
+                createMonthRecord(27, 23, 50, 29, 0, 0));
+
+        // when
+        PayPeriodResponse response = payPeriodService.calculate(request);
+        PayrollResponse expected = new PayrollServiceIntervalImpl(MonthCalendarCache.shared()).calculate(monthRequest);
+
+        // then
+        assertThat(response.getPayroll()).usingRecursiveComparison().isEqualTo(expected);
+        assertThat(response.getPayroll().getTotalWorkHours()).isEqualTo(8.75 + 9 + 5.0 / 12 + 9 + 1.0 / 3 + 24 + 1.0 / 6);
+    }
+
+    @Test
+    @DisplayName("COUNT 정책에서는 겹친 시간을 월 단위 구간 엔진과 같게 겹친 만큼 집계")
+    void calculate_countPolicy_sameAsMonth() {
+        // given: 같은 날 9~18시, 17~20시 겹침 + 야간 겹침
+        PayPeriodService countService = new PayPeriodService(MonthCalendarCache.shared(), OverlapPolicy.COUNT);
+        PayPeriodRequest request = createRequest(10000, "2021-02-01", "2021-02-28", 0,
+                createWorkRecord("2021-02-02T09:00", "2021-02-02T18:00"),
+                createWorkRecord("2021-02-02T17:00", "2021-02-02T20:00"),
+                createWorkRecord("2021-02-05T21:00", "2021-02-06T02:00"),
+                createWorkRecord("2021-02-05T23:00", "2021-02-06T01:00"));
+        PayrollRequest monthRequest = createMonthRequest(10000, 2021, 2,
+                createMonthRecord(2, 9, 2, 18),
+                createMonthRecord(2, 17, 2, 20),
+                createMonthRecord(5, 21, 6, 2),
+                createMonthRecord(5, 23, 6, 1));
+
+        // when
+        PayPeriodResponse response = countService.calculate(request);
+        PayrollResponse expected = new PayrollServiceIntervalImpl(
+                MonthCalendarCache.shared(), PayRates.standard(), OverlapPolicy.COUNT).calculate(monthRequest);
+
+        // then: 9 + 3 + 5 + 2 = 19시간, 2일 12시간 → 연장 4시간
+        assertThat(response.getPayroll()).usingRecursiveComparison().isEqualTo(expected);
+        assertThat(response.getPayroll().getTotalWorkHours()).isEqualTo(19.0);
+        assertThat(response.getPayroll().getOvertimeHours()).isEqualTo(4.0);
+    }
+
+    @Test
+    @DisplayName("열린 주의 분은 openWeekMinutes 로 넘기고 다음 기간의 carriedWeekMinutes 로 이어감")
+    void calculate_openAndCarriedWeekMinutes() {
+        // given: 2025-04-07(월) ~ 04-09(수) 8시간 30분, 다음 기간 04-10(목) ~ 04-13(일) 7시간
+        PayPeriodRequest firstPeriod = createRequest(10000, "2025-04-07", "2025-04-09", 0,
+                createWorkRecord("2025-04-08T09:00", "2025-04-08T17:30"));
+        PayPeriodResponse firstResponse = payPeriodService.calculate(firstPeriod);
+        PayPeriodRequest secondPeriod = createRequest(10000, "2025-04-10", "2025-04-13", firstResponse.getOpenWeekHours(),
+                createWorkRecord("2025-04-10T09:00", "2025-04-10T16:00"));
+        secondPeriod.setCarriedWeekMinutes(firstResponse.getOpenWeekMinutes());
+
+        // when
+        PayPeriodResponse secondResponse = payPeriodService.calculate(secondPeriod);
+
+        // then: 주 15시간 30분 → (15.5 / 40) * 8 * 10000
+        assertThat(firstResponse.getOpenWeekHours()).isEqualTo(8);
+        assertThat(firstResponse.getOpenWeekMinutes()).isEqualTo(30);
+        assertThat(secondResponse.getPayroll().getTotalWorkHours()).isEqualTo(7.0);
+        assertThat(secondResponse.getPayroll().getWeeklyHolidayPay()).isEqualTo(31000);
+    }
+
+    @Test
+    @DisplayName("기간 밖 근무, 겹치는 근무, 월요일 시작 기간의 이월 시간은 검증 실패")
+    void calculate_fail_invalid() {
+        PayPeriodRequest outOfPeriod = createRequest(10000, "2025-04-07", "2025-04-13", 0,
+                createWorkRecord("2025-04-13T20:00", "2025-04-14T02:00"));
+        PayPeriodRequest overlapping = createRequest(10000, "2025-04-07", "2025-04-13", 0,
+                createWorkRecord("2025-04-08T09:00", "2025-04-08T18:00"),
+                createWorkRecord("2025-04-08T17:00", "2025-04-08T20:00"));
+        PayPeriodRequest carriedOnMonday = createRequest(10000, "2025-04-07", "2025-04-13", 5,
+                createWorkRecord("2025-04-08T09:00", "2025-04-08T18:00"));
+
+        assertThatThrownBy(() -> payPeriodService.calculate(outOfPeriod))
+                .isInstanceOf(PayrollValidationException.class)
+                .hasMessage("records[0]: 급여 기간 밖의 근무입니다.");
+        assertThatThrownBy(() -> payPeriodService.calculate(overlapping))
+                .isInstanceOf(PayrollValidationException.class)
+                .hasMessage("records[1]: records[0] 와 근무 시간이 겹칩니다.");
+        assertThatThrownBy(() -> payPeriodService.calculate(carriedOnMonday))
+                .isInstanceOf(PayrollValidationException.class)
+                .hasFieldOrPropertyWithValue("field", "carriedWeekHours");
+    }
+
+    private PayPeriodRequest createRequest(int wage, String periodStart, String periodEnd, int carriedWeekHours,
+                                           PeriodWorkRecordRequest... records) {
+        PayPeriodRequest request = new PayPeriodRequest();
+        request.setRecords(List.of(records));
+        request.setWage(wage);
+        request.setPeriodStart(LocalDate.parse(periodStart));
+        request.setPeriodEnd(LocalDate.parse(periodEnd));
+        request.setCarriedWeekHours(carriedWeekHours);
+        return request;
+    }
+
+    private PeriodWorkRecordRequest createWorkRecord(String start, String end) {
+        PeriodWorkRecordRequest record = new PeriodWorkRecordRequest();
+        record.setStart(LocalDateTime.parse(start));
+        record.setEnd(LocalDateTime.parse(end));
+        return record;
+    }
+
+    private PayrollRequest createMonthRequest(int wage, int year, int month, WorkRecordRequest... records) {
+        PayrollRequest request = new PayrollRequest();
+        request.setRecords(List.of(records));
+        request.setWage(wage);
+        request.setYear(year);
+        request.setMonth(month);
+        return request;
+    }
+
+    private WorkRecordRequest createMonthRecord(int startDay, int startHour, int startMinute,
+                                                int endDay, int endHour, int endMinute) {
+        WorkRecordRequest record = createMonthRecord(startDay, startHour, endDay, endHour);
+        record.setStartMinute(startMinute);
+        record.setEndMinute(endMinute);
+        return record;
+    }
+
+    private WorkRecordRequest createMonthRecord(int startDay, int startHour, int endDay, int endHour) {
+        WorkRecordRequest record = new WorkRecordRequest();
+        record.setStartDay(startDay);
+        record.setStartHour(startHour);
+        record.setEndDay(endDay);
+        record.setEndHour(endHour);
+        return record;
+    }
+}
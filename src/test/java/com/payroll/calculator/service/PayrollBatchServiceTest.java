@@ -0,0 +1,165 @@
+package com.payroll.calculator.service;
+
+import com.payroll.calculator.config.PayrollBatchProperties;
+import com.payroll.calculator.dto.PayrollBatchResponse;
+import com.payroll.calculator.dto.PayrollRequest;
+import com.payroll.calculator.dto.WorkRecordRequest;
+import com.payroll.calculator.exception.PayrollException;
+import com.payroll.calculator.validation.PayrollRequestValidator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PayrollBatchServiceTest {
+
+    private ExecutorService executor;
+    private PayrollBatchService batchService;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        batchService = new PayrollBatchService(
+                new PayrollServiceImpl(),
+                new PayrollRequestValidator(OverlapPolicy.MERGE),
+                executor,
+                new PayrollBatchProperties(100, 4, PayrollBatchProperties.ExecutorType.PLATFORM));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("가상 스레드 실행기 - 요청 순서대로 결과 반환")
+    void calculateAll_virtualThreads_keepsOrder() {
+        // given
+        List<PayrollRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            requests.add(createRequest(10000, 2025, 1, createWorkRecord(1, 0, 1, (i % 23) + 1)));
+        }
+
+        try (ExecutorService virtualExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+            PayrollBatchService virtualBatchService = new PayrollBatchService(
+                    new PayrollServiceImpl(),
+                    new PayrollRequestValidator(OverlapPolicy.MERGE),
+                    virtualExecutor,
+                    new PayrollBatchProperties(100, 4, PayrollBatchProperties.ExecutorType.VIRTUAL));
+
+            // when
+            PayrollBatchResponse response = virtualBatchService.calculateAll(requests);
+
+            // then
+            assertThat(response.getSuccessCount()).isEqualTo(50);
+            for (int i = 0; i < 50; i++) {
+                assertThat(response.getResults().get(i).getResult().getTotalWorkHours()).isEqualTo((i % 23) + 1);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("요청 순서대로 결과 반환")
+    void calculateAll_keepsOrder() {
+        // given: i번째 직원은 i+1 시간 근무
+        List<PayrollRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            requests.add(createRequest(10000, 2025, 1, createWorkRecord(1, 0, 1, (i % 23) + 1)));
+        }
+
+        // when
+        PayrollBatchResponse response = batchService.calculateAll(requests);
+
+        // then
+        assertThat(response.getSuccessCount()).isEqualTo(50);
+        for (int i = 0; i < 50; i++) {
+            assertThat(response.getResults().get(i).getIndex()).isEqualTo(i);
+            assertThat(response.getResults().get(i).getResult().getTotalWorkHours()).isEqualTo((i % 23) + 1);
+        }
+    }
+
+    @Test
+    @DisplayName("잘못된 건은 해당 건만 실패")
+    void calculateAll_isolatesFailures() {
+        // given
+        PayrollRequest noWage = createRequest(10000, 2025, 1, createWorkRecord(1, 9, 1, 18));
+        noWage.setWage(null);
+        PayrollRequest invalidDate = createRequest(10000, 2025, 2, createWorkRecord(30, 9, 30, 18)); // 2월 30일
+
+        List<PayrollRequest> requests = List.of(
+                createRequest(10000, 2025, 1, createWorkRecord(1, 9, 1, 18)),
+                noWage,
+                invalidDate);
+
+        // when
+        PayrollBatchResponse response = batchService.calculateAll(requests);
+
+        // then
+        assertThat(response.getSuccessCount()).isEqualTo(1);
+        assertThat(response.getFailureCount()).isEqualTo(2);
+        assertThat(response.getResults().get(0).getResult().getTotalPay()).isEqualTo(95000);
+        assertThat(response.getResults().get(1).getStatus()).isEqualTo(400);
+        assertThat(response.getResults().get(1).getMessage()).startsWith("wage");
+        assertThat(response.getResults().get(2).getStatus()).isEqualTo(400);
+    }
+
+    @Test
+    @DisplayName("REJECT 정책이면 근무 기록이 겹치는 건만 400")
+    void calculateAll_rejectOverlap_itemFailure() {
+        // given
+        PayrollBatchService rejecting = new PayrollBatchService(
+                new PayrollServiceImpl(),
+                new PayrollRequestValidator(OverlapPolicy.REJECT),
+                executor,
+                new PayrollBatchProperties(100, 4, PayrollBatchProperties.ExecutorType.PLATFORM));
+        List<PayrollRequest> requests = List.of(
+                createRequest(10000, 2025, 1, createWorkRecord(1, 9, 1, 18)),
+                createRequest(10000, 2025, 1, createWorkRecord(1, 9, 1, 18), createWorkRecord(1, 17, 1, 20)));
+
+        // when
+        PayrollBatchResponse response = rejecting.calculateAll(requests);
+
+        // then
+        assertThat(response.getSuccessCount()).isEqualTo(1);
+        assertThat(response.getResults().get(1).getStatus()).isEqualTo(400);
+        assertThat(response.getResults().get(1).getMessage()).startsWith("records");
+    }
+
+    @Test
+    @DisplayName("최대 건수 초과 시 예외")
+    void calculateAll_tooLarge() {
+        List<PayrollRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 101; i++) {
+            requests.add(createRequest(10000, 2025, 1, createWorkRecord(1, 9, 1, 18)));
+        }
+
+        assertThatThrownBy(() -> batchService.calculateAll(requests))
+                .isInstanceOf(PayrollException.class);
+    }
+
+    private PayrollRequest createRequest(int wage, int year, int month, WorkRecordRequest... records) {
+        PayrollRequest request = new PayrollRequest();
+        request.setRecords(List.of(records));
+        request.setWage(wage);
+        request.setYear(year);
+        request.setMonth(month);
+        return request;
+    }
+
+    private WorkRecordRequest createWorkRecord(int startDay, int startHour, int endDay, int endHour) {
+        WorkRecordRequest record = new WorkRecordRequest();
+        record.setStartDay(startDay);
+        record.setStartHour(startHour);
+        record.setEndDay(endDay);
+        record.setEndHour(endHour);
+        return record;
+    }
+}
@@ -0,0 +1,392 @@
+package com.payroll.calculator.service;
+
+import com.payroll.calculator.calendar.HolidayProvider;
+import com.payroll.calculator.calendar.MonthCalendar;
+import com.payroll.calculator.calendar.MonthCalendarCache;
+import com.payroll.calculator.dto.PayrollRequest;
+import com.payroll.calculator.dto.PayrollResponse;
+import com.payroll.calculator.dto.WorkRecordRequest;
+import com.payroll.calculator.money.PayRates;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+/**
+ * 엔진 간 차등 검사 - 무작위 요청을 모든 PayrollService 구현에 넣어 기준 엔진(PayrollServiceImpl)과 필드별로 비교
+ * - 월말(다음 달 1일 0시 종료), 일요일/휴일, 자정 걸침, 겹치는 기록을 일부러 많이 만든다
+ * - 운영과 같이 MERGE 정규화를 거친 뒤 비교하고, 불일치는 최소 사례로 줄여 시드/사례 번호와 함께 보고
+ * - COUNT 정책(정규화 없이 겹친 시간 중복 집계)도 같은 사례로 따로 비교한다
+ * - 사례는 시드 + 번호로 독립 생성되므로 청크 단위로 병렬 실행해도 결과가 같다
+ *
+ * CI 대량 실행: ./gradlew test --tests '*PayrollEngineDifferentialTest' -Ppayroll.diff.cases=5000000 -Ppayroll.diff.seed=42
+ */
+class PayrollEngineDifferentialTest {
+
+    private static final int CASES = Integer.getInteger("payroll.diff.cases", 20_000);
+    private static final long SEED = Long.getLong("payroll.diff.seed", 20250101L);
+    private static final int CHUNK_SIZE = 4_096;
+    private static final int MAX_REPORTED = 5;
+
+    private static final int HOURS_PER_DAY = MonthCalendar.HOURS_PER_DAY;
+
+    // 일요일 외에 월마다 두 날을 휴일로 지정해 휴일 가산과 주 경계가 겹치는 경우를 늘린다
+    private static final HolidayProvider HOLIDAYS = (year, month) ->
+            1 << ((year * 7 + month * 3) % 28) | 1 << ((year + month * 11) % 28);
+
+    private static final List<Field> FIELDS = List.of(
+            new Field("totalWorkHours", PayrollResponse::getTotalWorkHours),
+            new Field("overtimeHours", PayrollResponse::getOvertimeHours),
+            new Field("nightHours", PayrollResponse::getNightHours),
+            new Field("holidayHours", PayrollResponse::getHolidayHours),
+            new Field("basePay", PayrollResponse::getBasePay),
+            new Field("overtimePay", PayrollResponse::getOvertimePay),
+            new Field("nightPay", PayrollResponse::getNightPay),
+            new Field("holidayPay", PayrollResponse::getHolidayPay),
+            new Field("weeklyHolidayPay", PayrollResponse::getWeeklyHolidayPay),
+            new Field("totalPay", PayrollResponse::getTotalPay));
+
+    private final MonthCalendarCache calendars = new MonthCalendarCache(100 * 12, HOLIDAYS);
+    private final PayrollService reference = normalized(new PayrollServiceImpl(calendars), OverlapPolicy.MERGE);
+    private final List<Engine> engines = engines(reference, OverlapPolicy.MERGE);
+    private final PayrollService countingReference = normalized(new PayrollServiceImpl(calendars), OverlapPolicy.COUNT);
+    private final List<Engine> countingEngines = engines(countingReference, OverlapPolicy.COUNT);
+
+    @Test
+    @DisplayName("모든 엔진이 무작위 요청에서 기준 엔진과 필드별로 같은 결과")
+    void allEngines_agreeWithReference() {
+        assertAgreement(reference, engines);
+    }
+
+    @Test
+    @DisplayName("COUNT 정책 - 겹친 시간을 중복 집계해도 모든 엔진이 기준 엔진과 같은 결과")
+    void allEngines_countPolicy_agreeWithReference() {
+        assertAgreement(countingReference, countingEngines);
+    }
+
+    @Test
+    @DisplayName("주휴수당은 정수로 계산 - 시급 11,000원 주 23시간 = 50,600원 (double 계산은 50,599원)")
+    void allEngines_weeklyHolidayPayExact() {
+        // given: 2025년 1월 6일(월) ~ 8일(수) 8 + 8 + 7시간
+        PayrollRequest request = new Case(2025, 1, 11000, List.of(
+                new int[]{5 * 24 + 9, 5 * 24 + 17},
+                new int[]{6 * 24 + 9, 6 * 24 + 17},
+                new int[]{7 * 24 + 9, 7 * 24 + 16})).toRequest();
+
+        // when & then
+        assertThat(reference.calculate(request).getWeeklyHolidayPay()).isEqualTo(50600);
+        for (Engine engine : engines) {
+            assertThat(engine.service().calculate(request).getWeeklyHolidayPay()).as(engine.name()).isEqualTo(50600);
+        }
+    }
+
+    @Test
+    @DisplayName("불일치 사례는 기록 제거/구간 축소로 최소 사례까지 줄어든다")
+    void shrink_toMinimalCase() {
+        // given: 23시 근무가 있으면 야간 시간을 1 더 세는 엔진
+        PayrollService buggy = request -> {
+            PayrollResponse response = reference.calculate(request);
+            for (int r = 0; r < request.recordCount(); r++) {
+                if (request.start(r) % HOURS_PER_DAY + request.end(r) - request.start(r) > 23) {
+                    response.setNightHours(response.getNightHours() + 1);
+                    break;
+                }
+            }
+            return response;
+        };
+        Engine engine = new Engine("buggy", buggy, reference);
+        Case generated = new Case(2025, 1, 12345, List.of(
+                new int[]{0, 30},
+                new int[]{100, 110},
+                new int[]{4 * 24 + 20, 6 * 24 + 2},
+                new int[]{20 * 24 + 1, 20 * 24 + 9}));
+
+        // when
+        Case shrunk = shrink(engine, generated);
+
+        // then: 23시 한 시간짜리 기록 하나
+        assertThat(diverges(engine, generated)).isTrue();
+        assertThat(shrunk.intervals()).hasSize(1);
+        assertThat(shrunk.intervals().get(0)[1] - shrunk.intervals().get(0)[0]).isEqualTo(1);
+        assertThat(shrunk.intervals().get(0)[0] % HOURS_PER_DAY).isEqualTo(23);
+        assertThat(shrunk.wage()).isEqualTo(1);
+    }
+
+    /**
+     * 요청 생성 - 기록마다 모양을 골라 경계 사례 비중을 높인다
+     */
+    private Case generate(SplittableRandom random) {
+        int year = 2000 + random.nextInt(100);
+        int month = 1 + random.nextInt(12);
+        MonthCalendar calendar = calendars.get(year, month);
+        int monthHours = calendar.monthHours();
+        int wage = random.nextInt(4) == 0 ? 1 + random.nextInt(9) : 1 + random.nextInt(100_000);
+
+        int count = random.nextInt(10) == 0 ? 10 + random.nextInt(30) : 1 + random.nextInt(6);
+        List<int[]> intervals = new ArrayList<>(count);
+        for (int r = 0; r < count; r++) {
+            int start, length;
+            switch (random.nextInt(6)) {
+                case 0 -> { // 월말 - 다음 달 1일 0시 종료 포함
+                    start = monthHours - 1 - random.nextInt(48);
+                    length = monthHours - start - random.nextInt(3);
+                }
+                case 1 -> { // 자정 걸침
+                    start = random.nextInt(calendar.lengthOfMonth()) * HOURS_PER_DAY + 18 + random.nextInt(6);
+                    length = 2 + random.nextInt(12);
+                }
+                case 2 -> { // 일요일/휴일에 시작
+                    int day = 1 + random.nextInt(calendar.lengthOfMonth());
+                    while (!calendar.isHoliday(day)) {
+                        day = day % calendar.lengthOfMonth() + 1;
+                    }
+                    start = (day - 1) * HOURS_PER_DAY + random.nextInt(HOURS_PER_DAY);
+                    length = 1 + random.nextInt(36);
+                }
+                case 3 -> { // 직전 기록과 겹침
+                    int[] previous = intervals.isEmpty() ? new int[]{0, 1} : intervals.get(random.nextInt(intervals.size()));
+                    start = previous[0] + random.nextInt(previous[1] - previous[0]);
+                    length = 1 + random.nextInt(24);
+                }
+                case 4 -> { // 며칠 연속
+                    start = random.nextInt(monthHours);
+                    length = HOURS_PER_DAY + random.nextInt(10 * HOURS_PER_DAY);
+                }
+                default -> {
+                    start = random.nextInt(monthHours);
+                    length = 1 + random.nextInt(16);
+                }
+            }
+            start = Math.min(start, monthHours - 1);
+            intervals.add(new int[]{start, Math.min(monthHours, start + Math.max(1, length))});
+        }
+        return new Case(year, month, wage, intervals);
+    }
+
+    /**
+     * 불일치가 유지되는 한 기록 제거, 구간 축소, 시급 단순화를 반복
+     */
+    private Case shrink(Engine engine, Case failing) {
+        Case current = failing;
+        boolean shrunk = true;
+        while (shrunk) {
+            shrunk = false;
+            for (Case candidate : candidates(current)) {
+                if (diverges(engine, candidate)) {
+                    current = candidate;
+                    shrunk = true;
+                    break;
+                }
+            }
+        }
+        return current;
+    }
+
+    private List<Case> candidates(Case current) {
+        List<Case> candidates = new ArrayList<>();
+        List<int[]> intervals = current.intervals();
+        for (int r = 0; intervals.size() > 1 && r < intervals.size(); r++) {
+            List<int[]> removed = new ArrayList<>(intervals);
+            removed.remove(r);
+            candidates.add(current.withIntervals(removed));
+        }
+        for (int r = 0; r < intervals.size(); r++) {
+            int start = intervals.get(r)[0];
+            int end = intervals.get(r)[1];
+            int half = (end - start) / 2;
+            for (int[] interval : new int[][]{
+                    {start + half, end}, {start, end - half}, {start + 1, end}, {start, end - 1}}) {
+                if (interval[0] < interval[1] && (interval[0] != start || interval[1] != end)) {
+                    List<int[]> replaced = new ArrayList<>(intervals);
+                    replaced.set(r, interval);
+                    candidates.add(current.withIntervals(replaced));
+                }
+            }
+        }
+        for (int wage : new int[]{1, 10_000}) {
+            if (wage < current.wage()) {
+                candidates.add(new Case(current.year(), current.month(), wage, intervals));
+            }
+        }
+        return candidates;
+    }
+
+    private boolean diverges(Engine engine, Case candidate) {
+        PayrollRequest request = candidate.toRequest();
+        return !diff(Outcome.of(engine.reference(), request), Outcome.of(engine.service(), request)).isEmpty();
+    }
+
+    private String describe(Divergence divergence) {
+        Case shrunk = shrink(divergence.engine(), divergence.generated());
+        Outcome expected = Outcome.of(divergence.engine().reference(), shrunk.toRequest());
+        Outcome actual = Outcome.of(divergence.engine().service(), shrunk.toRequest());
+
+        StringBuilder description = new StringBuilder()
+                .append("- ").append(divergence.engine().name())
+                .append(" (case=").append(divergence.index()).append(") ")
+                .append(shrunk).append('\n');
+        for (String field : diff(expected, actual)) {
+            description.append("    ").append(field)
+                    .append(": expected=").append(expected.value(field))
+                    .append(", actual=").append(actual.value(field)).append('\n');
+        }
+        return description.toString();
+    }
+
+    private void assertAgreement(PayrollService reference, List<Engine> engines) {
+        // given
+        Queue<Divergence> divergences = new ConcurrentLinkedQueue<>();
+        AtomicInteger divergenceCount = new AtomicInteger();
+        int chunks = (CASES + CHUNK_SIZE - 1) / CHUNK_SIZE;
+
+        // when: 청크 단위 병렬 실행, 보고할 만큼 모이면 나머지 청크는 건너뜀
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            int from = chunk * CHUNK_SIZE;
+            int to = Math.min(CASES, from + CHUNK_SIZE);
+            for (int index = from; index < to && divergenceCount.get() < MAX_REPORTED; index++) {
+                Case generated = generate(new SplittableRandom(SEED ^ mix(index)));
+                PayrollRequest request = generated.toRequest();
+                Outcome expected = Outcome.of(reference, request);
+                for (Engine engine : engines) {
+                    List<String> fields = diff(expected, Outcome.of(engine.service(), request));
+                    if (!fields.isEmpty() && divergenceCount.incrementAndGet() <= MAX_REPORTED) {
+                        divergences.add(new Divergence(engine, index, generated));
+                    }
+                }
+            }
+        });
+
+        // then
+        if (!divergences.isEmpty()) {
+            StringBuilder report = new StringBuilder("엔진 결과 불일치 (seed=" + SEED + ")\n");
+            divergences.forEach(divergence -> report.append(describe(divergence)));
+            fail(report.toString());
+        }
+    }
+
+    private static List<String> diff(Outcome expected, Outcome actual) {
+        List<String> fields = new ArrayList<>();
+        if (!Objects.equals(expected.error(), actual.error())) {
+            fields.add("error");
+        }
+        if (expected.response() != null && actual.response() != null) {
+            for (Field field : FIELDS) {
+                if (!Objects.equals(field.value().apply(expected.response()), field.value().apply(actual.response()))) {
+                    fields.add(field.name());
+                }
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * 운영과 같이 겹침 정책을 정규화와 (정책을 받는) 엔진 양쪽에 똑같이 준다
+     */
+    private List<Engine> engines(PayrollService reference, OverlapPolicy policy) {
+        PayRates rates = PayRates.standard();
+        return List.of(
+                new Engine("primitive", normalized(new PayrollServicePrimitiveImpl(calendars), policy), reference),
+                new Engine("bitset", normalized(new PayrollServiceBitsetImpl(calendars, rates, policy), policy), reference),
+                new Engine("interval", normalized(new PayrollServiceIntervalImpl(calendars, rates, policy), policy), reference),
+                new Engine("timeline", normalized(new PayrollServiceTimelineImpl(calendars, rates, policy), policy), reference),
+                new Engine("legacy", normalized(new PayrollServiceLegacyImpl(calendars), policy), reference),
+                new Engine("oop", normalized(new OopPayrollService(OopPayrollService.EvaluationMode.PER_POLICY, calendars), policy), reference),
+                new Engine("oop-fused", normalized(new OopPayrollService(OopPayrollService.EvaluationMode.FUSED, calendars), policy), reference));
+    }
+
+    private static PayrollService normalized(PayrollService engine, OverlapPolicy policy) {
+        return new NormalizingPayrollService(engine, policy);
+    }
+
+    private static long mix(long index) {
+        long z = index * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        return z ^ (z >>> 31);
+    }
+
+    private record Field(String name, Function<PayrollResponse, Object> value) {
+    }
+
+    private record Engine(String name, PayrollService service, PayrollService reference) {
+    }
+
+    private record Divergence(Engine engine, int index, Case generated) {
+    }
+
+    /**
+     * 계산 결과 또는 예외 메시지
+     */
+    private record Outcome(PayrollResponse response, String error) {
+
+        static Outcome of(PayrollService service, PayrollRequest request) {
+            try {
+                return new Outcome(service.calculate(request), null);
+            } catch (RuntimeException e) {
+                return new Outcome(null, e.getClass().getSimpleName() + ": " + e.getMessage());
+            }
+        }
+
+        Object value(String field) {
+            if (response == null) {
+                return error;
+            }
+            return FIELDS.stream()
+                    .filter(candidate -> candidate.name().equals(field))
+                    .map(candidate -> candidate.value().apply(response))
+                    .findFirst()
+                    .orElse(error);
+        }
+    }
+
+    /**
+     * 생성된 요청 - 구간은 월 시작부터의 시간 오프셋 [시작, 종료)
+     */
+    private record Case(int year, int month, int wage, List<int[]> intervals) {
+
+        Case withIntervals(List<int[]> replaced) {
+            return new Case(year, month, wage, replaced);
+        }
+
+        PayrollRequest toRequest() {
+            List<WorkRecordRequest> records = new ArrayList<>(intervals.size());
+            for (int[] interval : intervals) {
+                WorkRecordRequest record = new WorkRecordRequest();
+                record.setStartDay(interval[0] / HOURS_PER_DAY + 1);
+                record.setStartHour(interval[0] % HOURS_PER_DAY);
+                record.setEndDay(interval[1] / HOURS_PER_DAY + 1);
+                record.setEndHour(interval[1] % HOURS_PER_DAY);
+                records.add(record);
+            }
+            PayrollRequest request = new PayrollRequest();
+            request.setRecords(records);
+            request.setWage(wage);
+            request.setYear(year);
+            request.setMonth(month);
+            return request;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder description = new StringBuilder()
+                    .append(year).append('-').append(month).append(" wage=").append(wage).append(" records=[");
+            for (int i = 0; i < intervals.size(); i++) {
+                int[] interval = intervals.get(i);
+                description.append(i == 0 ? "" : ", ")
+                        .append(interval[0] / HOURS_PER_DAY + 1).append("일 ").append(interval[0] % HOURS_PER_DAY).append("시 ~ ")
+                        .append(interval[1] / HOURS_PER_DAY + 1).append("일 ").append(interval[1] % HOURS_PER_DAY).append("시");
+            }
+            return description.append(']').toString();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.payroll.calculator.service;
+
+import com.payroll.calculator.exception.PayrollException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PayrollEngineRouterTest {
+
+    private final PayrollService map = new PayrollServiceImpl();
+    private final PayrollService interval = new PayrollServiceIntervalImpl();
+
+    @Test
+    @DisplayName("헤더가 없으면 기본 엔진, 있으면 해당 엔진")
+    void route() {
+        // given
+        PayrollEngineRouter router = new PayrollEngineRouter(engines(), "map");
+
+        // when & then
+        assertThat(router.route(null)).isSameAs(map);
+        assertThat(router.route(" ")).isSameAs(map);
+        assertThat(router.route("interval")).isSameAs(interval);
+    }
+
+    @Test
+    @DisplayName("알 수 없는 엔진 헤더는 사용 가능한 엔진을 알려주는 400")
+    void route_unknownEngine() {
+        // given
+        PayrollEngineRouter router = new PayrollEngineRouter(engines(), "map");
+
+        // when & then
+        assertThatThrownBy(() -> router.route("fastest"))
+                .isInstanceOf(PayrollException.class)
+                .hasMessage("알 수 없는 계산 엔진입니다: fastest (사용 가능: map, interval)")
+                .extracting("status").isEqualTo(400);
+    }
+
+    @Test
+    @DisplayName("설정된 기본 엔진이 없으면 엔진 목록 생성 실패")
+    void registry_unknownDefaultEngine() {
+        // when & then
+        assertThatThrownBy(() -> new PayrollEngineRegistry(engines(), "fastest"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("fastest");
+    }
+
+    private Map<String, PayrollService> engines() {
+        Map<String, PayrollService> engines = new LinkedHashMap<>();
+        engines.put("map", map);
+        engines.put("interval", interval);
+        return engines;
+    }
+}
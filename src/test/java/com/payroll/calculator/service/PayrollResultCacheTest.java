@@ -0,0 +1,156 @@
+package com.payroll.calculator.service;
+
+import com.payroll.calculator.dto.PackedPayrollRequest;
+import com.payroll.calculator.dto.PayrollRequest;
+import com.payroll.calculator.dto.PayrollResponse;
+import com.payroll.calculator.dto.WorkRecordRequest;
+import com.payroll.calculator.exception.PayrollException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PayrollResultCacheTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger calls = new AtomicInteger();
+    private final PayrollService engine = new PayrollServicePrimitiveImpl();
+
+    @Test
+    @DisplayName("기록 순서만 다른 동일 요청은 계산 없이 캐시 적중")
+    void get_differentOrder_hit() {
+        // given
+        PayrollResultCache cache = new PayrollResultCache(10, Duration.ofMinutes(1), clock::get);
+        PackedPayrollRequest first = createRequest(10000, 2025, 1,
+                createWorkRecord(6, 9, 6, 18), createWorkRecord(7, 9, 7, 18));
+        PackedPayrollRequest reordered = createRequest(10000, 2025, 1,
+                createWorkRecord(7, 9, 7, 18), createWorkRecord(6, 9, 6, 18));
+
+        // when
+        PayrollResponse expected = cache.get(first, this::countingCalculate);
+        PayrollResponse cached = cache.get(reordered, this::countingCalculate);
+
+        // then
+        assertThat(cached).isEqualTo(expected);
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(cache.stats().hits()).isEqualTo(1);
+        assertThat(cache.stats().misses()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("반환된 결과를 수정해도 캐시된 결과는 바뀌지 않는다")
+    void get_mutateReturned_cacheUnchanged() {
+        // given
+        PayrollResultCache cache = new PayrollResultCache(10, Duration.ofMinutes(1), clock::get);
+        PackedPayrollRequest request = createRequest(10000, 2025, 1, createWorkRecord(6, 9, 6, 18));
+        PayrollResponse first = cache.get(request, this::countingCalculate);
+        long totalPay = first.getTotalPay();
+
+        // when
+        first.setTotalPay(0);
+        PayrollResponse second = cache.get(request, this::countingCalculate);
+        second.setTotalPay(1);
+        PayrollResponse third = cache.get(request, this::countingCalculate);
+
+        // then
+        assertThat(third.getTotalPay()).isEqualTo(totalPay);
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("시급/월이 다르면 다른 키")
+    void get_differentWage_miss() {
+        // given
+        PayrollResultCache cache = new PayrollResultCache(10, Duration.ofMinutes(1), clock::get);
+
+        // when
+        cache.get(createRequest(10000, 2025, 1, createWorkRecord(6, 9, 6, 18)), this::countingCalculate);
+        cache.get(createRequest(10030, 2025, 1, createWorkRecord(6, 9, 6, 18)), this::countingCalculate);
+        cache.get(createRequest(10000, 2025, 2, createWorkRecord(6, 9, 6, 18)), this::countingCalculate);
+
+        // then
+        assertThat(calls.get()).isEqualTo(3);
+        assertThat(cache.stats().size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("TTL 이 지나면 다시 계산")
+    void get_expired_recalculates() {
+        // given
+        PayrollResultCache cache = new PayrollResultCache(10, Duration.ofSeconds(10), clock::get);
+        PackedPayrollRequest request = createRequest(10000, 2025, 1, createWorkRecord(6, 9, 6, 18));
+        cache.get(request, this::countingCalculate);
+
+        // when
+        clock.addAndGet(Duration.ofSeconds(11).toNanos());
+        cache.get(request, this::countingCalculate);
+
+        // then
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(cache.stats().expirations()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 조회되지 않은 결과부터 제거")
+    void get_overMaxSize_evictsLeastRecentlyUsed() {
+        // given
+        PayrollResultCache cache = new PayrollResultCache(2, Duration.ofMinutes(1), clock::get);
+        PackedPayrollRequest a = createRequest(10000, 2025, 1, createWorkRecord(6, 9, 6, 18));
+        PackedPayrollRequest b = createRequest(10000, 2025, 1, createWorkRecord(7, 9, 7, 18));
+        PackedPayrollRequest c = createRequest(10000, 2025, 1, createWorkRecord(8, 9, 8, 18));
+
+        // when - a 를 다시 조회해 b 가 가장 오래된 항목이 된다
+        cache.get(a, this::countingCalculate);
+        cache.get(b, this::countingCalculate);
+        cache.get(a, this::countingCalculate);
+        cache.get(c, this::countingCalculate);
+        cache.get(a, this::countingCalculate);
+        cache.get(b, this::countingCalculate);
+
+        // then
+        assertThat(calls.get()).isEqualTo(4);
+        assertThat(cache.stats().evictions()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("계산 중 예외가 난 요청은 저장하지 않는다")
+    void get_exception_notCached() {
+        // given
+        PayrollResultCache cache = new PayrollResultCache(10, Duration.ofMinutes(1), clock::get);
+        PackedPayrollRequest invalid = createRequest(10000, 2025, 2, createWorkRecord(28, 9, 30, 9));
+
+        // when & then
+        assertThatThrownBy(() -> cache.get(invalid, this::countingCalculate))
+                .isInstanceOf(PayrollException.class);
+        assertThat(cache.stats().size()).isZero();
+    }
+
+    private PayrollResponse countingCalculate(PackedPayrollRequest request) {
+        calls.incrementAndGet();
+        return engine.calculate(request);
+    }
+
+    private PackedPayrollRequest createRequest(int wage, int year, int month, WorkRecordRequest... records) {
+        PayrollRequest request = new PayrollRequest();
+        request.setRecords(List.of(records));
+        request.setWage(wage);
+        request.setYear(year);
+        request.setMonth(month);
+        return PackedPayrollRequest.from(request);
+    }
+
+    private WorkRecordRequest createWorkRecord(int startDay, int startHour, int endDay, int endHour) {
+        WorkRecordRequest record = new WorkRecordRequest();
+        record.setStartDay(startDay);
+        record.setStartHour(startHour);
+        record.setEndDay(endDay);
+        record.setEndHour(endHour);
+        return record;
+    }
+}
@@ -0,0 +1,124 @@
+package com.payroll.calculator.service;
+
+import com.payroll.calculator.calendar.MonthCalendarCache;
+import com.payroll.calculator.dto.PayrollRequest;
+import com.payroll.calculator.dto.PayrollResponse;
+import com.payroll.calculator.dto.WorkRecordRequest;
+import com.payroll.calculator.money.PayRates;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PayrollServiceBitsetImplTest {
+
+    private final PayrollService payrollService = new PayrollServiceBitsetImpl();
+
+    @Test
+    @DisplayName("워드 경계를 걸치는 구간 채우기와 popcount")
+    void fillAndCount_acrossWords() {
+        long[] bits = new long[12];
+
+        PayrollServiceBitsetImpl.fill(bits, 60, 200);  // 워드 0 ~ 3
+        PayrollServiceBitsetImpl.fill(bits, 704, 744); // 마지막 워드 끝까지
+
+        assertThat(PayrollServiceBitsetImpl.count(bits, 0, 744)).isEqualTo(140 + 40);
+        assertThat(PayrollServiceBitsetImpl.count(bits, 64, 128)).isEqualTo(64);
+        assertThat(PayrollServiceBitsetImpl.count(bits, 190, 710)).isEqualTo(10 + 6);
+        assertThat(PayrollServiceBitsetImpl.count(bits, 59, 61)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("3일 연속 근무 (금~월) - 날짜별 분리 계산")
+    void calculate_3days_continuous() {
+        // given: 2025년 1월 10일(금) 22시 ~ 13일(월) 06시
+        PayrollRequest request = createRequest(10000, 2025, 1,
+                createWorkRecord(10, 22, 13, 6));
+
+        // when
+        PayrollResponse response = payrollService.calculate(request);
+
+        // then
+        assertThat(response.getTotalWorkHours()).isEqualTo(56.0);
+        assertThat(response.getNightHours()).isEqualTo(24.0);
+        assertThat(response.getHolidayHours()).isEqualTo(24.0);
+        assertThat(response.getOvertimeHours()).isEqualTo(32.0);
+    }
+
+    @Test
+    @DisplayName("겹치는 근무 기록은 한 번만 집계")
+    void calculate_overlappingRecords() {
+        // given: 9~18시와 12~20시 → 9~20시 11시간
+        PayrollRequest request = createRequest(10000, 2025, 1,
+                createWorkRecord(2, 9, 2, 18),
+                createWorkRecord(2, 12, 2, 20));
+
+        // when
+        PayrollResponse response = payrollService.calculate(request);
+
+        // then
+        assertThat(response.getTotalWorkHours()).isEqualTo(11.0);
+        assertThat(response.getOvertimeHours()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("COUNT 정책 - 겹친 시간은 겹친 횟수만큼 집계하고 이전 계산의 층은 남지 않는다")
+    void calculate_countPolicy_stacksOverlaps() {
+        // given: 9~18시, 12~20시, 12~20시 → 9 + 8 + 8 = 25시간 (2일 하루)
+        PayrollService counting = new PayrollServiceBitsetImpl(MonthCalendarCache.shared(), PayRates.standard(), OverlapPolicy.COUNT);
+        PayrollRequest overlapping = createRequest(10000, 2025, 1,
+                createWorkRecord(2, 9, 2, 18),
+                createWorkRecord(2, 12, 2, 20),
+                createWorkRecord(2, 12, 2, 20));
+        PayrollRequest single = createRequest(10000, 2025, 1,
+                createWorkRecord(2, 9, 2, 18));
+
+        // when
+        PayrollResponse response = counting.calculate(overlapping);
+        PayrollResponse next = counting.calculate(single);
+
+        // then
+        assertThat(response.getTotalWorkHours()).isEqualTo(25.0);
+        assertThat(response.getOvertimeHours()).isEqualTo(17.0);
+        assertThat(next.getTotalWorkHours()).isEqualTo(9.0);
+        assertThat(next.getOvertimeHours()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("주 45시간 근무 - 주휴수당 최대 8시간분")
+    void calculate_weeklyHoliday_max() {
+        // given: 2025년 1월 1일(수) ~ 5일(일) 매일 9시간
+        PayrollRequest request = createRequest(10000, 2025, 1,
+                createWorkRecord(1, 9, 1, 18),
+                createWorkRecord(2, 9, 2, 18),
+                createWorkRecord(3, 9, 3, 18),
+                createWorkRecord(4, 9, 4, 18),
+                createWorkRecord(5, 9, 5, 18));
+
+        // when
+        PayrollResponse response = payrollService.calculate(request);
+
+        // then
+        assertThat(response.getWeeklyHolidayPay()).isEqualTo(80000);
+    }
+
+    private PayrollRequest createRequest(int wage, int year, int month, WorkRecordRequest... records) {
+        PayrollRequest request = new PayrollRequest();
+        request.setRecords(List.of(records));
+        request.setWage(wage);
+        request.setYear(year);
+        request.setMonth(month);
+        return request;
+    }
+
+    private WorkRecordRequest createWorkRecord(int startDay, int startHour, int endDay, int endHour) {
+        WorkRecordRequest record = new WorkRecordRequest();
+        record.setStartDay(startDay);
+        record.setStartHour(startHour);
+        record.setEndDay(endDay);
+        record.setEndHour(endHour);
+        return record;
+    }
+}
@@ -0,0 +1,53 @@
+package com.payroll.calculator.service;
+
+import com.payroll.calculator.dto.PayrollRequest;
+import com.payroll.calculator.dto.PayrollResponse;
+import com.payroll.calculator.dto.WorkRecordRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PayrollServiceImplTest {
+
+    private final PayrollService payrollService = new PayrollServiceImpl();
+
+    @Test
+    @DisplayName("주휴수당 주차는 월요일 시작 - 수요일에 시작하는 달의 첫 주는 1일 ~ 5일")
+    void calculate_weeklyHoliday_mondayBasedWeeks() {
+        // given: 2025년 1월 1일(수) ~ 3일(금) 각 8시간, 6일(월) 8시간
+        PayrollRequest request = createRequest(10000, 2025, 1,
+                createWorkRecord(1, 9, 1, 17),
+                createWorkRecord(2, 9, 2, 17),
+                createWorkRecord(3, 9, 3, 17),
+                createWorkRecord(6, 9, 6, 17));
+
+        // when
+        PayrollResponse response = payrollService.calculate(request);
+
+        // then: 1주차 24시간 → 24 × 8 × 10,000 / 40, 2주차 8시간은 15시간 미만
+        //       (1일부터 7일씩 끊으면 32시간 → 64,000원)
+        assertThat(response.getWeeklyHolidayPay()).isEqualTo(48000);
+        assertThat(response.getTotalPay()).isEqualTo(320000 + 48000);
+    }
+
+    private PayrollRequest createRequest(int wage, int year, int month, WorkRecordRequest... records) {
+        PayrollRequest request = new PayrollRequest();
+        request.setRecords(List.of(records));
+        request.setWage(wage);
+        request.setYear(year);
+        request.setMonth(month);
+        return request;
+    }
+
+    private WorkRecordRequest createWorkRecord(int startDay, int startHour, int endDay, int endHour) {
+        WorkRecordRequest record = new WorkRecordRequest();
+        record.setStartDay(startDay);
+        record.setStartHour(startHour);
+        record.setEndDay(endDay);
+        record.setEndHour(endHour);
+        return record;
+    }
+}
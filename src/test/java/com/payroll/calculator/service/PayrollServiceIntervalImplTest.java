@@ -0,0 +1,153 @@
+package com.payroll.calculator.service;
+
+import com.payroll.calculator.dto.PayrollRequest;
+import com.payroll.calculator.dto.PayrollResponse;
+import com.payroll.calculator.dto.WorkRecordRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PayrollServiceIntervalImplTest {
+
+    private final PayrollService payrollService = new PayrollServiceIntervalImpl();
+
+    @Test
+    @DisplayName("월 전체 단일 기록 - 날짜 수와 무관하게 닫힌 식으로 계산")
+    void calculate_monthSpanning() {
+        // given: 2025년 1월 1일 00시 ~ 31일 00시 (30일 * 24시간)
+        PayrollRequest request = createRequest(10000, 2025, 1,
+                createWorkRecord(1, 0, 31, 0));
+
+        // when
+        PayrollResponse response = payrollService.calculate(request);
+
+        // then: 일요일 4일(5, 12, 19, 26일)
+        assertThat(response.getTotalWorkHours()).isEqualTo(720.0);
+        assertThat(response.getNightHours()).isEqualTo(30 * 8.0);
+        assertThat(response.getOvertimeHours()).isEqualTo(30 * 16.0);
+        assertThat(response.getHolidayHours()).isEqualTo(4 * 24.0);
+    }
+
+    @Test
+    @DisplayName("순서가 섞이고 겹친 기록은 정렬/병합 후 계산")
+    void calculate_unsortedOverlapping() {
+        // given: 18~23시, 9~13시, 12~15시 → 9~15시(6시간) + 18~23시(5시간)
+        PayrollRequest request = createRequest(10000, 2025, 1,
+                createWorkRecord(15, 18, 15, 23),
+                createWorkRecord(15, 9, 15, 13),
+                createWorkRecord(15, 12, 15, 15));
+
+        // when
+        PayrollResponse response = payrollService.calculate(request);
+
+        // then
+        assertThat(response.getTotalWorkHours()).isEqualTo(11.0);
+        assertThat(response.getOvertimeHours()).isEqualTo(3.0);
+        assertThat(response.getNightHours()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("주 경계를 걸친 근무는 각 주차에 나눠 집계")
+    void calculate_weekBoundary() {
+        // given: 2025년 1월 5일(일) 14시 ~ 6일(월) 06시 = 일요일 10시간 + 월요일 6시간
+        //        1월 2일(목), 3일(금) 각 5시간
+        PayrollRequest request = createRequest(10000, 2025, 1,
+                createWorkRecord(2, 9, 2, 14),
+                createWorkRecord(3, 9, 3, 14),
+                createWorkRecord(5, 14, 6, 6));
+
+        // when
+        PayrollResponse response = payrollService.calculate(request);
+
+        // then: 1주차 20시간 → (20 / 40) * 8 * 10000, 2주차 6시간 → 없음
+        assertThat(response.getWeeklyHolidayPay()).isEqualTo(40000);
+        assertThat(response.getHolidayHours()).isEqualTo(10.0);
+    }
+
+    @Test
+    @DisplayName("분 단위 기록 - 야간/일별 경계를 분 단위로 나눠 계산")
+    void calculate_minuteResolution() {
+        // given: 2025년 1월 2일(목) 21:30 ~ 3일(금) 07:15 = 9시간 45분, 야간 22~06시 8시간
+        PayrollRequest request = createRequest(10000, 2025, 1,
+                createWorkRecord(2, 21, 30, 3, 7, 15));
+
+        // when
+        PayrollResponse response = payrollService.calculate(request);
+
+        // then: 2일 2시간 30분 + 3일 7시간 15분이라 연장근로 없음
+        assertThat(response.getTotalWorkHours()).isEqualTo(9.75);
+        assertThat(response.getNightHours()).isEqualTo(8.0);
+        assertThat(response.getOvertimeHours()).isEqualTo(0.0);
+        assertThat(response.getBasePay()).isEqualTo(97500L);
+        assertThat(response.getNightPay()).isEqualTo(40000L);
+        assertThat(response.getTotalPay()).isEqualTo(137500L);
+    }
+
+    @Test
+    @DisplayName("분 단위 기록 - 일 8시간/주 40시간 기준도 분 단위로 적용")
+    void calculate_minuteResolution_overtimeAndWeekly() {
+        // given: 2025년 1월 6일(월) ~ 10일(금) 매일 09:00 ~ 17:45 (8시간 45분)
+        PayrollRequest request = createRequest(10000, 2025, 1,
+                createWorkRecord(6, 9, 0, 6, 17, 45),
+                createWorkRecord(7, 9, 0, 7, 17, 45),
+                createWorkRecord(8, 9, 0, 8, 17, 45),
+                createWorkRecord(9, 9, 0, 9, 17, 45),
+                createWorkRecord(10, 9, 0, 10, 17, 45));
+
+        // when
+        PayrollResponse response = payrollService.calculate(request);
+
+        // then: 연장 45분 x 5일, 주 43시간 45분 → 주휴수당 40시간 상한
+        assertThat(response.getTotalWorkHours()).isEqualTo(43.75);
+        assertThat(response.getOvertimeHours()).isEqualTo(3.75);
+        assertThat(response.getBasePay()).isEqualTo(437500L);
+        assertThat(response.getOvertimePay()).isEqualTo(18750L);
+        assertThat(response.getWeeklyHolidayPay()).isEqualTo(80000L);
+    }
+
+    @Test
+    @DisplayName("분 단위 기록 - 월 후반(오프셋이 부호 비트를 쓰는 구간)도 순서대로 병합")
+    void calculate_minuteResolution_lateMonthMerge() {
+        // given: 28일 11:30 ~ 13:20, 27일 09:00 ~ 09:30, 28일 10:10 ~ 12:00
+        PayrollRequest request = createRequest(10000, 2025, 1,
+                createWorkRecord(28, 11, 30, 28, 13, 20),
+                createWorkRecord(27, 9, 0, 27, 9, 30),
+                createWorkRecord(28, 10, 10, 28, 12, 0));
+
+        // when
+        PayrollResponse response = payrollService.calculate(request);
+
+        // then: 28일 10:10 ~ 13:20 (190분) + 30분
+        assertThat(response.getTotalWorkHours()).isEqualTo(220 / 60.0);
+        assertThat(response.getBasePay()).isEqualTo(36666L);
+    }
+
+    private PayrollRequest createRequest(int wage, int year, int month, WorkRecordRequest... records) {
+        PayrollRequest request = new PayrollRequest();
+        request.setRecords(List.of(records));
+        request.setWage(wage);
+        request.setYear(year);
+        request.setMonth(month);
+        return request;
+    }
+
+    private WorkRecordRequest createWorkRecord(int startDay, int startHour, int endDay, int endHour) {
+        WorkRecordRequest record = new WorkRecordRequest();
+        record.setStartDay(startDay);
+        record.setStartHour(startHour);
+        record.setEndDay(endDay);
+        record.setEndHour(endHour);
+        return record;
+    }
+
+    private WorkRecordRequest createWorkRecord(int startDay, int startHour, int startMinute,
+                                               int endDay, int endHour, int endMinute) {
+        WorkRecordRequest record = createWorkRecord(startDay, startHour, endDay, endHour);
+        record.setStartMinute(startMinute);
+        record.setEndMinute(endMinute);
+        return record;
+    }
+}
@@ -0,0 +1,49 @@
+package com.payroll.calculator.service;
+
+import com.payroll.calculator.dto.PayrollRequest;
+import com.payroll.calculator.dto.PayrollResponse;
+import com.payroll.calculator.dto.WorkRecordRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PayrollServiceLegacyImplTest {
+
+    private final PayrollService payrollService = new PayrollServiceLegacyImpl();
+
+    @Test
+    @DisplayName("다음 달 1일 0시에 끝나는 근무 - 말일 근무 시간도 주휴수당 주 시간에 포함")
+    void calculate_endsAtNextMonthMidnight_weeklyHoliday() {
+        // given: 2025년 1월 30일(목) 20시 ~ 2월 1일 0시 = 4 + 24시간
+        PayrollRequest request = createRequest(10000, 2025, 1,
+                createWorkRecord(30, 20, 32, 0));
+
+        // when
+        PayrollResponse response = payrollService.calculate(request);
+
+        // then: 28 × 8 × 10,000 / 40
+        assertThat(response.getTotalWorkHours()).isEqualTo(28.0);
+        assertThat(response.getWeeklyHolidayPay()).isEqualTo(56000);
+    }
+
+    private PayrollRequest createRequest(int wage, int year, int month, WorkRecordRequest... records) {
+        PayrollRequest request = new PayrollRequest();
+        request.setRecords(List.of(records));
+        request.setWage(wage);
+        request.setYear(year);
+        request.setMonth(month);
+        return request;
+    }
+
+    private WorkRecordRequest createWorkRecord(int startDay, int startHour, int endDay, int endHour) {
+        WorkRecordRequest record = new WorkRecordRequest();
+        record.setStartDay(startDay);
+        record.setStartHour(startHour);
+        record.setEndDay(endDay);
+        record.setEndHour(endHour);
+        return record;
+    }
+}
@@ -0,0 +1,153 @@
+package com.payroll.calculator.service;
+
+import com.payroll.calculator.calendar.HolidayCalendar;
+import com.payroll.calculator.calendar.MonthCalendarCache;
+import com.payroll.calculator.dto.PackedPayrollRequest;
+import com.payroll.calculator.dto.PayrollRequest;
+import com.payroll.calculator.dto.PayrollResponse;
+import com.payroll.calculator.dto.WorkRecordRequest;
+import com.payroll.calculator.exception.PayrollException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PayrollServicePrimitiveImplTest {
+
+    private final PayrollService payrollService = new PayrollServicePrimitiveImpl();
+
+    @Test
+    @DisplayName("3일 연속 근무 (금~월) - 날짜별 분리 계산")
+    void calculate_3days_continuous() {
+        // given: 2025년 1월 10일(금) 22시 ~ 13일(월) 06시
+        PayrollRequest request = createRequest(10000, 2025, 1,
+                createWorkRecord(10, 22, 13, 6));
+
+        // when
+        PayrollResponse response = payrollService.calculate(request);
+
+        // then
+        assertThat(response.getTotalWorkHours()).isEqualTo(56.0);
+        assertThat(response.getNightHours()).isEqualTo(24.0);
+        assertThat(response.getHolidayHours()).isEqualTo(24.0);
+        assertThat(response.getOvertimeHours()).isEqualTo(32.0); // 토 16 + 일 16
+        assertThat(response.getHolidayPay()).isEqualTo(8 * 5000 + 16 * 10000);
+    }
+
+    @Test
+    @DisplayName("오프셋 배열 요청 - JSON 요청, 다른 엔진과 같은 결과")
+    void calculate_packedRequest() {
+        // given
+        PayrollRequest request = createRequest(10000, 2025, 1,
+                createWorkRecord(10, 22, 13, 6),
+                createWorkRecord(14, 9, 14, 18));
+        PackedPayrollRequest packed = PackedPayrollRequest.from(request);
+
+        // when
+        PayrollResponse fromPacked = payrollService.calculate(packed);
+        PayrollResponse fromJson = payrollService.calculate(request);
+        PayrollResponse legacy = new PayrollServiceLegacyImpl().calculate(packed);
+
+        // then
+        assertThat(packed.recordCount()).isEqualTo(2);
+        assertThat(packed.start(0)).isEqualTo(9 * 24 + 22);
+        assertThat(packed.end(0)).isEqualTo(12 * 24 + 6);
+        assertThat(fromPacked).usingRecursiveComparison().isEqualTo(fromJson);
+        assertThat(legacy).usingRecursiveComparison().isEqualTo(fromJson);
+    }
+
+    @Test
+    @DisplayName("공휴일 근무 - 휴일 제공자의 날짜도 휴일 가산")
+    void calculate_publicHoliday() {
+        // given: 2025년 1월 1일(수, 신정) 09시 ~ 19시
+        PayrollService service = new PayrollServicePrimitiveImpl(
+                new MonthCalendarCache(12, HolidayCalendar.of(List.of(LocalDate.of(2025, 1, 1)))));
+        PayrollRequest request = createRequest(10000, 2025, 1,
+                createWorkRecord(1, 9, 1, 19));
+
+        // when
+        PayrollResponse response = service.calculate(request);
+
+        // then
+        assertThat(response.getHolidayHours()).isEqualTo(10.0);
+        assertThat(response.getHolidayPay()).isEqualTo(8 * 5000 + 2 * 10000);
+        assertThat(payrollService.calculate(request).getHolidayHours()).isZero();
+    }
+
+    @Test
+    @DisplayName("주차는 월요일 시작 - 일요일과 다음 월요일은 다른 주")
+    void calculate_mondayBasedWeeks() {
+        // given: 2025년 1월 5일(일) 8시간 + 6일(월) 8시간 → 각 주 15시간 미만
+        PayrollRequest request = createRequest(10000, 2025, 1,
+                createWorkRecord(5, 9, 5, 17),
+                createWorkRecord(6, 9, 6, 17));
+
+        // when
+        PayrollResponse response = payrollService.calculate(request);
+
+        // then
+        assertThat(response.getWeeklyHolidayPay()).isZero();
+    }
+
+    @Test
+    @DisplayName("월 길이를 넘는 날짜는 예외")
+    void calculate_invalidDay() {
+        PayrollRequest request = createRequest(10000, 2025, 2,
+                createWorkRecord(28, 22, 29, 6)); // 2025년 2월은 28일까지
+
+        assertThatThrownBy(() -> payrollService.calculate(request))
+                .isInstanceOf(PayrollException.class);
+    }
+
+    @Test
+    @DisplayName("요청당 할당량은 응답 객체 수준으로 일정")
+    void calculate_allocationFree() {
+        // given: 한 달 전체 교대 근무
+        List<WorkRecordRequest> records = new ArrayList<>();
+        for (int day = 1; day < 31; day++) {
+            records.add(createWorkRecord(day, 8, day, 20));
+            records.add(createWorkRecord(day, 20, day + 1, 8));
+        }
+        PayrollRequest request = createRequest(10030, 2025, 1, records.toArray(WorkRecordRequest[]::new));
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < 20_000; i++) {
+            payrollService.calculate(request);
+        }
+
+        // when
+        int iterations = 10_000;
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < iterations; i++) {
+            payrollService.calculate(request);
+        }
+        long perRequest = (threads.getCurrentThreadAllocatedBytes() - before) / iterations;
+
+        // then: 빌더 + 응답 객체 외에 근무 시간에 비례한 할당이 없어야 한다
+        assertThat(perRequest).isLessThan(256);
+    }
+
+    private PayrollRequest createRequest(int wage, int year, int month, WorkRecordRequest... records) {
+        PayrollRequest request = new PayrollRequest();
+        request.setRecords(List.of(records));
+        request.setWage(wage);
+        request.setYear(year);
+        request.setMonth(month);
+        return request;
+    }
+
+    private WorkRecordRequest createWorkRecord(int startDay, int startHour, int endDay, int endHour) {
+        WorkRecordRequest record = new WorkRecordRequest();
+        record.setStartDay(startDay);
+        record.setStartHour(startHour);
+        record.setEndDay(endDay);
+        record.setEndHour(endHour);
+        return record;
+    }
+}
@@ -0,0 +1,67 @@
+package com.payroll.calculator.service;
+
+import com.payroll.calculator.dto.PayrollRequest;
+import com.payroll.calculator.dto.PayrollResponse;
+import com.payroll.calculator.dto.WorkRecordRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PayrollServiceTimelineImplTest {
+
+    private final PayrollService payrollService = new PayrollServiceTimelineImpl();
+
+    @Test
+    @DisplayName("일요일 10시간 근무 - 8시간 초과분은 연장에도 집계되고 휴일은 100% 가산")
+    void calculate_holidayOvertime() {
+        // given: 2025년 1월 5일 = 일요일
+        PayrollRequest request = createRequest(10000, 2025, 1,
+                createWorkRecord(5, 9, 5, 19));
+
+        // when
+        PayrollResponse response = payrollService.calculate(request);
+
+        // then
+        assertThat(response.getOvertimeHours()).isEqualTo(2.0);
+        assertThat(response.getHolidayHours()).isEqualTo(10.0);
+        assertThat(response.getOvertimePay()).isEqualTo(10000);
+        assertThat(response.getHolidayPay()).isEqualTo(60000);
+        assertThat(response.getTotalPay()).isEqualTo(170000);
+    }
+
+    @Test
+    @DisplayName("가산 수당은 시간 합계에 한 번 곱한 뒤 원 미만을 버린다")
+    void calculate_oddWage_truncatesOnce() {
+        // given: 2025년 1월 2일(목) 22시 ~ 3일(금) 03시, 시급 10,001원
+        PayrollRequest request = createRequest(10001, 2025, 1,
+                createWorkRecord(2, 22, 3, 3));
+
+        // when
+        PayrollResponse response = payrollService.calculate(request);
+
+        // then: 5 × 10,001 × 0.5 = 25,002.5 → 25,002 (시간마다 버리면 25,000)
+        assertThat(response.getNightHours()).isEqualTo(5.0);
+        assertThat(response.getNightPay()).isEqualTo(25002);
+    }
+
+    private PayrollRequest createRequest(int wage, int year, int month, WorkRecordRequest... records) {
+        PayrollRequest request = new PayrollRequest();
+        request.setRecords(List.of(records));
+        request.setWage(wage);
+        request.setYear(year);
+        request.setMonth(month);
+        return request;
+    }
+
+    private WorkRecordRequest createWorkRecord(int startDay, int startHour, int endDay, int endHour) {
+        WorkRecordRequest record = new WorkRecordRequest();
+        record.setStartDay(startDay);
+        record.setStartHour(startHour);
+        record.setEndDay(endDay);
+        record.setEndHour(endHour);
+        return record;
+    }
+}
@@ -0,0 +1,187 @@
+package com.payroll.calculator.service;
+
+import com.payroll.calculator.calendar.MonthCalendarCache;
+import com.payroll.calculator.dto.PayrollRequest;
+import com.payroll.calculator.dto.PayrollResponse;
+import com.payroll.calculator.dto.PayrollSessionPatchRequest;
+import com.payroll.calculator.dto.PayrollSessionRequest;
+import com.payroll.calculator.dto.WorkRecordRequest;
+import com.payroll.calculator.exception.PayrollException;
+import com.payroll.calculator.exception.PayrollValidationException;
+import com.payroll.calculator.money.PayRates;
+import com.payroll.calculator.validation.PayrollRequestValidator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PayrollSessionServiceTest {
+
+    private final PayrollService fullRecalculation = new PayrollServiceIntervalImpl(MonthCalendarCache.shared());
+
+    @Test
+    @DisplayName("근무 한 건 수정(삭제 + 추가)은 전체 재계산과 같은 결과")
+    void patch_editOneShift() {
+        // given: 2025년 1월 세션, 15일 근무를 09~18시 → 13~23시로 수정
+        PayrollSessionService service = createService(OverlapPolicy.MERGE);
+        service.put("e1", "2025-01", createRequest(10000,
+                createWorkRecord(2, 9, 2, 18),
+                createWorkRecord(3, 9, 3, 18),
+                createWorkRecord(15, 9, 15, 18)));
+
+        // when
+        PayrollResponse response = service.patch("e1", "2025-01", createPatch(
+                List.of(createWorkRecord(15, 13, 15, 23)),
+                List.of(createWorkRecord(15, 9, 15, 18)),
+                null));
+
+        // then
+        assertThat(response).isEqualTo(fullRecalculation.calculate(createMonthRequest(10000, 2025, 1,
+                createWorkRecord(2, 9, 2, 18),
+                createWorkRecord(3, 9, 3, 18),
+                createWorkRecord(15, 13, 15, 23))));
+        assertThat(service.get("e1", "2025-01")).isEqualTo(response);
+    }
+
+    @Test
+    @DisplayName("임의 순서의 추가/삭제를 누적해도 매 단계 전체 재계산과 같은 결과")
+    void patch_randomEdits() {
+        // given
+        PayrollSessionService service = createService(OverlapPolicy.MERGE);
+        service.put("e1", "2024-02", createRequest(12345));
+        SplittableRandom random = new SplittableRandom(20250101);
+        List<WorkRecordRequest> live = new ArrayList<>();
+
+        for (int step = 0; step < 300; step++) {
+            // when: 1/3 확률로 기존 기록 삭제, 나머지는 겹칠 수 있는 기록 추가
+            PayrollResponse response;
+            if (!live.isEmpty() && random.nextInt(3) == 0) {
+                WorkRecordRequest removed = live.remove(random.nextInt(live.size()));
+                response = service.patch("e1", "2024-02", createPatch(List.of(), List.of(removed), null));
+            } else {
+                int start = random.nextInt(29 * 24);
+                int end = Math.min(29 * 24, start + 1 + random.nextInt(30));
+                WorkRecordRequest added = createWorkRecord(start / 24 + 1, start % 24, end / 24 + 1, end % 24);
+                live.add(added);
+                response = service.patch("e1", "2024-02", createPatch(List.of(added), List.of(), null));
+            }
+
+            // then
+            PayrollResponse expected = live.isEmpty()
+                    ? PayrollResponse.builder().build()
+                    : fullRecalculation.calculate(createMonthRequest(12345, 2024, 2, live.toArray(WorkRecordRequest[]::new)));
+            assertThat(response).as("step %d", step).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("REJECT 정책에서 겹치는 추가는 실패하고 같은 요청의 삭제도 되돌림")
+    void patch_fail_overlapRollsBack() {
+        // given
+        PayrollSessionService service = createService(OverlapPolicy.REJECT);
+        PayrollResponse before = service.put("e1", "2025-01", createRequest(10000,
+                createWorkRecord(2, 9, 2, 18),
+                createWorkRecord(3, 9, 3, 18)));
+
+        // when & then: 2일 기록 삭제 후 3일 기록과 겹치는 추가
+        assertThatThrownBy(() -> service.patch("e1", "2025-01", createPatch(
+                List.of(createWorkRecord(3, 17, 3, 20)),
+                List.of(createWorkRecord(2, 9, 2, 18)),
+                20000)))
+                .isInstanceOf(PayrollValidationException.class)
+                .hasMessage("add[0]: 기존 근무 기록과 근무 시간이 겹칩니다.");
+        assertThat(service.get("e1", "2025-01")).isEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("세션에 없는 기록 삭제는 실패")
+    void patch_fail_unknownRecord() {
+        // given
+        PayrollSessionService service = createService(OverlapPolicy.MERGE);
+        service.put("e1", "2025-01", createRequest(10000, createWorkRecord(2, 9, 2, 18)));
+
+        // when & then
+        assertThatThrownBy(() -> service.patch("e1", "2025-01", createPatch(
+                List.of(), List.of(createWorkRecord(2, 9, 2, 17)), null)))
+                .isInstanceOf(PayrollValidationException.class)
+                .hasMessage("remove[0]: 세션에 없는 근무 기록입니다.");
+    }
+
+    @Test
+    @DisplayName("없거나 TTL 이 지난 세션 수정은 404")
+    void patch_fail_missingOrExpired() {
+        // given
+        AtomicLong now = new AtomicLong();
+        PayrollSessionService service = new PayrollSessionService(MonthCalendarCache.shared(),
+                new PayrollRequestValidator(OverlapPolicy.MERGE), OverlapPolicy.MERGE, PayRates.standard(), 10, Duration.ofMinutes(30), now::get);
+        service.put("e1", "2025-01", createRequest(10000, createWorkRecord(2, 9, 2, 18)));
+        PayrollSessionPatchRequest patch = createPatch(List.of(createWorkRecord(3, 9, 3, 18)), List.of(), null);
+
+        // when
+        now.addAndGet(Duration.ofMinutes(31).toNanos());
+
+        // then
+        assertThatThrownBy(() -> service.patch("e2", "2025-01", patch))
+                .isInstanceOf(PayrollException.class)
+                .hasFieldOrPropertyWithValue("status", 404);
+        assertThatThrownBy(() -> service.patch("e1", "2025-01", patch))
+                .isInstanceOf(PayrollException.class)
+                .hasFieldOrPropertyWithValue("status", 404);
+        assertThat(service.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("기간 형식이 잘못되면 검증 실패")
+    void put_fail_invalidPeriod() {
+        PayrollSessionService service = createService(OverlapPolicy.MERGE);
+
+        assertThatThrownBy(() -> service.put("e1", "2025-1", createRequest(10000)))
+                .isInstanceOf(PayrollValidationException.class)
+                .hasMessage("period: yyyy-MM 형식이어야 합니다.");
+    }
+
+    private PayrollSessionService createService(OverlapPolicy policy) {
+        return new PayrollSessionService(MonthCalendarCache.shared(), new PayrollRequestValidator(policy),
+                policy, 100, Duration.ofMinutes(30));
+    }
+
+    private PayrollSessionRequest createRequest(int wage, WorkRecordRequest... records) {
+        PayrollSessionRequest request = new PayrollSessionRequest();
+        request.setRecords(List.of(records));
+        request.setWage(wage);
+        return request;
+    }
+
+    private PayrollSessionPatchRequest createPatch(List<WorkRecordRequest> add, List<WorkRecordRequest> remove, Integer wage) {
+        PayrollSessionPatchRequest request = new PayrollSessionPatchRequest();
+        request.setAdd(add);
+        request.setRemove(remove);
+        request.setWage(wage);
+        return request;
+    }
+
+    private PayrollRequest createMonthRequest(int wage, int year, int month, WorkRecordRequest... records) {
+        PayrollRequest request = new PayrollRequest();
+        request.setRecords(List.of(records));
+        request.setWage(wage);
+        request.setYear(year);
+        request.setMonth(month);
+        return request;
+    }
+
+    private WorkRecordRequest createWorkRecord(int startDay, int startHour, int endDay, int endHour) {
+        WorkRecordRequest record = new WorkRecordRequest();
+        record.setStartDay(startDay);
+        record.setStartHour(startHour);
+        record.setEndDay(endDay);
+        record.setEndHour(endHour);
+        return record;
+    }
+}
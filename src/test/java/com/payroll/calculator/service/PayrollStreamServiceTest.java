@@ -0,0 +1,74 @@
+package com.payroll.calculator.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.payroll.calculator.config.PayrollBatchProperties;
+import com.payroll.calculator.validation.PayrollRequestValidator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PayrollStreamServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private ExecutorService executor;
+    private PayrollStreamService streamService;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(2);
+        PayrollBatchProperties properties =
+                new PayrollBatchProperties(100, 2, PayrollBatchProperties.ExecutorType.PLATFORM);
+        PayrollBatchService batchService = new PayrollBatchService(
+                new PayrollServiceImpl(),
+                new PayrollRequestValidator(OverlapPolicy.MERGE),
+                executor,
+                properties);
+        streamService = new PayrollStreamService(batchService, executor, objectMapper, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("한 줄 입력마다 한 줄 결과를 입력 순서대로 출력")
+    void calculate_lineByLine() throws Exception {
+        // given: 정상, 빈 줄, 시급 누락, 깨진 JSON, 정상
+        String input = """
+                {"records":[{"startDay":1,"startHour":9,"endDay":1,"endHour":18}],"wage":10000,"year":2025,"month":1}
+
+                {"records":[{"startDay":1,"startHour":9,"endDay":1,"endHour":18}],"year":2025,"month":1}
+                {"records":[
+                {"records":[{"startDay":1,"startHour":9,"endDay":1,"endHour":13}],"wage":10000,"year":2025,"month":1}
+                """;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        int count = streamService.calculate(
+                new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), out);
+
+        // then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(count).isEqualTo(4);
+        assertThat(lines).hasSize(4);
+
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.get("status").asInt()).isEqualTo(200);
+        assertThat(first.get("data").get("totalPay").asLong()).isEqualTo(95000);
+
+        assertThat(objectMapper.readTree(lines[1]).get("status").asInt()).isEqualTo(400);
+        assertThat(objectMapper.readTree(lines[2]).get("status").asInt()).isEqualTo(400);
+        assertThat(objectMapper.readTree(lines[3]).get("data").get("basePay").asLong()).isEqualTo(40000);
+    }
+}
@@ -0,0 +1,102 @@
+package com.payroll.calculator.service;
+
+import com.payroll.calculator.dto.PayrollRequest;
+import com.payroll.calculator.dto.PayrollResponse;
+import com.payroll.calculator.dto.WorkRecordRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ShadowPayrollServiceTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final PayrollRequest request = createRequest(10000, 2025, 1,
+            createWorkRecord(6, 9, 6, 18), createWorkRecord(7, 20, 8, 2));
+
+    @Test
+    @DisplayName("후보 엔진 결과가 같으면 match 를 기록하고 기본 엔진 결과로 응답")
+    void calculate_match() {
+        // given
+        PayrollService shadow = new ShadowPayrollService(new PayrollServiceImpl(),
+                new PayrollServiceIntervalImpl(), "interval", 1.0, Runnable::run, registry);
+
+        // when
+        PayrollResponse response = shadow.calculate(request);
+
+        // then
+        assertThat(response).isEqualTo(new PayrollServiceImpl().calculate(request));
+        assertThat(count("match")).isEqualTo(1.0);
+        assertThat(count("mismatch")).isZero();
+    }
+
+    @Test
+    @DisplayName("후보 엔진 결과가 다르거나 실패하면 mismatch/failure 를 기록")
+    void calculate_mismatchAndFailure() {
+        // given
+        PayrollService different = packed -> PayrollResponse.builder().totalPay(1).build();
+        PayrollService failing = packed -> {
+            throw new IllegalStateException("boom");
+        };
+        PayrollService mismatching = new ShadowPayrollService(new PayrollServiceImpl(),
+                different, "interval", 1.0, Runnable::run, registry);
+        PayrollService failingShadow = new ShadowPayrollService(new PayrollServiceImpl(),
+                failing, "interval", 1.0, Runnable::run, registry);
+
+        // when
+        PayrollResponse response = mismatching.calculate(request);
+        failingShadow.calculate(request);
+
+        // then: 응답은 항상 기본 엔진 결과
+        assertThat(response.getTotalWorkHours()).isEqualTo(15.0);
+        assertThat(count("mismatch")).isEqualTo(1.0);
+        assertThat(count("failure")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("실행기가 거부하면 비교를 건너뛰고 응답은 그대로")
+    void calculate_skippedWhenQueueFull() {
+        // given
+        Executor full = task -> {
+            throw new RejectedExecutionException("queue full");
+        };
+        PayrollService shadow = new ShadowPayrollService(new PayrollServiceImpl(),
+                new PayrollServiceIntervalImpl(), "interval", 1.0, full, registry);
+
+        // when
+        PayrollResponse response = shadow.calculate(request);
+
+        // then
+        assertThat(response.getTotalWorkHours()).isEqualTo(15.0);
+        assertThat(count("skipped")).isEqualTo(1.0);
+        assertThat(count("match")).isZero();
+    }
+
+    private double count(String result) {
+        return registry.get("payroll.shadow.comparisons").tags("candidate", "interval", "result", result)
+                .counter().count();
+    }
+
+    private PayrollRequest createRequest(int wage, int year, int month, WorkRecordRequest... records) {
+        PayrollRequest request = new PayrollRequest();
+        request.setRecords(List.of(records));
+        request.setWage(wage);
+        request.setYear(year);
+        request.setMonth(month);
+        return request;
+    }
+
+    private WorkRecordRequest createWorkRecord(int startDay, int startHour, int endDay, int endHour) {
+        WorkRecordRequest record = new WorkRecordRequest();
+        record.setStartDay(startDay);
+        record.setStartHour(startHour);
+        record.setEndDay(endDay);
+        record.setEndHour(endHour);
+        return record;
+    }
+}
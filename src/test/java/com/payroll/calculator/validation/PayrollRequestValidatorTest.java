@@ -0,0 +1,183 @@
+package com.payroll.calculator.validation;
+
+import com.payroll.calculator.dto.PackedPayrollRequest;
+import com.payroll.calculator.dto.PayrollRequest;
+import com.payroll.calculator.dto.WorkRecordRequest;
+import com.payroll.calculator.exception.PayrollValidationException;
+import com.payroll.calculator.service.OverlapPolicy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PayrollRequestValidatorTest {
+
+    private final PayrollRequestValidator validator = new PayrollRequestValidator(OverlapPolicy.REJECT);
+
+    @Test
+    @DisplayName("정상 요청 - 맞닿은 근무 기록과 월말 24시 종료는 허용")
+    void validate_success() {
+        // given: 2025년 2월, 28일 22시 ~ 3월 1일 0시
+        PayrollRequest request = createRequest(10000, 2025, 2,
+                createWorkRecord(1, 9, 1, 18),
+                createWorkRecord(1, 18, 1, 20),
+                createWorkRecord(28, 22, 29, 0));
+
+        // when & then
+        assertThatCode(() -> validator.validate(request)).doesNotThrowAnyException();
+        assertThatCode(() -> validator.validate(PackedPayrollRequest.from(request))).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("필수 값 누락 - Bean Validation 과 같은 필드 경로와 메시지")
+    void validate_missingField() {
+        // given
+        PayrollRequest noWage = createRequest(null, 2025, 1, createWorkRecord(1, 9, 1, 18));
+        PayrollRequest noEndHour = createRequest(10000, 2025, 1, createWorkRecord(1, 9, 1, null));
+
+        // when & then
+        assertThatThrownBy(() -> validator.validate(noWage))
+                .isInstanceOf(PayrollValidationException.class)
+                .hasMessage("wage: 시급은 필수입니다.");
+        assertThatThrownBy(() -> validator.validate(noEndHour))
+                .isInstanceOf(PayrollValidationException.class)
+                .hasMessage("records[0].endHour: 종료시간은 필수입니다");
+    }
+
+    @Test
+    @DisplayName("해당 월에 없는 날짜 - 2월 30일")
+    void validate_dayOutOfMonth() {
+        // given
+        PayrollRequest request = createRequest(10000, 2025, 2, createWorkRecord(28, 9, 30, 9));
+
+        // when & then
+        assertThatThrownBy(() -> validator.validate(request))
+                .isInstanceOf(PayrollValidationException.class)
+                .hasMessageStartingWith("records[0].endDay: 해당 월에 없는 날짜입니다");
+    }
+
+    @Test
+    @DisplayName("종료가 시작보다 빠르거나 같으면 실패")
+    void validate_endBeforeStart() {
+        // given
+        PayrollRequest request = createRequest(10000, 2025, 1,
+                createWorkRecord(1, 9, 1, 18),
+                createWorkRecord(3, 18, 3, 9));
+
+        // when & then
+        assertThatThrownBy(() -> validator.validate(request))
+                .isInstanceOf(PayrollValidationException.class)
+                .hasMessage("records[1]: 종료 시각은 시작 시각보다 늦어야 합니다.");
+    }
+
+    @Test
+    @DisplayName("겹치는 근무 기록 - 입력 순서와 관계없이 뒤 번호 기록을 보고")
+    void validate_overlap() {
+        // given: 2번 기록이 0번 기록 안에 포함
+        PayrollRequest request = createRequest(10000, 2025, 1,
+                createWorkRecord(5, 8, 5, 20),
+                createWorkRecord(10, 9, 10, 18),
+                createWorkRecord(5, 12, 5, 13));
+
+        // when & then
+        assertThatThrownBy(() -> validator.validate(request))
+                .isInstanceOf(PayrollValidationException.class)
+                .hasMessage("records[2]: records[0] 와 근무 시간이 겹칩니다.");
+        assertThatThrownBy(() -> validator.validate(PackedPayrollRequest.from(request)))
+                .isInstanceOf(PayrollValidationException.class)
+                .hasMessage("records[2]: records[0] 와 근무 시간이 겹칩니다.");
+    }
+
+    @Test
+    @DisplayName("겹침 정책이 MERGE 면 겹치는 근무 기록도 통과 (계산 전에 병합)")
+    void validate_overlapAllowedWhenMerging() {
+        // given
+        PayrollRequestValidator merging = new PayrollRequestValidator(OverlapPolicy.MERGE);
+        PayrollRequest request = createRequest(10000, 2025, 1,
+                createWorkRecord(5, 8, 5, 20),
+                createWorkRecord(5, 12, 5, 13));
+
+        // when & then
+        assertThatCode(() -> merging.validate(request)).doesNotThrowAnyException();
+        assertThatCode(() -> merging.validate(PackedPayrollRequest.from(request))).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("근무 기록 수천 건도 한 번의 정렬로 검증")
+    void validate_largeRequest() {
+        // given: 31일 x 하루 24개의 1시간 근무
+        List<WorkRecordRequest> records = new ArrayList<>();
+        for (int day = 1; day <= 31; day++) {
+            for (int hour = 0; hour < 24; hour++) {
+                records.add(createWorkRecord(day, hour, hour == 23 ? day + 1 : day, (hour + 1) % 24));
+            }
+        }
+        records.remove(records.size() - 1);
+        PayrollRequest request = createRequest(10000, 2025, 1, records.toArray(WorkRecordRequest[]::new));
+
+        // when & then
+        assertThatCode(() -> validator.validate(request)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("분 단위 기록 - 같은 시 안의 근무는 통과, 시작/종료 비교와 범위는 분 단위")
+    void validate_minutes() {
+        // given
+        PayrollRequest sameHour = createRequest(10000, 2025, 1, createWorkRecord(2, 9, 10, 2, 9, 50));
+        PayrollRequest reversed = createRequest(10000, 2025, 1, createWorkRecord(2, 9, 50, 2, 9, 10));
+        PayrollRequest outOfRange = createRequest(10000, 2025, 1, createWorkRecord(2, 9, 0, 2, 18, 60));
+
+        // when & then
+        assertThatCode(() -> validator.validate(sameHour)).doesNotThrowAnyException();
+        assertThatThrownBy(() -> validator.validate(reversed))
+                .isInstanceOf(PayrollValidationException.class)
+                .hasMessage("records[0]: 종료 시각은 시작 시각보다 늦어야 합니다.");
+        assertThatThrownBy(() -> validator.validate(outOfRange))
+                .isInstanceOf(PayrollValidationException.class)
+                .hasMessage("records[0].endMinute: 0 이상 59 이하여야 합니다.");
+    }
+
+    @Test
+    @DisplayName("시간 단위로만 받는 기록 목록(급여 세션)은 0이 아닌 분을 거부")
+    void checkRecords_rejectsMinutes() {
+        // given
+        List<WorkRecordRequest> records = List.of(
+                createWorkRecord(2, 9, 0, 2, 18, 0),
+                createWorkRecord(3, 9, 30, 3, 18, 0));
+
+        // when & then
+        assertThatThrownBy(() -> validator.checkRecords("add", records, 2025, 1))
+                .isInstanceOf(PayrollValidationException.class)
+                .hasMessage("add[1].startMinute: 분 단위 기록은 지원하지 않습니다.");
+    }
+
+    private PayrollRequest createRequest(Integer wage, int year, int month, WorkRecordRequest... records) {
+        PayrollRequest request = new PayrollRequest();
+        request.setRecords(List.of(records));
+        request.setWage(wage);
+        request.setYear(year);
+        request.setMonth(month);
+        return request;
+    }
+
+    private WorkRecordRequest createWorkRecord(int startDay, int startHour, int endDay, Integer endHour) {
+        WorkRecordRequest record = new WorkRecordRequest();
+        record.setStartDay(startDay);
+        record.setStartHour(startHour);
+        record.setEndDay(endDay);
+        record.setEndHour(endHour);
+        return record;
+    }
+
+    private WorkRecordRequest createWorkRecord(int startDay, int startHour, int startMinute,
+                                               int endDay, int endHour, int endMinute) {
+        WorkRecordRequest record = createWorkRecord(startDay, startHour, endDay, endHour);
+        record.setStartMinute(startMinute);
+        record.setEndMinute(endMinute);
+        return record;
+    }
+}